@@ -0,0 +1,98 @@
+#!/usr/bin/env bash
+#
+# JVM 빌드 vs GraalVM 네이티브 빌드 비교 스크립트
+#
+# 미검증: 네이티브 이미지를 빌드할 수 있는 환경에서 실행해 본 적이 없습니다. (측정 루프는 가짜 실행 파일로만 확인)
+#
+# 각 빌드에 대해 다음을 측정합니다.
+#   - 기동 시간: 첫 /api/recommend 성공까지 (scripts/measure-startup.sh)
+#   - RSS: 기동 직후 및 부하 이후 상주 메모리 (/proc/<pid>/status VmRSS)
+#   - 처리량: 워밍업 후 DURATION 초 동안 CONCURRENCY 개 워커의 초당 요청 수
+#
+# 사용법 (빌드 선행):
+#   mvn clean package -DskipTests && mvn -Pnative native:compile -DskipTests
+#   scripts/compare-native.sh
+#
+# 환경 변수:
+#   JVM_CMD      JVM 실행 명령 (기본: java -jar target/cat-food-recommend-1.0.0.jar)
+#   NATIVE_CMD   네이티브 실행 명령 (기본: target/cat-food-recommend)
+#   PORT         측정 포트 (기본 18080)
+#   RUNS         기동 시간 반복 횟수 (기본 5)
+#   WARMUP       처리량 측정 전 워밍업 시간(초) (기본 10)
+#   DURATION     처리량 측정 시간(초) (기본 20)
+#   CONCURRENCY  동시 워커 수 (기본 8)
+#   TIMEOUT      처리량 측정용 기동 최대 대기 시간(초) (기본 60)
+
+set -euo pipefail
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+JVM_CMD="${JVM_CMD:-java -jar target/cat-food-recommend-1.0.0.jar}"
+NATIVE_CMD="${NATIVE_CMD:-target/cat-food-recommend}"
+PORT="${PORT:-18080}"
+WARMUP="${WARMUP:-10}"
+DURATION="${DURATION:-20}"
+CONCURRENCY="${CONCURRENCY:-8}"
+TIMEOUT="${TIMEOUT:-60}"
+URL="http://localhost:${PORT}/api/recommend"
+BODY='{"weightKg":4.0,"ageMonths":36,"gender":"MALE","neutered":true,"monthlyBudget":200000}'
+
+rss_kb() {
+    awk '/VmRSS/ { print $2 }' "/proc/$1/status"
+}
+
+# DURATION 초 동안 요청을 반복하고 성공 건수를 출력
+drive_load() {
+    local seconds=$1 deadline worker
+    deadline=$(( $(date +%s) + seconds ))
+    for worker in $(seq 1 "${CONCURRENCY}"); do
+        (
+            count=0
+            while [ "$(date +%s)" -lt "${deadline}" ]; do
+                curl -sf -o /dev/null -X POST "${URL}" \
+                        -H 'Content-Type: application/json' -d "${BODY}" && count=$(( count + 1 ))
+            done
+            echo "${count}"
+        ) &
+    done | awk '{ sum += $1 } END { print sum }'
+}
+
+measure_build() {
+    local label=$1 cmd=$2 pid total deadline
+    echo "===== ${label} ====="
+    # shellcheck disable=SC2086
+    PORT="${PORT}" "${SCRIPT_DIR}/measure-startup.sh" ${cmd} | tail -1
+
+    # shellcheck disable=SC2086
+    ${cmd} --server.port="${PORT}" > /dev/null 2>&1 &
+    pid=$!
+    deadline=$(( $(date +%s) + TIMEOUT ))
+    until curl -sf -o /dev/null -X POST "${URL}" -H 'Content-Type: application/json' -d "${BODY}"; do
+        if ! kill -0 "${pid}" 2> /dev/null; then
+            echo "${label}: 프로세스가 비정상 종료되었습니다." >&2
+            return 1
+        fi
+        if [ "$(date +%s)" -ge "${deadline}" ]; then
+            echo "${label}: ${TIMEOUT}초 내에 응답이 없습니다." >&2
+            kill "${pid}" 2> /dev/null || true
+            wait "${pid}" 2> /dev/null || true
+            return 1
+        fi
+        sleep 0.1
+    done
+    echo "기동 직후 RSS: $(( $(rss_kb "${pid}") / 1024 )) MB"
+
+    drive_load "${WARMUP}" > /dev/null
+    total=$(drive_load "${DURATION}")
+    echo "처리량: $(( total / DURATION )) req/s (동시 ${CONCURRENCY}, ${DURATION}초)"
+    echo "부하 이후 RSS: $(( $(rss_kb "${pid}") / 1024 )) MB"
+
+    kill "${pid}" 2> /dev/null || true
+    wait "${pid}" 2> /dev/null || true
+}
+
+measure_build "JVM" "${JVM_CMD}"
+if [ -x "${NATIVE_CMD%% *}" ]; then
+    measure_build "Native" "${NATIVE_CMD}"
+else
+    echo "네이티브 실행 파일(${NATIVE_CMD%% *})이 없습니다. mvn -Pnative native:compile 을 먼저 실행하세요." >&2
+fi
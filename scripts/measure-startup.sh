@@ -0,0 +1,77 @@
+#!/usr/bin/env bash
+#
+# 기동 시간 측정 스크립트
+#
+# 프로세스 실행 시점부터 /api/recommend 가 처음으로 200 을 반환할 때까지의 시간을 측정합니다.
+#
+# 사용법:
+#   scripts/measure-startup.sh                                   # 기본: java -jar target/cat-food-recommend-1.0.0.jar
+#   scripts/measure-startup.sh java -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true -jar app.jar
+#
+# 환경 변수:
+#   PORT     측정에 사용할 포트 (기본 18080)
+#   RUNS     반복 측정 횟수 (기본 5)
+#   TIMEOUT  1회 측정 최대 대기 시간(초) (기본 60)
+
+set -euo pipefail
+
+PORT="${PORT:-18080}"
+RUNS="${RUNS:-5}"
+TIMEOUT="${TIMEOUT:-60}"
+URL="http://localhost:${PORT}/api/recommend"
+BODY='{"weightKg":4.0,"ageMonths":36,"gender":"MALE","neutered":true,"monthlyBudget":200000}'
+
+if [ "$#" -gt 0 ]; then
+    CMD=("$@")
+else
+    CMD=(java -jar target/cat-food-recommend-1.0.0.jar)
+fi
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+measure_once() {
+    local start pid elapsed code
+    start=$(now_ms)
+    "${CMD[@]}" --server.port="${PORT}" > /dev/null 2>&1 &
+    pid=$!
+
+    while true; do
+        code=$(curl -s -o /dev/null -w '%{http_code}' -X POST "${URL}" \
+                -H 'Content-Type: application/json' -d "${BODY}" || true)
+        elapsed=$(( $(now_ms) - start ))
+        if [ "${code}" = "200" ]; then
+            break
+        fi
+        if ! kill -0 "${pid}" 2> /dev/null; then
+            echo "프로세스가 비정상 종료되었습니다." >&2
+            return 1
+        fi
+        if [ "${elapsed}" -gt $(( TIMEOUT * 1000 )) ]; then
+            echo "${TIMEOUT}초 내에 응답이 없습니다." >&2
+            kill "${pid}" 2> /dev/null || true
+            return 1
+        fi
+        sleep 0.02
+    done
+
+    kill "${pid}" 2> /dev/null || true
+    wait "${pid}" 2> /dev/null || true
+    echo "${elapsed}"
+}
+
+echo "명령: ${CMD[*]}"
+results=()
+for i in $(seq 1 "${RUNS}"); do
+    ms=$(measure_once)
+    results+=("${ms}")
+    echo "  ${i}회차: 첫 /api/recommend 성공까지 ${ms} ms"
+done
+
+sorted=($(printf '%s\n' "${results[@]}" | sort -n))
+sum=0
+for ms in "${results[@]}"; do
+    sum=$(( sum + ms ))
+done
+echo "최소 ${sorted[0]} ms / 중앙값 ${sorted[$(( RUNS / 2 ))]} ms / 평균 $(( sum / RUNS )) ms / 최대 ${sorted[$(( RUNS - 1 ))]} ms"
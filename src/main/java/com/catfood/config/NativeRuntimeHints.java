@@ -0,0 +1,90 @@
+package com.catfood.config;
+
+import com.catfood.dto.CatFoodAssignment;
+import com.catfood.dto.CatFoodSummary;
+import com.catfood.dto.CatalogColumns;
+import com.catfood.dto.CatalogSnapshot;
+import com.catfood.dto.CatProfile;
+import com.catfood.dto.CostProjectionRequest;
+import com.catfood.dto.CostProjectionResponse;
+import com.catfood.dto.FoodCostProjection;
+import com.catfood.dto.FoodRecommendation;
+import com.catfood.dto.FoodSearchRequest;
+import com.catfood.dto.FoodSearchResponse;
+import com.catfood.dto.HouseholdRecommendRequest;
+import com.catfood.dto.HouseholdRecommendResponse;
+import com.catfood.dto.MealPlanRequest;
+import com.catfood.dto.MealPlanResponse;
+import com.catfood.dto.MealPlanStep;
+import com.catfood.dto.MonthlyCostPoint;
+import com.catfood.dto.PriceUpdate;
+import com.catfood.dto.PriceUpdateRequest;
+import com.catfood.dto.ReasonRule;
+import com.catfood.dto.RecommendRequest;
+import com.catfood.dto.RecommendResponse;
+import com.catfood.dto.ScoringPolicyDefinition;
+import com.catfood.dto.SnapshotParameters;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * GraalVM native-image 빌드용 런타임 힌트
+ *
+ * - DTO: Jackson 직렬화/역직렬화를 위한 바인딩 리플렉션 힌트
+ * - DTO 필드: Bean Validation(@NotNull, @Min 등) 검증을 위한 필드 리플렉션 힌트
+ * - 점수 정책: 식 컴파일러가 MethodHandle 로 조회하는 ScoringContext 필드·연산자 메서드
+ * - 리소스: Thymeleaf 템플릿, 정적 리소스, 내장 점수 정책
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final Class<?>[] DTO_TYPES = {
+            RecommendRequest.class,
+            RecommendResponse.class,
+            FoodRecommendation.class,
+            HouseholdRecommendRequest.class,
+            HouseholdRecommendResponse.class,
+            CatProfile.class,
+            CatFoodAssignment.class,
+            MealPlanRequest.class,
+            MealPlanResponse.class,
+            MealPlanStep.class,
+            FoodSearchRequest.class,
+            FoodSearchResponse.class,
+            CatFoodSummary.class,
+            PriceUpdateRequest.class,
+            PriceUpdate.class,
+            CostProjectionRequest.class,
+            CostProjectionResponse.class,
+            FoodCostProjection.class,
+            MonthlyCostPoint.class,
+            CatalogSnapshot.class,
+            SnapshotParameters.class,
+            CatalogColumns.class,
+            ScoringPolicyDefinition.class,
+            ReasonRule.class
+    };
+
+    private static final TypeReference SCORING_CONTEXT = TypeReference.of("com.catfood.service.ScoringContext");
+    private static final TypeReference SCORING_COMPILER =
+            TypeReference.of("com.catfood.service.ScoringExpressionCompiler");
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        bindingRegistrar.registerReflectionHints(hints.reflection(), DTO_TYPES);
+        for (Class<?> type : DTO_TYPES) {
+            hints.reflection().registerType(type, MemberCategory.DECLARED_FIELDS);
+        }
+
+        hints.reflection().registerType(SCORING_CONTEXT, MemberCategory.DECLARED_FIELDS);
+        hints.reflection().registerType(SCORING_COMPILER, MemberCategory.INVOKE_DECLARED_METHODS);
+
+        hints.resources().registerPattern("templates/*.html");
+        hints.resources().registerPattern("static/**");
+        hints.resources().registerPattern("scoring-policies.json");
+    }
+}
@@ -1,18 +1,39 @@
 package com.catfood.controller;
 
+import com.catfood.dto.CostProjectionRequest;
+import com.catfood.dto.CostProjectionResponse;
+import com.catfood.dto.FoodSearchRequest;
+import com.catfood.dto.FoodSearchResponse;
+import com.catfood.dto.HouseholdRecommendRequest;
+import com.catfood.dto.HouseholdRecommendResponse;
+import com.catfood.dto.MealPlanRequest;
+import com.catfood.dto.MealPlanResponse;
+import com.catfood.dto.PriceUpdateRequest;
 import com.catfood.dto.RecommendRequest;
 import com.catfood.dto.RecommendResponse;
+import com.catfood.dto.ScoringPolicyDefinition;
 import com.catfood.service.CatFoodRecommendService;
+import com.catfood.service.CatalogSnapshotService;
+import com.catfood.service.FoodSearchService;
+import com.catfood.service.HouseholdRecommendService;
+import com.catfood.service.MealPlanService;
+import com.catfood.service.PriceProjectionService;
+import com.catfood.service.ScoringPolicyService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -26,9 +47,30 @@ public class CatFoodController {
     private static final Logger logger = LoggerFactory.getLogger(CatFoodController.class);
 
     private final CatFoodRecommendService recommendService;
+    private final HouseholdRecommendService householdRecommendService;
+    private final MealPlanService mealPlanService;
+    private final FoodSearchService foodSearchService;
+    private final PriceProjectionService priceProjectionService;
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final ScoringPolicyService scoringPolicyService;
+    private final boolean scoringAdminEnabled;
 
-    public CatFoodController(CatFoodRecommendService recommendService) {
+    public CatFoodController(CatFoodRecommendService recommendService,
+                             HouseholdRecommendService householdRecommendService,
+                             MealPlanService mealPlanService,
+                             FoodSearchService foodSearchService,
+                             PriceProjectionService priceProjectionService,
+                             CatalogSnapshotService catalogSnapshotService,
+                             ScoringPolicyService scoringPolicyService,
+                             @Value("${catfood.scoring.admin-enabled:false}") boolean scoringAdminEnabled) {
         this.recommendService = recommendService;
+        this.householdRecommendService = householdRecommendService;
+        this.mealPlanService = mealPlanService;
+        this.foodSearchService = foodSearchService;
+        this.priceProjectionService = priceProjectionService;
+        this.catalogSnapshotService = catalogSnapshotService;
+        this.scoringPolicyService = scoringPolicyService;
+        this.scoringAdminEnabled = scoringAdminEnabled;
     }
 
     /**
@@ -47,6 +89,207 @@ public class CatFoodController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 다묘 가정 사료 추천 API
+     *
+     * @param request 고양이 목록 (최대 10마리) 및 가구 전체 월 예산
+     * @return 고양이별 사료 배정 결과 (공유 예산 내 점수 합계 최대화)
+     */
+    @PostMapping("/recommend/household")
+    public ResponseEntity<HouseholdRecommendResponse> recommendHousehold(
+            @Valid @RequestBody HouseholdRecommendRequest request) {
+        logger.info("다묘 사료 추천 요청 - 고양이: {}마리, 예산: {}원",
+                request.getCats().size(), request.getMonthlyBudget());
+
+        HouseholdRecommendResponse response = householdRecommendService.recommend(request);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 월별 급여 계획 API
+     *
+     * @param request 고양이 정보, 예산, 목표 체중(선택), 계획 기간 (최대 24개월)
+     * @return 월별 예상 체중, 칼로리, 급여 사료 및 급여량
+     */
+    @PostMapping("/plan")
+    public ResponseEntity<MealPlanResponse> plan(@Valid @RequestBody MealPlanRequest request) {
+        logger.info("급여 계획 요청 - 체중: {}kg, 목표: {}kg, 나이: {}개월, 기간: {}개월, 예산: {}원",
+                request.getWeightKg(), request.getTargetWeightKg(), request.getAgeMonths(),
+                request.getMonths(), request.getMonthlyBudget());
+
+        MealPlanResponse response = mealPlanService.plan(request);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 사료 카탈로그 검색 API
+     *
+     * @param request 검색어(오타 허용), 패싯 필터(브랜드, 형태, 생애 단계, 단백질·가격 범위), 페이지 커서
+     * @return 검색 결과 페이지, 다음 페이지 커서, 패싯별 개수
+     */
+    @GetMapping("/foods")
+    public ResponseEntity<FoodSearchResponse> searchFoods(@Valid @ModelAttribute FoodSearchRequest request) {
+        logger.info("사료 검색 요청 - 검색어: {}, 브랜드: {}, 형태: {}, 생애 단계: {}",
+                request.getQ(), request.getBrand(), request.getType(), request.getLifeStage());
+
+        FoodSearchResponse response = foodSearchService.search(request);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 사료 가격 기록 API
+     *
+     * @param request 가격 포인트 목록 (사료 id, 적용일, kg당 가격)
+     * @return 기록된 포인트 수
+     */
+    @PostMapping("/prices")
+    public ResponseEntity<Map<String, Integer>> recordPrices(@Valid @RequestBody PriceUpdateRequest request) {
+        logger.info("가격 기록 요청 - {}건", request.getPrices().size());
+
+        int recorded = priceProjectionService.recordPrices(request);
+        return ResponseEntity.ok(Map.of("recorded", recorded));
+    }
+
+    /**
+     * 추천 사료 월 비용 추이 API
+     *
+     * @param request 고양이 정보, 예산, 과거·미래 조회 기간, 가정 가격 변동률(선택)
+     * @return 추천 사료별 월 비용 (과거·이번 달은 가격 이력, 미래는 추세 예측)
+     */
+    @PostMapping("/recommend/projection")
+    public ResponseEntity<CostProjectionResponse> projectCost(@Valid @RequestBody CostProjectionRequest request) {
+        logger.info("비용 추이 요청 - 체중: {}kg, 나이: {}개월, 예산: {}원, 과거 {}개월, 미래 {}개월",
+                request.getWeightKg(), request.getAgeMonths(), request.getMonthlyBudget(),
+                request.getPastMonths(), request.getFutureMonths());
+
+        CostProjectionResponse response = priceProjectionService.project(request);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 카탈로그 스냅샷 API (클라이언트 추천 엔진용)
+     *
+     * ETag 는 스냅샷 버전이며, If-None-Match 가 일치하면 304 를 반환합니다.
+     * Accept-Encoding 이 gzip 을 허용하면(q > 0) 미리 압축해 둔 본문을 그대로 보내며,
+     * 응답이 이 헤더에 따라 달라지므로 Vary: Accept-Encoding 을 붙입니다.
+     *
+     * @return 칼로리 계산·점수 산정 파라미터 및 사료 목록 (열 단위 배열)
+     */
+    @GetMapping("/catalog/snapshot")
+    public ResponseEntity<byte[]> catalogSnapshot(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        CatalogSnapshotService.Payload snapshot = catalogSnapshotService.current();
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(snapshot.version())
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(gzip ? snapshot.gzip() : snapshot.json());
+    }
+
+    /**
+     * Accept-Encoding 이 gzip 을 허용하는지 판단합니다. (RFC 9110 12.5.3)
+     *
+     * 토큰별 coding·q 값을 해석하며, gzip(x-gzip) 이 명시되어 있으면 그 q 값을, 없으면 '*' 의 q 값을 따릅니다.
+     * q=0 은 거부이고, 형식이 잘못된 q 값을 가진 토큰은 무시합니다.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        double gzipQuality = -1;
+        double wildcardQuality = -1;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.length() > 2 && param.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = Double.NaN;
+                    }
+                }
+            }
+            if (!(quality >= 0 && quality <= 1)) continue;
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = Math.max(gzipQuality, quality);
+            } else if (coding.equals("*")) {
+                wildcardQuality = Math.max(wildcardQuality, quality);
+            }
+        }
+        return (gzipQuality >= 0 ? gzipQuality : wildcardQuality) > 0;
+    }
+
+    /**
+     * 점수 정책 목록 API
+     *
+     * @return 정책 이름 → 정의 (점수 식, 추천 이유 규칙)
+     */
+    @GetMapping("/scoring/policies")
+    public ResponseEntity<Map<String, ScoringPolicyDefinition>> scoringPolicies() {
+        return ResponseEntity.ok(scoringPolicyService.definitions());
+    }
+
+    /**
+     * 점수 정책 등록·교체 API
+     *
+     * 식은 등록 시점에 컴파일되며, 오류가 있으면 400 과 함께 기존 정책을 유지합니다.
+     * 교체된 정책은 이후 요청부터 적용됩니다. (카탈로그 스냅샷 버전도 바뀜)
+     * 인증이 없으므로 catfood.scoring.admin-enabled=true 일 때만 허용하며, 기본 정책은 교체할 수 없습니다.
+     *
+     * @param name       정책 이름 (영문 소문자·숫자·'-')
+     * @param definition 점수 식, 추천 이유 규칙, 기본 추천 이유
+     * @return 등록된 정책 이름 및 기본 정책 이름
+     */
+    @PutMapping("/scoring/policies/{name}")
+    public ResponseEntity<Map<String, String>> putScoringPolicy(
+            @PathVariable String name, @Valid @RequestBody ScoringPolicyDefinition definition) {
+        if (!scoringAdminEnabled) {
+            logger.warn("점수 정책 등록 거부 (catfood.scoring.admin-enabled=false) - 이름: {}", name);
+            return scoringAdminDisabled();
+        }
+        logger.info("점수 정책 등록 요청 - 이름: {}, 점수 식: {}", name, definition.getScore());
+
+        scoringPolicyService.put(name, definition);
+        return ResponseEntity.ok(Map.of("name", name, "defaultPolicy", scoringPolicyService.defaultPolicyName()));
+    }
+
+    /**
+     * 점수 정책 삭제 API
+     *
+     * 등록 API 와 같이 catfood.scoring.admin-enabled=true 일 때만 허용하며, 기본 정책은 삭제할 수 없습니다.
+     *
+     * @param name 정책 이름
+     * @return 삭제된 정책 이름 및 기본 정책 이름 (없는 정책이면 404)
+     */
+    @DeleteMapping("/scoring/policies/{name}")
+    public ResponseEntity<Map<String, String>> deleteScoringPolicy(@PathVariable String name) {
+        if (!scoringAdminEnabled) {
+            logger.warn("점수 정책 삭제 거부 (catfood.scoring.admin-enabled=false) - 이름: {}", name);
+            return scoringAdminDisabled();
+        }
+        logger.info("점수 정책 삭제 요청 - 이름: {}", name);
+
+        if (!scoringPolicyService.remove(name)) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of(
+                    "error", "점수 정책을 찾을 수 없습니다.",
+                    "message", "알 수 없는 점수 정책입니다: " + name));
+        }
+        return ResponseEntity.ok(Map.of("name", name, "defaultPolicy", scoringPolicyService.defaultPolicyName()));
+    }
+
+    private ResponseEntity<Map<String, String>> scoringAdminDisabled() {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of(
+                "error", "점수 정책 관리가 비활성화되어 있습니다.",
+                "message", "catfood.scoring.admin-enabled=true 로 설정한 경우에만 사용할 수 있습니다."));
+    }
+
     /**
      * 입력 검증 오류 처리
      */
@@ -0,0 +1,26 @@
+package com.catfood.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 다묘 가정 추천 결과의 고양이별 사료 배정 DTO
+ */
+@Data
+@NoArgsConstructor
+public class CatFoodAssignment {
+
+    /**
+     * 요청 목록 내 순번 (0부터)
+     */
+    private int catIndex;
+    private String name;
+    private double dailyCalories;
+    private double lifeFactor;
+    private String lifeStageDescription;
+
+    /**
+     * 배정된 사료 (예산 내 배정 불가 시 null)
+     */
+    private FoodRecommendation recommendation;
+}
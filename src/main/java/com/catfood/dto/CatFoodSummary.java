@@ -0,0 +1,28 @@
+package com.catfood.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카탈로그 검색 결과의 사료 정보 DTO
+ */
+@Data
+@NoArgsConstructor
+public class CatFoodSummary {
+
+    private String id;
+    private String name;
+    private String brand;
+    private String type;
+    private String lifeStage;
+    private double kcalPer100g;
+    private int pricePerKg;
+    private double proteinPercent;
+    private double fatPercent;
+    private String description;
+
+    /**
+     * 검색어 일치도 (0~1, 검색어 없으면 0)
+     */
+    private double relevance;
+}
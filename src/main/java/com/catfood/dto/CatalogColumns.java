@@ -0,0 +1,25 @@
+package com.catfood.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카탈로그 스냅샷의 사료 목록 DTO
+ *
+ * 사료 한 건을 객체로 두지 않고 속성별 배열로 담습니다. (같은 인덱스가 같은 사료)
+ * 배열 순서는 서버 카탈로그 순서와 같으며, 점수가 같을 때의 추천 순서도 이 순서를 따릅니다.
+ */
+@Data
+@NoArgsConstructor
+public class CatalogColumns {
+
+    private String[] ids;
+    private String[] names;
+    private String[] brands;
+    private String[] types;
+    private String[] lifeStages;
+    private double[] kcalPer100g;
+    private int[] pricePerKg;
+    private double[] proteinPercent;
+    private double[] fatPercent;
+}
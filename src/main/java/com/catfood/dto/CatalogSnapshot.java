@@ -0,0 +1,39 @@
+package com.catfood.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 클라이언트 추천 엔진용 카탈로그 스냅샷 DTO
+ */
+@Data
+@NoArgsConstructor
+public class CatalogSnapshot {
+
+    /**
+     * 스냅샷 버전 (파라미터·사료 목록의 내용 해시, ETag 로도 사용)
+     */
+    private String version;
+
+    /**
+     * 칼로리 계산 및 비용 산정 파라미터
+     */
+    private SnapshotParameters parameters;
+
+    /**
+     * 요청에 점수 정책이 없을 때 사용할 정책 이름
+     */
+    private String defaultScoringPolicy;
+
+    /**
+     * 점수 정책 이름 → 정의 (클라이언트 엔진이 식을 직접 컴파일)
+     */
+    private Map<String, ScoringPolicyDefinition> scoringPolicies;
+
+    /**
+     * 사료 목록 (열 단위 배열)
+     */
+    private CatalogColumns foods;
+}
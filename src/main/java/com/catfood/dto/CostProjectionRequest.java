@@ -0,0 +1,77 @@
+package com.catfood.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.Data;
+
+/**
+ * 추천 사료 월 비용 추이 조회 요청 DTO
+ */
+@Data
+public class CostProjectionRequest {
+
+    /**
+     * 체중 (kg)
+     */
+    @NotNull(message = "체중은 필수 입력 항목입니다.")
+    @DecimalMin(value = "0.1", message = "체중은 0.1kg 이상이어야 합니다.")
+    @DecimalMax(value = "20.0", message = "체중은 20kg 이하로 입력해주세요.")
+    private Double weightKg;
+
+    /**
+     * 나이 (개월 수)
+     */
+    @NotNull(message = "나이는 필수 입력 항목입니다.")
+    @Min(value = 1, message = "나이는 1개월 이상이어야 합니다.")
+    @Max(value = 300, message = "나이는 300개월(25년) 이하로 입력해주세요.")
+    private Integer ageMonths;
+
+    /**
+     * 성별: MALE(수컷), FEMALE(암컷)
+     */
+    @NotNull(message = "성별은 필수 입력 항목입니다.")
+    @Pattern(regexp = "MALE|FEMALE", message = "성별은 MALE 또는 FEMALE이어야 합니다.")
+    private String gender;
+
+    /**
+     * 중성화 여부
+     */
+    @NotNull(message = "중성화 여부는 필수 입력 항목입니다.")
+    private Boolean neutered;
+
+    /**
+     * 월 예산 (원)
+     */
+    @NotNull(message = "월 예산은 필수 입력 항목입니다.")
+    @Min(value = 1000, message = "월 예산은 1,000원 이상이어야 합니다.")
+    @Max(value = 1000000, message = "월 예산은 1,000,000원 이하로 입력해주세요.")
+    private Integer monthlyBudget;
+
+    /**
+     * 조회할 과거 기간 (개월, 이번 달 제외, 생략 시 6)
+     */
+    @NotNull(message = "과거 기간은 생략하거나 0~24 사이의 숫자로 입력해주세요.")
+    @Min(value = 0, message = "과거 기간은 0개월 이상이어야 합니다.")
+    @Max(value = 24, message = "과거 기간은 24개월 이하로 입력해주세요.")
+    private Integer pastMonths = 6;
+
+    /**
+     * 예측할 미래 기간 (개월, 이번 달 제외, 생략 시 6)
+     */
+    @NotNull(message = "미래 기간은 생략하거나 0~24 사이의 숫자로 입력해주세요.")
+    @Min(value = 0, message = "미래 기간은 0개월 이상이어야 합니다.")
+    @Max(value = 24, message = "미래 기간은 24개월 이하로 입력해주세요.")
+    private Integer futureMonths = 6;
+
+    /**
+     * 가정 가격 변동률 (%, 선택): 미래 구간 예측 가격에 추가로 적용
+     */
+    @DecimalMin(value = "-50.0", message = "가격 변동률은 -50% 이상이어야 합니다.")
+    @DecimalMax(value = "100.0", message = "가격 변동률은 100% 이하로 입력해주세요.")
+    private Double priceChangePercent;
+
+    /**
+     * 점수 정책 이름 (선택, 미입력 시 기본 정책)
+     */
+    @Pattern(regexp = "[a-z0-9-]{1,32}", message = "점수 정책 이름은 영문 소문자·숫자·'-' 1~32자여야 합니다.")
+    private String scoringPolicy;
+}
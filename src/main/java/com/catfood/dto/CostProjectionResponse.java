@@ -0,0 +1,34 @@
+package com.catfood.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 추천 사료 월 비용 추이 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CostProjectionResponse {
+
+    /**
+     * 일일 권장 칼로리 (kcal)
+     */
+    private double dailyCalories;
+
+    private int monthlyBudget;
+
+    /**
+     * 조회 기간 (yyyy-MM, 양끝 포함)
+     */
+    private String fromMonth;
+    private String toMonth;
+
+    /**
+     * 추천 사료별 월 비용 추이 (추천 순위 순)
+     */
+    private List<FoodCostProjection> foods;
+}
@@ -0,0 +1,41 @@
+package com.catfood.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 추천 사료 한 종의 월 비용 추이 DTO
+ */
+@Data
+@NoArgsConstructor
+public class FoodCostProjection {
+
+    private int rank;
+    private String foodId;
+    private String foodName;
+    private String brand;
+
+    /**
+     * 오늘 기준 kg당 가격 (원, 기록이 없으면 카탈로그 가격)
+     */
+    private int currentPricePerKg;
+
+    /**
+     * 최근 가격 추세 (원/kg, 월당 변화량)
+     */
+    private int priceTrendPerMonth;
+
+    /**
+     * 조회 기간 평균 월 비용 (원)
+     */
+    private int averageMonthlyCost;
+
+    /**
+     * 예산 초과 월 수
+     */
+    private int overBudgetMonths;
+
+    private List<MonthlyCostPoint> months;
+}
@@ -11,6 +11,7 @@ import lombok.NoArgsConstructor;
 public class FoodRecommendation {
 
     private int rank;
+    private String foodId;
     private String foodName;
     private String brand;
     private String type;
@@ -0,0 +1,83 @@
+package com.catfood.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 사료 카탈로그 검색 요청 DTO (GET /api/foods 쿼리 파라미터)
+ */
+@Data
+public class FoodSearchRequest {
+
+    /**
+     * 검색어 (이름·브랜드·설명, 오타 허용)
+     */
+    @Size(max = 100, message = "검색어는 100자 이하로 입력해주세요.")
+    private String q;
+
+    /**
+     * 브랜드 필터 (복수 선택 시 OR)
+     */
+    private List<String> brand;
+
+    /**
+     * 사료 종류 필터: DRY, WET
+     */
+    private List<@Pattern(regexp = "DRY|WET", message = "사료 종류는 DRY 또는 WET이어야 합니다.") String> type;
+
+    /**
+     * 생애 단계 필터: KITTEN, ADULT, SENIOR, ALL
+     */
+    private List<@Pattern(regexp = "KITTEN|ADULT|SENIOR|ALL",
+            message = "생애 단계는 KITTEN, ADULT, SENIOR, ALL 중 하나여야 합니다.") String> lifeStage;
+
+    /**
+     * 단백질 함량 범위 (%)
+     */
+    @DecimalMin(value = "0.0", message = "단백질 함량은 0% 이상이어야 합니다.")
+    @DecimalMax(value = "100.0", message = "단백질 함량은 100% 이하여야 합니다.")
+    private Double minProtein;
+
+    @DecimalMin(value = "0.0", message = "단백질 함량은 0% 이상이어야 합니다.")
+    @DecimalMax(value = "100.0", message = "단백질 함량은 100% 이하여야 합니다.")
+    private Double maxProtein;
+
+    /**
+     * kg당 가격 범위 (원)
+     */
+    @Min(value = 0, message = "가격은 0원 이상이어야 합니다.")
+    private Integer minPrice;
+
+    @Min(value = 0, message = "가격은 0원 이상이어야 합니다.")
+    private Integer maxPrice;
+
+    /**
+     * 페이지 크기
+     */
+    @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+    @Max(value = 100, message = "페이지 크기는 100 이하로 입력해주세요.")
+    private Integer limit = 20;
+
+    /**
+     * 이전 응답의 nextCursor (첫 페이지는 생략)
+     */
+    private String cursor;
+
+    /**
+     * 단백질 범위 검증: 최솟값이 최댓값보다 크면 오류 (검증 오류 키 proteinRange)
+     */
+    @AssertTrue(message = "최소 단백질 함량은 최대 단백질 함량 이하여야 합니다.")
+    public boolean isProteinRange() {
+        return minProtein == null || maxProtein == null || minProtein <= maxProtein;
+    }
+
+    /**
+     * 가격 범위 검증: 최솟값이 최댓값보다 크면 오류 (검증 오류 키 priceRange)
+     */
+    @AssertTrue(message = "최소 가격은 최대 가격 이하여야 합니다.")
+    public boolean isPriceRange() {
+        return minPrice == null || maxPrice == null || minPrice <= maxPrice;
+    }
+}
@@ -0,0 +1,38 @@
+package com.catfood.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사료 카탈로그 검색 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FoodSearchResponse {
+
+    /**
+     * 현재 페이지 사료 목록 (일치도 내림차순, 동률 시 id 오름차순)
+     */
+    private List<CatFoodSummary> items;
+
+    /**
+     * 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+
+    /**
+     * 전체 검색 결과 수
+     */
+    private int totalCount;
+
+    /**
+     * 패싯별 값 → 문서 수 (brand, type, lifeStage, proteinRange, priceRange)
+     * 각 패싯의 개수는 해당 패싯 자신의 필터를 제외한 나머지 조건 기준
+     */
+    private Map<String, Map<String, Integer>> facets;
+}
@@ -0,0 +1,35 @@
+package com.catfood.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 다묘 가정 사료 추천 요청 DTO
+ */
+@Data
+public class HouseholdRecommendRequest {
+
+    /**
+     * 고양이 목록 (1~10마리)
+     */
+    @NotEmpty(message = "고양이 정보를 1마리 이상 입력해주세요.")
+    @Size(max = 10, message = "고양이는 최대 10마리까지 입력할 수 있습니다.")
+    private List<@Valid @NotNull(message = "고양이 정보가 비어 있습니다.") CatProfile> cats;
+
+    /**
+     * 가구 전체 월 예산 (원)
+     */
+    @NotNull(message = "월 예산은 필수 입력 항목입니다.")
+    @Min(value = 1000, message = "월 예산은 1,000원 이상이어야 합니다.")
+    @Max(value = 10000000, message = "월 예산은 10,000,000원 이하로 입력해주세요.")
+    private Integer monthlyBudget;
+
+    /**
+     * 점수 정책 이름 (선택, 미입력 시 기본 정책)
+     */
+    @Pattern(regexp = "[a-z0-9-]{1,32}", message = "점수 정책 이름은 영문 소문자·숫자·'-' 1~32자여야 합니다.")
+    private String scoringPolicy;
+}
@@ -0,0 +1,41 @@
+package com.catfood.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 다묘 가정 사료 추천 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HouseholdRecommendResponse {
+
+    /**
+     * 가구 전체 월 예산 (원)
+     */
+    private int monthlyBudget;
+
+    /**
+     * 배정된 사료의 월 비용 합계 (원)
+     */
+    private int totalMonthlyCost;
+
+    /**
+     * 배정 점수 합계 (공동 구매 가산점 포함)
+     */
+    private double totalScore;
+
+    /**
+     * 2마리 이상이 함께 먹는 사료 종류 수
+     */
+    private int sharedFoodCount;
+
+    /**
+     * 고양이별 사료 배정 결과
+     */
+    private List<CatFoodAssignment> assignments;
+}
@@ -0,0 +1,70 @@
+package com.catfood.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.Data;
+
+/**
+ * 체중 변화 기반 월별 급여 계획 요청 DTO
+ */
+@Data
+public class MealPlanRequest {
+
+    /**
+     * 현재 체중 (kg)
+     */
+    @NotNull(message = "체중은 필수 입력 항목입니다.")
+    @DecimalMin(value = "0.1", message = "체중은 0.1kg 이상이어야 합니다.")
+    @DecimalMax(value = "20.0", message = "체중은 20kg 이하로 입력해주세요.")
+    private Double weightKg;
+
+    /**
+     * 현재 나이 (개월 수)
+     */
+    @NotNull(message = "나이는 필수 입력 항목입니다.")
+    @Min(value = 1, message = "나이는 1개월 이상이어야 합니다.")
+    @Max(value = 300, message = "나이는 300개월(25년) 이하로 입력해주세요.")
+    private Integer ageMonths;
+
+    /**
+     * 성별: MALE(수컷), FEMALE(암컷)
+     */
+    @NotNull(message = "성별은 필수 입력 항목입니다.")
+    @Pattern(regexp = "MALE|FEMALE", message = "성별은 MALE 또는 FEMALE이어야 합니다.")
+    private String gender;
+
+    /**
+     * 중성화 여부
+     */
+    @NotNull(message = "중성화 여부는 필수 입력 항목입니다.")
+    private Boolean neutered;
+
+    /**
+     * 월 예산 (원)
+     */
+    @NotNull(message = "월 예산은 필수 입력 항목입니다.")
+    @Min(value = 1000, message = "월 예산은 1,000원 이상이어야 합니다.")
+    @Max(value = 1000000, message = "월 예산은 1,000,000원 이하로 입력해주세요.")
+    private Integer monthlyBudget;
+
+    /**
+     * 목표 체중 (kg, 선택)
+     * 키튼: 예상 성묘 체중 (미입력 시 4.0kg), 성묘: 감량 목표 체중 (미입력 시 현재 체중 유지)
+     */
+    @DecimalMin(value = "0.1", message = "목표 체중은 0.1kg 이상이어야 합니다.")
+    @DecimalMax(value = "20.0", message = "목표 체중은 20kg 이하로 입력해주세요.")
+    private Double targetWeightKg;
+
+    /**
+     * 계획 기간 (개월)
+     */
+    @NotNull(message = "계획 기간은 필수 입력 항목입니다.")
+    @Min(value = 1, message = "계획 기간은 1개월 이상이어야 합니다.")
+    @Max(value = 24, message = "계획 기간은 24개월 이하로 입력해주세요.")
+    private Integer months;
+
+    /**
+     * 점수 정책 이름 (선택, 미입력 시 기본 정책)
+     */
+    @Pattern(regexp = "[a-z0-9-]{1,32}", message = "점수 정책 이름은 영문 소문자·숫자·'-' 1~32자여야 합니다.")
+    private String scoringPolicy;
+}
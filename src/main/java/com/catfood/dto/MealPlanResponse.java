@@ -0,0 +1,43 @@
+package com.catfood.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 월별 급여 계획 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MealPlanResponse {
+
+    private double startWeightKg;
+
+    /**
+     * 계획에 사용한 목표 체중 (kg)
+     */
+    private double targetWeightKg;
+
+    /**
+     * 계획 종료 시점 예상 체중 (kg)
+     */
+    private double endWeightKg;
+
+    /**
+     * 계획 기간 전체 사료 비용 합계 (원)
+     */
+    private int totalCost;
+
+    /**
+     * 계획 기간 중 사료 변경 횟수
+     */
+    private int foodChangeCount;
+
+    /**
+     * 월별 계획
+     */
+    private List<MealPlanStep> steps;
+}
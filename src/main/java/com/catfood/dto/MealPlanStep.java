@@ -0,0 +1,52 @@
+package com.catfood.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 월별 급여 계획 항목 DTO
+ */
+@Data
+@NoArgsConstructor
+public class MealPlanStep {
+
+    /**
+     * 계획 시작 기준 월차 (1부터)
+     */
+    private int month;
+
+    /**
+     * 해당 월 시작 시점 나이 (개월 수)
+     */
+    private int ageMonths;
+
+    /**
+     * 해당 월 시작 시점 예상 체중 (kg)
+     */
+    private double weightKg;
+
+    /**
+     * 체중 변화 단계: GROWTH(성장), WEIGHT_LOSS(감량), MAINTENANCE(유지)
+     */
+    private String phase;
+
+    private String lifeStageKey;
+    private String lifeStageDescription;
+    private double lifeFactor;
+    private double rerCalories;
+
+    /**
+     * 일일 급여 칼로리 (kcal, 감량 단계는 MER의 80%)
+     */
+    private double dailyCalories;
+
+    /**
+     * 전월 대비 사료 변경 여부
+     */
+    private boolean foodChanged;
+
+    /**
+     * 해당 월 급여 사료 (예산 내 사료가 없으면 null)
+     */
+    private FoodRecommendation recommendation;
+}
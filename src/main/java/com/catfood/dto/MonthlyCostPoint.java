@@ -0,0 +1,31 @@
+package com.catfood.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 월별 비용 항목 DTO
+ */
+@Data
+@NoArgsConstructor
+public class MonthlyCostPoint {
+
+    /**
+     * 월 (yyyy-MM)
+     */
+    private String month;
+
+    /**
+     * 해당 월 일별 kg당 가격 평균 (원)
+     */
+    private int averagePricePerKg;
+
+    private int monthlyCost;
+
+    /**
+     * 예측값 여부 (이번 달 이후)
+     */
+    private boolean projected;
+
+    private boolean overBudget;
+}
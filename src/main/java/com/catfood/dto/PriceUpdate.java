@@ -0,0 +1,35 @@
+package com.catfood.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 사료 가격 포인트 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceUpdate {
+
+    @NotBlank(message = "사료 id는 필수 입력 항목입니다.")
+    private String foodId;
+
+    /**
+     * 가격 적용일 (yyyy-MM-dd)
+     */
+    @NotNull(message = "날짜는 필수 입력 항목입니다.")
+    private LocalDate date;
+
+    /**
+     * kg당 가격 (원)
+     */
+    @NotNull(message = "가격은 필수 입력 항목입니다.")
+    @Min(value = 1, message = "가격은 1원 이상이어야 합니다.")
+    private Integer pricePerKg;
+}
@@ -0,0 +1,23 @@
+package com.catfood.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 사료 가격 기록 요청 DTO
+ */
+@Data
+public class PriceUpdateRequest {
+
+    /**
+     * 가격 포인트 목록 (최대 10,000건)
+     */
+    @NotEmpty(message = "가격 정보를 1건 이상 입력해주세요.")
+    @Size(max = 10000, message = "가격 정보는 한 번에 10,000건까지 입력할 수 있습니다.")
+    private List<@Valid @NotNull PriceUpdate> prices;
+}
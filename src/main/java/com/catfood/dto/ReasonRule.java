@@ -0,0 +1,27 @@
+package com.catfood.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 추천 이유 규칙 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReasonRule {
+
+    /**
+     * 조건 식 (참/거짓)
+     */
+    @NotBlank(message = "추천 이유 조건은 필수 입력 항목입니다.")
+    private String when;
+
+    /**
+     * 추천 이유 문장 ('{식}' 자리에 값 표시, 예: 예산의 {budgetUsagePercent}% 사용)
+     */
+    @NotBlank(message = "추천 이유 문장은 필수 입력 항목입니다.")
+    private String text;
+}
@@ -45,4 +45,10 @@ public class RecommendRequest {
     @Min(value = 1000, message = "월 예산은 1,000원 이상이어야 합니다.")
     @Max(value = 1000000, message = "월 예산은 1,000,000원 이하로 입력해주세요.")
     private Integer monthlyBudget;
+
+    /**
+     * 점수 정책 이름 (선택, 미입력 시 기본 정책)
+     */
+    @Pattern(regexp = "[a-z0-9-]{1,32}", message = "점수 정책 이름은 영문 소문자·숫자·'-' 1~32자여야 합니다.")
+    private String scoringPolicy;
 }
@@ -43,4 +43,9 @@ public class RecommendResponse {
      * 추천 사료 목록 (최대 5개)
      */
     private List<FoodRecommendation> recommendations;
+
+    /**
+     * 적용된 점수 정책 이름
+     */
+    private String scoringPolicy;
 }
@@ -0,0 +1,58 @@
+package com.catfood.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 점수 정책 정의 DTO
+ *
+ * 식에서 쓸 수 있는 변수·연산자는 README-DEV.md 의 '점수 정책' 절을 참고하세요.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoringPolicyDefinition {
+
+    /**
+     * 정책 설명
+     */
+    private String description;
+
+    /**
+     * 점수 식 (높을수록 우선 추천)
+     */
+    @NotBlank(message = "점수 식은 필수 입력 항목입니다.")
+    private String score;
+
+    /**
+     * 추천 이유 규칙 (조건이 참인 규칙의 문장을 순서대로 ", " 로 연결)
+     */
+    @Size(max = 20, message = "추천 이유 규칙은 20개까지 입력할 수 있습니다.")
+    private List<@Valid @NotNull ReasonRule> reasons;
+
+    /**
+     * 참인 규칙이 없을 때의 추천 이유
+     */
+    @NotBlank(message = "기본 추천 이유는 필수 입력 항목입니다.")
+    private String fallbackReason;
+
+    /**
+     * 다묘 추천: 같은 사료를 함께 먹는 고양이 1마리당 가산점 (이 정책의 점수 단위, 없으면 0)
+     */
+    @PositiveOrZero(message = "공동 구매 가산점은 0 이상이어야 합니다.")
+    private Double sharedFoodBonus;
+
+    /**
+     * 급여 계획: 전월 사료를 유지하는 최고 점수와의 허용 차이 (이 정책의 점수 단위, 없으면 0)
+     */
+    @PositiveOrZero(message = "사료 유지 허용 점수 차이는 0 이상이어야 합니다.")
+    private Double switchMargin;
+}
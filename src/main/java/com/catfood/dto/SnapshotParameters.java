@@ -0,0 +1,35 @@
+package com.catfood.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 카탈로그 스냅샷의 칼로리 계산·비용 산정 파라미터 DTO
+ */
+@Data
+@NoArgsConstructor
+public class SnapshotParameters {
+
+    /**
+     * RER = rerCoefficient × 체중(kg)^rerExponent
+     */
+    private double rerCoefficient;
+    private double rerExponent;
+
+    /**
+     * 생애 단계 경계 (개월): 성장기 키튼 시작, 성체 시작, 노령묘 시작
+     */
+    private int growingKittenMonths;
+    private int adultMonths;
+    private int seniorMonths;
+
+    /**
+     * 생애 단계 계수 (newbornKitten, growingKitten, senior, neuteredMale, neuteredFemale, intactMale, intactFemale)
+     */
+    private Map<String, Double> lifeFactors;
+
+    private int daysPerMonth;
+    private int topN;
+}
@@ -25,6 +25,27 @@ public class CalorieCalculationService {
 
     private static final Logger logger = LoggerFactory.getLogger(CalorieCalculationService.class);
 
+    static final double RER_COEFFICIENT = 70.0;
+    static final double RER_EXPONENT = 0.75;
+
+    /*
+     * 생애 단계 경계 (개월)
+     */
+    static final int GROWING_KITTEN_MONTHS = 4;
+    static final int ADULT_MONTHS = 12;
+    static final int SENIOR_MONTHS = 84;
+
+    /*
+     * 생애 단계 계수
+     */
+    static final double NEWBORN_KITTEN_FACTOR = 3.0;
+    static final double GROWING_KITTEN_FACTOR = 2.5;
+    static final double SENIOR_FACTOR = 1.4;
+    static final double NEUTERED_MALE_FACTOR = 1.6;
+    static final double NEUTERED_FEMALE_FACTOR = 1.4;
+    static final double INTACT_MALE_FACTOR = 1.8;
+    static final double INTACT_FEMALE_FACTOR = 1.6;
+
     /**
      * 기초대사량(RER)을 계산합니다.
      *
@@ -32,7 +53,7 @@ public class CalorieCalculationService {
      * @return RER (kcal/일)
      */
     public double calculateRER(double weightKg) {
-        return 70.0 * Math.pow(weightKg, 0.75);
+        return RER_COEFFICIENT * Math.pow(weightKg, RER_EXPONENT);
     }
 
     /**
@@ -65,20 +86,20 @@ public class CalorieCalculationService {
      * @return 생애 단계 계수
      */
     public double getLifeFactor(int ageMonths, String gender, boolean neutered) {
-        if (ageMonths < 4) {
-            return 3.0;
+        if (ageMonths < GROWING_KITTEN_MONTHS) {
+            return NEWBORN_KITTEN_FACTOR;
         }
-        if (ageMonths < 12) {
-            return 2.5;
+        if (ageMonths < ADULT_MONTHS) {
+            return GROWING_KITTEN_FACTOR;
         }
-        if (ageMonths >= 84) {
-            return 1.4;
+        if (ageMonths >= SENIOR_MONTHS) {
+            return SENIOR_FACTOR;
         }
         boolean isMale = "MALE".equalsIgnoreCase(gender);
         if (neutered) {
-            return isMale ? 1.6 : 1.4;
+            return isMale ? NEUTERED_MALE_FACTOR : NEUTERED_FEMALE_FACTOR;
         } else {
-            return isMale ? 1.8 : 1.6;
+            return isMale ? INTACT_MALE_FACTOR : INTACT_FEMALE_FACTOR;
         }
     }
 
@@ -86,9 +107,9 @@ public class CalorieCalculationService {
      * 생애 단계 설명 문자열을 반환합니다.
      */
     public String getLifeStageDescription(int ageMonths, String gender, boolean neutered) {
-        if (ageMonths < 4) return "신생 키튼 (0~3개월)";
-        if (ageMonths < 12) return "성장기 키튼 (4~11개월)";
-        if (ageMonths >= 84) return "노령묘 (7세 이상)";
+        if (ageMonths < GROWING_KITTEN_MONTHS) return "신생 키튼 (0~3개월)";
+        if (ageMonths < ADULT_MONTHS) return "성장기 키튼 (4~11개월)";
+        if (ageMonths >= SENIOR_MONTHS) return "노령묘 (7세 이상)";
         String genderStr = "MALE".equalsIgnoreCase(gender) ? "수컷" : "암컷";
         String neuteredStr = neutered ? "중성화" : "미중성화";
         return String.format("성체 %s %s (1~7세)", neuteredStr, genderStr);
@@ -98,8 +119,8 @@ public class CalorieCalculationService {
      * 생애 단계 키를 반환합니다. (사료 필터링에 사용)
      */
     public String getLifeStageKey(int ageMonths) {
-        if (ageMonths < 12) return "KITTEN";
-        if (ageMonths >= 84) return "SENIOR";
+        if (ageMonths < ADULT_MONTHS) return "KITTEN";
+        if (ageMonths >= SENIOR_MONTHS) return "SENIOR";
         return "ADULT";
     }
 
@@ -4,32 +4,167 @@ import com.catfood.dto.FoodRecommendation;
 import com.catfood.dto.RecommendRequest;
 import com.catfood.dto.RecommendResponse;
 import com.catfood.model.CatFood;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * 고양이 사료 추천 서비스
  *
- * 추천 점수 산정 기준:
+ * 추천 점수와 추천 이유는 점수 정책(ScoringPolicyService)이 정합니다.
+ * 기본 정책(scoring-policies.json 의 default)의 점수 산정 기준:
  *   - 단백질 함량 (60%): 고양이는 육식 동물이므로 단백질이 가장 중요
  *   - 예산 여유율 (40%): 예산 대비 비용이 낮을수록 점수 상승
+ * 요청의 scoringPolicy 로 다른 정책을 지정할 수 있습니다. (A/B 테스트)
+ *
+ * 카탈로그 크기가 병렬 임계값(catfood.recommend.parallel-threshold) 이상이면
+ * 샤드 인덱스(CatalogIndex)를 ForkJoinPool 에서 병렬 스캔하고, 그 미만이면 호출 스레드에서 샤드를 차례로 스캔합니다.
  */
 @Service
 public class CatFoodRecommendService {
 
     private static final Logger logger = LoggerFactory.getLogger(CatFoodRecommendService.class);
 
+    static final int TOP_N = 5;
+    static final int DAYS_PER_MONTH = 30;
+
     private final CalorieCalculationService calorieService;
-    private final List<CatFood> catFoodDatabase;
+    private final ScoringPolicyService scoringPolicyService;
+    private final int parallelThreshold;
+    private final int shardSize;
+    private final int parallelism;
+    private volatile CatalogIndex catalogIndex;
+    private volatile ForkJoinPool scanPool;
 
     public CatFoodRecommendService(CalorieCalculationService calorieService) {
+        this(calorieService, ScoringPolicyService.builtIn());
+    }
+
+    public CatFoodRecommendService(CalorieCalculationService calorieService, ScoringPolicyService scoringPolicyService) {
+        this(calorieService, scoringPolicyService, 100_000, CatalogIndex.DEFAULT_SHARD_SIZE, 0);
+    }
+
+    public CatFoodRecommendService(CalorieCalculationService calorieService,
+                                   int parallelThreshold, int shardSize, int parallelism) {
+        this(calorieService, ScoringPolicyService.builtIn(), parallelThreshold, shardSize, parallelism);
+    }
+
+    /**
+     * @param parallelThreshold 병렬 스캔으로 전환하는 카탈로그 크기 (1 이상)
+     * @param shardSize         샤드당 사료 수 (1 이상)
+     * @param parallelism       병렬 스캔 스레드 수 (0 이하면 가용 코어 수)
+     * @throws IllegalArgumentException parallelThreshold 또는 shardSize 가 0 이하인 경우
+     */
+    @Autowired
+    public CatFoodRecommendService(CalorieCalculationService calorieService,
+                                   ScoringPolicyService scoringPolicyService,
+                                   @Value("${catfood.recommend.parallel-threshold:100000}") int parallelThreshold,
+                                   @Value("${catfood.recommend.shard-size:4096}") int shardSize,
+                                   @Value("${catfood.recommend.parallelism:0}") int parallelism) {
+        // 샤드 크기 0 은 인덱스 구성 시 0으로 나누기, 음수는 배열 생성 실패로 이어지므로 기동 시 거부
+        if (shardSize <= 0) {
+            throw new IllegalArgumentException("catfood.recommend.shard-size 는 1 이상이어야 합니다: " + shardSize);
+        }
+        if (parallelThreshold <= 0) {
+            throw new IllegalArgumentException(
+                    "catfood.recommend.parallel-threshold 는 1 이상이어야 합니다: " + parallelThreshold);
+        }
         this.calorieService = calorieService;
-        this.catFoodDatabase = initializeFoodDatabase();
+        this.scoringPolicyService = scoringPolicyService;
+        this.parallelThreshold = parallelThreshold;
+        this.shardSize = shardSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * 애플리케이션 준비 완료 후 사료 데이터베이스를 백그라운드에서 미리 구성합니다.
+     *
+     * ApplicationReadyEvent 리스너는 readiness 전환 전에 동기 실행되므로,
+     * 카탈로그 구성이 readiness를 막지 않도록 별도 데몬 스레드에서 수행합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpCatalog() {
+        Thread warmup = new Thread(this::getCatalog, "catalog-warmup");
+        warmup.setDaemon(true);
+        warmup.start();
+    }
+
+    /**
+     * 사료 데이터베이스를 반환합니다. 최초 접근 시 한 번만 구성됩니다.
+     */
+    List<CatFood> getCatalog() {
+        return getCatalogIndex().foods();
+    }
+
+    /**
+     * 현재 카탈로그 스냅샷의 샤드 인덱스를 반환합니다. 최초 접근 시 한 번만 구성됩니다.
+     */
+    CatalogIndex getCatalogIndex() {
+        CatalogIndex index = catalogIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = catalogIndex;
+                if (index == null) {
+                    index = CatalogIndex.build(initializeFoodDatabase(), shardSize, this::isAgeAppropriate);
+                    catalogIndex = index;
+                    logger.info("사료 데이터베이스 구성 완료 - {}개", index.size());
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * 사료 카탈로그를 교체합니다. (샤드 인덱스 재구성)
+     */
+    void replaceCatalog(List<CatFood> foods) {
+        CatalogIndex index = CatalogIndex.build(foods, shardSize, this::isAgeAppropriate);
+        synchronized (this) {
+            catalogIndex = index;
+        }
+        logger.info("사료 데이터베이스 교체 완료 - {}개", index.size());
+    }
+
+    @PreDestroy
+    public void shutdownScanPool() {
+        ForkJoinPool pool = scanPool;
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    private ForkJoinPool getScanPool() {
+        ForkJoinPool pool = scanPool;
+        if (pool == null) {
+            synchronized (this) {
+                pool = scanPool;
+                if (pool == null) {
+                    pool = new ForkJoinPool(parallelism);
+                    scanPool = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    ScoringPolicyService scoringPolicyService() {
+        return scoringPolicyService;
+    }
+
+    /**
+     * 이름으로 점수 정책을 찾습니다. (null 이면 기본 정책, 없는 이름이면 IllegalArgumentException)
+     */
+    ScoringPolicy scoringPolicy(String name) {
+        return scoringPolicyService.get(name);
     }
 
     /**
@@ -48,54 +183,118 @@ public class CatFoodRecommendService {
         String lifeStageKey = calorieService.getLifeStageKey(ageMonths);
         String lifeStageDesc = calorieService.getLifeStageDescription(ageMonths, gender, neutered);
         String formula = calorieService.generateFormula(weightKg, rer, lifeFactor, dailyCalories);
+        ScoringPolicy policy = scoringPolicy(request.getScoringPolicy());
+        ScoringContext context = new ScoringContext()
+                .cat(weightKg, ageMonths, gender, neutered, lifeStageKey, dailyCalories)
+                .budget(monthlyBudget);
+
+        logger.info("추천 요청 - 체중: {}kg, 나이: {}개월, 성별: {}, 중성화: {}, 예산: {}원, 일일칼로리: {}kcal, 점수 정책: {}",
+                weightKg, ageMonths, gender, neutered, monthlyBudget, String.format("%.1f", dailyCalories),
+                policy.name());
+
+        // 두 경로 모두 정책별 특화 스캔 루프(ScoringKernel)를 사용하며, 추천 객체는 상위 N개만 만듭니다.
+        CatalogIndex catalog = getCatalogIndex();
+        CatalogIndex.TopK top = topCandidates(catalog, policy, context, lifeStageKey, TOP_N);
+        List<FoodRecommendation> top5 = new ArrayList<>(top.size());
+        for (int i = 0; i < top.size(); i++) {
+            CatFood food = catalog.foods().get(top.index(i));
+            top5.add(toRecommendation(policy, context, food, top.monthlyCost(i)));
+        }
+        long candidateCount = top.candidateCount();
 
-        logger.info("추천 요청 - 체중: {}kg, 나이: {}개월, 성별: {}, 중성화: {}, 예산: {}원, 일일칼로리: {}kcal",
-                weightKg, ageMonths, gender, neutered, monthlyBudget, String.format("%.1f", dailyCalories));
+        for (int i = 0; i < top5.size(); i++) {
+            top5.get(i).setRank(i + 1);
+        }
 
-        List<FoodRecommendation> recommendations = new ArrayList<>();
+        logger.info("추천 완료 - 후보 {}개 중 {}개 추천", candidateCount, top5.size());
 
-        for (CatFood food : catFoodDatabase) {
-            if (!isAgeAppropriate(food, lifeStageKey)) continue;
+        if (top5.isEmpty()) {
+            logger.warn("예산 {}원 내에서 적합한 사료를 찾지 못함", monthlyBudget);
+        }
 
-            double dailyAmountGrams = dailyCalories / food.getKcalPer100g() * 100.0;
-            double dailyCostDouble = dailyAmountGrams / 1000.0 * food.getPricePerKg();
-            int dailyCost = (int) Math.ceil(dailyCostDouble);
-            int monthlyCost = dailyCost * 30;
+        return new RecommendResponse(dailyCalories, rer, lifeFactor, lifeStageDesc, formula, top5, policy.name());
+    }
 
-            if (monthlyCost > monthlyBudget) continue;
+    /**
+     * 생애 단계·예산 조건을 만족하는 후보 중 점수 상위 k개를 구합니다. (병렬 임계값 이상이면 병렬 스캔)
+     *
+     * @param context 고양이·예산 변수가 설정된 점수 컨텍스트 (변경하지 않음)
+     */
+    CatalogIndex.TopK topCandidates(CatalogIndex catalog, ScoringPolicy policy, ScoringContext context,
+                                    String lifeStageKey, int k) {
+        return catalog.size() >= parallelThreshold
+                ? catalog.parallelScan(getScanPool(), policy, context, lifeStageKey, k)
+                : catalog.scan(policy, context, lifeStageKey, k);
+    }
 
-            double score = calculateScore(food, monthlyCost, monthlyBudget);
-            String reason = generateReason(food, monthlyCost, monthlyBudget, lifeStageKey);
+    /**
+     * 생애 단계·예산 조건을 만족하는 후보의 (월 비용, 점수) 상부 볼록 껍질을 구합니다. (다묘 추천)
+     *
+     * 추천과 같은 샤드 인덱스·특화 스캔 루프를 사용하며, 병렬 임계값 이상이면 샤드별 껍질을 병렬로 구해 병합합니다.
+     *
+     * @param context 고양이·예산 변수가 설정된 점수 컨텍스트 (변경하지 않음)
+     */
+    CatalogIndex.Hull costScoreHull(ScoringPolicy policy, ScoringContext context, String lifeStageKey) {
+        CatalogIndex catalog = getCatalogIndex();
+        return catalog.size() >= parallelThreshold
+                ? catalog.parallelHull(getScanPool(), policy, context, lifeStageKey)
+                : catalog.hull(policy, context, lifeStageKey);
+    }
 
-            FoodRecommendation rec = new FoodRecommendation();
-            rec.setFoodName(food.getName());
-            rec.setBrand(food.getBrand());
-            rec.setType(food.getType());
-            rec.setDailyAmountGrams(Math.round(dailyAmountGrams * 10.0) / 10.0);
-            rec.setDailyCost(dailyCost);
-            rec.setMonthlyCost(monthlyCost);
-            rec.setProteinPercent(food.getProteinPercent());
-            rec.setFatPercent(food.getFatPercent());
-            rec.setScore(score);
-            rec.setReason(reason);
+    /**
+     * 일일 권장 칼로리 기준 월 급여 비용(원)을 계산합니다. (30일 기준, 일 비용 올림)
+     */
+    int calculateMonthlyCost(CatFood food, double dailyCalories) {
+        return monthlyCost(dailyCalories, food.getKcalPer100g(), food.getPricePerKg());
+    }
 
-            recommendations.add(rec);
-        }
+    private int calculateDailyCost(CatFood food, double dailyCalories) {
+        return dailyCost(dailyCalories, food.getKcalPer100g(), food.getPricePerKg());
+    }
 
-        recommendations.sort((a, b) -> Double.compare(b.getScore(), a.getScore()));
-        List<FoodRecommendation> top5 = recommendations.stream().limit(5).collect(Collectors.toList());
+    private double calculateDailyAmountGrams(CatFood food, double dailyCalories) {
+        return dailyAmountGrams(dailyCalories, food.getKcalPer100g());
+    }
 
-        for (int i = 0; i < top5.size(); i++) {
-            top5.get(i).setRank(i + 1);
-        }
+    /*
+     * 기본형 인자 버전 (샤드 스캔에서 CatFood 객체 없이 사용)
+     */
 
-        logger.info("추천 완료 - 후보 {}개 중 {}개 추천", recommendations.size(), top5.size());
+    static int monthlyCost(double dailyCalories, double kcalPer100g, int pricePerKg) {
+        return dailyCost(dailyCalories, kcalPer100g, pricePerKg) * DAYS_PER_MONTH;
+    }
 
-        if (top5.isEmpty()) {
-            logger.warn("예산 {}원 내에서 적합한 사료를 찾지 못함", monthlyBudget);
-        }
+    private static int dailyCost(double dailyCalories, double kcalPer100g, int pricePerKg) {
+        return (int) Math.ceil(dailyAmountGrams(dailyCalories, kcalPer100g) / 1000.0 * pricePerKg);
+    }
+
+    private static double dailyAmountGrams(double dailyCalories, double kcalPer100g) {
+        return dailyCalories / kcalPer100g * 100.0;
+    }
 
-        return new RecommendResponse(dailyCalories, rer, lifeFactor, lifeStageDesc, formula, top5);
+    /**
+     * 사료 한 건의 추천 결과를 생성합니다. (순위는 호출 측에서 지정)
+     *
+     * @param context 고양이·예산 변수가 설정된 점수 컨텍스트 (후보 사료 변수는 여기서 설정)
+     */
+    FoodRecommendation toRecommendation(ScoringPolicy policy, ScoringContext context, CatFood food, int monthlyCost) {
+        double dailyCalories = context.dailyCalories;
+        context.food(food, monthlyCost);
+        double dailyAmountGrams = calculateDailyAmountGrams(food, dailyCalories);
+
+        FoodRecommendation rec = new FoodRecommendation();
+        rec.setFoodId(food.getId());
+        rec.setFoodName(food.getName());
+        rec.setBrand(food.getBrand());
+        rec.setType(food.getType());
+        rec.setDailyAmountGrams(Math.round(dailyAmountGrams * 10.0) / 10.0);
+        rec.setDailyCost(calculateDailyCost(food, dailyCalories));
+        rec.setMonthlyCost(monthlyCost);
+        rec.setProteinPercent(food.getProteinPercent());
+        rec.setFatPercent(food.getFatPercent());
+        rec.setScore(policy.score(context));
+        rec.setReason(policy.reason(context));
+        return rec;
     }
 
     /**
@@ -106,7 +305,7 @@ public class CatFoodRecommendService {
      * - SENIOR 사료: 노령묘(84개월+)에게만 적합
      * - ALL 사료: 전 연령 적합
      */
-    private boolean isAgeAppropriate(CatFood food, String lifeStageKey) {
+    boolean isAgeAppropriate(CatFood food, String lifeStageKey) {
         return switch (food.getLifeStage()) {
             case "ALL" -> true;
             case "KITTEN" -> "KITTEN".equals(lifeStageKey);
@@ -117,45 +316,10 @@ public class CatFoodRecommendService {
     }
 
     /**
-     * 추천 점수를 계산합니다.
-     * 단백질 함량 60% + 예산 여유율 40%
+     * 점수 정책으로 후보 사료의 추천 점수를 계산합니다.
      */
-    private double calculateScore(CatFood food, int monthlyCost, int monthlyBudget) {
-        double proteinScore = food.getProteinPercent();
-        double budgetRemainingRatio = (double)(monthlyBudget - monthlyCost) / monthlyBudget * 100.0;
-        return proteinScore * 0.6 + budgetRemainingRatio * 0.4;
-    }
-
-    /**
-     * 추천 이유 문자열을 생성합니다.
-     */
-    private String generateReason(CatFood food, int monthlyCost, int monthlyBudget, String lifeStageKey) {
-        List<String> reasons = new ArrayList<>();
-
-        if (food.getProteinPercent() >= 38.0) {
-            reasons.add("고단백 프리미엄 사료");
-        } else if (food.getProteinPercent() >= 33.0) {
-            reasons.add("균형 잡힌 단백질 함량");
-        }
-
-        int budgetUsagePercent = monthlyCost * 100 / monthlyBudget;
-        if (budgetUsagePercent <= 50) {
-            reasons.add("예산 절약형 (예산의 " + budgetUsagePercent + "% 사용)");
-        } else if (budgetUsagePercent <= 75) {
-            reasons.add("합리적인 가격 (예산의 " + budgetUsagePercent + "% 사용)");
-        }
-
-        if ("KITTEN".equals(lifeStageKey) && "KITTEN".equals(food.getLifeStage())) {
-            reasons.add("성장기 전용 영양 설계");
-        }
-        if ("SENIOR".equals(lifeStageKey) && "SENIOR".equals(food.getLifeStage())) {
-            reasons.add("노령묘 맞춤 영양 설계");
-        }
-        if ("WET".equals(food.getType())) {
-            reasons.add("수분 보충에 도움");
-        }
-
-        return reasons.isEmpty() ? "기본 영양 균형 충족" : String.join(", ", reasons);
+    double calculateScore(ScoringPolicy policy, ScoringContext context, CatFood food, int monthlyCost) {
+        return policy.score(context.food(food, monthlyCost));
     }
 
     /**
@@ -0,0 +1,488 @@
+package com.catfood.service;
+
+import com.catfood.model.CatFood;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiPredicate;
+
+/**
+ * 사료 카탈로그의 샤드 단위 인덱스
+ *
+ * 추천 점수 계산에 필요한 필드(점수 정책 변수)만 샤드별 배열(struct-of-arrays)로 보관하여,
+ * 대규모 카탈로그 스캔 시 CatFood 객체 참조를 따라가지 않고 연속 메모리를 순회합니다.
+ *
+ * 기본 샤드 크기(4096개)는 샤드 하나의 배열 합계(약 150KB)가 L2 캐시에 들어가도록 정한 값입니다.
+ * (형태·생애 단계 문자열은 카탈로그 전체가 공유하는 소수의 인스턴스를 참조)
+ * 병렬 스캔은 ForkJoinPool 에서 샤드 범위를 분할 정복하며, 작업마다 상위 K개를 유지한 뒤 병합합니다.
+ * 다묘 추천의 (월 비용, 점수) 볼록 껍질도 같은 방식으로 작업마다 구한 뒤 병합합니다.
+ * 작업 하나는 샤드 하나가 아니라 연속한 샤드 묶음(스레드당 TASKS_PER_THREAD 개 분량)을 차례로 스캔하므로,
+ * 작업 생성·병합 비용이 샤드 수가 아니라 병렬도에 비례합니다. (병렬도 1 이면 작업 1개 = 순차 스캔)
+ */
+final class CatalogIndex {
+
+    static final int DEFAULT_SHARD_SIZE = 4096;
+
+    /**
+     * 스레드당 작업 수 (샤드마다 후보 분포가 달라 작업 시간이 고르지 않으므로 여러 개로 나누어 work-stealing)
+     */
+    static final int TASKS_PER_THREAD = 4;
+
+    private static final String[] LIFE_STAGE_KEYS = {"KITTEN", "ADULT", "SENIOR"};
+
+    private final List<CatFood> foods;
+    final Shard[] shards;
+
+    private CatalogIndex(List<CatFood> foods, Shard[] shards) {
+        this.foods = foods;
+        this.shards = shards;
+    }
+
+    /**
+     * 카탈로그로부터 인덱스를 구성합니다.
+     *
+     * @param foods      사료 목록 (변경 불가 목록으로 보관)
+     * @param shardSize  샤드당 사료 수
+     * @param ageFilter  사료-생애 단계 키 적합성 판정 (샤드에는 비트마스크로 저장)
+     */
+    static CatalogIndex build(List<CatFood> foods, int shardSize, BiPredicate<CatFood, String> ageFilter) {
+        List<CatFood> snapshot = List.copyOf(foods);
+        int shardCount = (snapshot.size() + shardSize - 1) / shardSize;
+        Shard[] shards = new Shard[shardCount];
+
+        for (int s = 0; s < shardCount; s++) {
+            int offset = s * shardSize;
+            int length = Math.min(shardSize, snapshot.size() - offset);
+            Shard shard = new Shard(offset, length);
+            for (int i = 0; i < length; i++) {
+                CatFood food = snapshot.get(offset + i);
+                shard.kcalPer100g[i] = food.getKcalPer100g();
+                shard.pricePerKg[i] = food.getPricePerKg();
+                shard.proteinPercent[i] = food.getProteinPercent();
+                shard.fatPercent[i] = food.getFatPercent();
+                shard.types[i] = food.getType();
+                shard.lifeStages[i] = food.getLifeStage();
+                shard.lifeStageMask[i] = lifeStageMask(food, ageFilter);
+            }
+            shards[s] = shard;
+        }
+        return new CatalogIndex(snapshot, shards);
+    }
+
+    List<CatFood> foods() {
+        return foods;
+    }
+
+    int size() {
+        return foods.size();
+    }
+
+    /**
+     * 전체 샤드를 ForkJoinPool 에서 병렬 스캔하여 점수 상위 k개를 반환합니다.
+     *
+     * 동점은 카탈로그 순서가 앞선 사료를 우선하므로, 순차 스캔 후 안정 정렬한 결과와 동일합니다.
+     *
+     * @param context 고양이·예산 변수가 설정된 점수 컨텍스트 (샤드 작업이 각자 복사해 사용하며 변경하지 않음)
+     */
+    TopK parallelScan(ForkJoinPool pool, ScoringPolicy policy, ScoringContext context, String lifeStageKey, int k) {
+        byte stageBit = lifeStageBit(lifeStageKey);
+        return pool.invoke(new ScanTask(this, 0, shards.length, leafShards(pool), policy, context, stageBit, k));
+    }
+
+    /**
+     * 호출 스레드에서 전체 샤드를 차례로 스캔하여 점수 상위 k개를 반환합니다. (병렬 임계값 미만 카탈로그)
+     *
+     * @param context 고양이·예산 변수가 설정된 점수 컨텍스트 (변경하지 않음)
+     */
+    TopK scan(ScoringPolicy policy, ScoringContext context, String lifeStageKey, int k) {
+        return scanShards(0, shards.length, policy, context, lifeStageBit(lifeStageKey), k);
+    }
+
+    /**
+     * 전체 샤드를 ForkJoinPool 에서 병렬 스캔하여 후보의 (월 비용, 점수) 상부 볼록 껍질을 반환합니다.
+     *
+     * @param context 고양이·예산 변수가 설정된 점수 컨텍스트 (변경하지 않음)
+     */
+    Hull parallelHull(ForkJoinPool pool, ScoringPolicy policy, ScoringContext context, String lifeStageKey) {
+        byte stageBit = lifeStageBit(lifeStageKey);
+        return pool.invoke(new HullTask(this, 0, shards.length, leafShards(pool), policy, context, stageBit))
+                .resolve(foods);
+    }
+
+    /**
+     * 작업 하나가 차례로 스캔할 샤드 수
+     */
+    private int leafShards(ForkJoinPool pool) {
+        int tasks = pool.getParallelism() * TASKS_PER_THREAD;
+        return Math.max(1, (shards.length + tasks - 1) / tasks);
+    }
+
+    /**
+     * 호출 스레드에서 전체 샤드를 차례로 스캔하여 후보의 (월 비용, 점수) 상부 볼록 껍질을 반환합니다.
+     *
+     * @param context 고양이·예산 변수가 설정된 점수 컨텍스트 (변경하지 않음)
+     */
+    Hull hull(ScoringPolicy policy, ScoringContext context, String lifeStageKey) {
+        return hullShards(0, shards.length, policy, context, lifeStageBit(lifeStageKey)).resolve(foods);
+    }
+
+    /**
+     * 샤드 범위 [from, to) 를 차례로 스캔하여 점수 상위 k개를 반환합니다.
+     */
+    private TopK scanShards(int from, int to, ScoringPolicy policy, ScoringContext context, byte stageBit, int k) {
+        ShardScanner scanner = policy.scanner();
+        TopK top = new TopK(k);
+        for (int s = from; s < to; s++) {
+            scanner.scan(shards[s], context, stageBit, top);
+        }
+        return top;
+    }
+
+    /**
+     * 샤드 범위 [from, to) 의 후보를 샤드별 볼록 껍질로 축약하며 차례로 병합합니다.
+     */
+    private Hull hullShards(int from, int to, ScoringPolicy policy, ScoringContext context, byte stageBit) {
+        Hull hull = new Hull();
+        for (int s = from; s < to; s++) {
+            hull.mergeFrom(shardHull(shards[s], policy, context, stageBit));
+        }
+        return hull;
+    }
+
+    /**
+     * 샤드 하나의 후보를 모아 볼록 껍질로 축약합니다. (병합 전 후보 수를 샤드 크기 이하로 유지)
+     */
+    private Hull shardHull(Shard shard, ScoringPolicy policy, ScoringContext context, byte stageBit) {
+        Hull hull = new Hull();
+        policy.scanner().collect(shard, context, stageBit, hull);
+        hull.reduce();
+        return hull;
+    }
+
+    private static byte lifeStageMask(CatFood food, BiPredicate<CatFood, String> ageFilter) {
+        byte mask = 0;
+        for (String key : LIFE_STAGE_KEYS) {
+            if (ageFilter.test(food, key)) {
+                mask |= lifeStageBit(key);
+            }
+        }
+        return mask;
+    }
+
+    private static byte lifeStageBit(String lifeStageKey) {
+        return switch (lifeStageKey) {
+            case "KITTEN" -> 1;
+            case "ADULT" -> 2;
+            case "SENIOR" -> 4;
+            default -> 0;
+        };
+    }
+
+    /**
+     * 샤드 스캔 루프 (점수 정책마다 특화된 구현, ScoringKernel)
+     */
+    interface ShardScanner {
+
+        void scan(Shard shard, ScoringContext context, byte stageBit, TopK top);
+
+        /**
+         * 조건을 만족하는 후보를 모두 hull 에 넣습니다. (축약은 호출 측)
+         */
+        void collect(Shard shard, ScoringContext context, byte stageBit, Hull hull);
+
+        /**
+         * 점수 식이 스캔 루프에 인라인되었는지 여부 (false 면 후보마다 핸들 호출)
+         */
+        boolean specialized();
+    }
+
+    /**
+     * 사료 카탈로그의 연속 구간 (필드별 기본형 배열)
+     */
+    static final class Shard {
+
+        final int offset;
+        final int length;
+        final double[] kcalPer100g;
+        final int[] pricePerKg;
+        final double[] proteinPercent;
+        final double[] fatPercent;
+        final String[] types;
+        final String[] lifeStages;
+        final byte[] lifeStageMask;
+
+        Shard(int offset, int length) {
+            this.offset = offset;
+            this.length = length;
+            this.kcalPer100g = new double[length];
+            this.pricePerKg = new int[length];
+            this.proteinPercent = new double[length];
+            this.fatPercent = new double[length];
+            this.types = new String[length];
+            this.lifeStages = new String[length];
+            this.lifeStageMask = new byte[length];
+        }
+    }
+
+    /**
+     * 샤드 범위 [from, to) 를 leafShards 개 이하가 될 때까지 반으로 나누어 스캔하고 상위 k개를 병합하는 작업
+     */
+    private static final class ScanTask extends RecursiveTask<TopK> {
+
+        private final CatalogIndex index;
+        private final int from;
+        private final int to;
+        private final int leafShards;
+        private final ScoringPolicy policy;
+        private final ScoringContext context;
+        private final byte stageBit;
+        private final int k;
+
+        ScanTask(CatalogIndex index, int from, int to, int leafShards, ScoringPolicy policy, ScoringContext context,
+                 byte stageBit, int k) {
+            this.index = index;
+            this.from = from;
+            this.to = to;
+            this.leafShards = leafShards;
+            this.policy = policy;
+            this.context = context;
+            this.stageBit = stageBit;
+            this.k = k;
+        }
+
+        @Override
+        protected TopK compute() {
+            if (to - from <= leafShards) {
+                return index.scanShards(from, to, policy, context, stageBit, k);
+            }
+            int mid = (from + to) >>> 1;
+            ScanTask left = new ScanTask(index, from, mid, leafShards, policy, context, stageBit, k);
+            ScanTask right = new ScanTask(index, mid, to, leafShards, policy, context, stageBit, k);
+            left.fork();
+            TopK result = right.compute();
+            result.mergeFrom(left.join());
+            return result;
+        }
+    }
+
+    /**
+     * 샤드 범위 [from, to) 를 leafShards 개 이하가 될 때까지 반으로 나누어 볼록 껍질을 구하고 병합하는 작업
+     */
+    private static final class HullTask extends RecursiveTask<Hull> {
+
+        private final CatalogIndex index;
+        private final int from;
+        private final int to;
+        private final int leafShards;
+        private final ScoringPolicy policy;
+        private final ScoringContext context;
+        private final byte stageBit;
+
+        HullTask(CatalogIndex index, int from, int to, int leafShards, ScoringPolicy policy, ScoringContext context,
+                 byte stageBit) {
+            this.index = index;
+            this.from = from;
+            this.to = to;
+            this.leafShards = leafShards;
+            this.policy = policy;
+            this.context = context;
+            this.stageBit = stageBit;
+        }
+
+        @Override
+        protected Hull compute() {
+            if (to - from <= leafShards) {
+                return index.hullShards(from, to, policy, context, stageBit);
+            }
+            int mid = (from + to) >>> 1;
+            HullTask left = new HullTask(index, from, mid, leafShards, policy, context, stageBit);
+            HullTask right = new HullTask(index, mid, to, leafShards, policy, context, stageBit);
+            left.fork();
+            Hull result = right.compute();
+            // 카탈로그 순번 오름차순을 유지하도록 왼쪽 뒤에 오른쪽을 붙임
+            Hull merged = left.join();
+            merged.mergeFrom(result);
+            return merged;
+        }
+    }
+
+    /**
+     * 후보의 (월 비용, 점수) 평면 상부 볼록 껍질 (월 비용 오름차순)
+     *
+     * 같은 월 비용이면 점수가 높은 후보, 점수도 같으면 카탈로그 순번이 앞선 후보만 남기며,
+     * 더 싸거나 같은 비용에 점수가 같거나 높은 후보가 있는 후보와 선분 위·아래의 후보는 제거합니다.
+     * 샤드별 껍질을 합친 뒤 다시 축약해도 전체 후보의 껍질과 같으므로 샤드 단위로 구해 병합합니다.
+     * 후보는 카탈로그 순번 오름차순으로 넣어야 합니다.
+     */
+    static final class Hull {
+
+        private int[] indices = new int[16];
+        private int[] monthlyCosts = new int[16];
+        private double[] scores = new double[16];
+        private int size;
+        private CatFood[] foods;
+
+        void offer(int index, int monthlyCost, double score) {
+            if (size == indices.length) {
+                int capacity = size * 2;
+                indices = Arrays.copyOf(indices, capacity);
+                monthlyCosts = Arrays.copyOf(monthlyCosts, capacity);
+                scores = Arrays.copyOf(scores, capacity);
+            }
+            indices[size] = index;
+            monthlyCosts[size] = monthlyCost;
+            scores[size] = score;
+            size++;
+        }
+
+        void mergeFrom(Hull other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.indices[i], other.monthlyCosts[i], other.scores[i]);
+            }
+            reduce();
+        }
+
+        /**
+         * 모인 후보를 볼록 껍질로 축약합니다.
+         */
+        void reduce() {
+            // (월 비용, 입력 순번) 정렬: 월 비용은 0 이상 int 이므로 상위 32비트에 둠
+            long[] order = new long[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = ((long) monthlyCosts[i] << 32) | i;
+            }
+            Arrays.sort(order);
+
+            int[] hullIndices = new int[size];
+            int[] hullCosts = new int[size];
+            double[] hullScores = new double[size];
+            int n = 0;
+            int i = 0;
+            while (i < size) {
+                // 같은 월 비용 중 점수 최고 후보 (동점이면 입력 순번이 앞선 후보)
+                int best = (int) order[i];
+                int monthlyCost = monthlyCosts[best];
+                for (i++; i < size && monthlyCosts[(int) order[i]] == monthlyCost; i++) {
+                    if (scores[(int) order[i]] > scores[best]) best = (int) order[i];
+                }
+                double score = scores[best];
+
+                if (n > 0 && score <= hullScores[n - 1]) continue;
+                while (n >= 2) {
+                    double cross = (double) (hullCosts[n - 1] - hullCosts[n - 2]) * (score - hullScores[n - 2])
+                            - (hullScores[n - 1] - hullScores[n - 2]) * (double) (monthlyCost - hullCosts[n - 2]);
+                    if (cross < 0) break;
+                    n--;
+                }
+                hullIndices[n] = indices[best];
+                hullCosts[n] = monthlyCost;
+                hullScores[n] = score;
+                n++;
+            }
+            indices = hullIndices;
+            monthlyCosts = hullCosts;
+            scores = hullScores;
+            size = n;
+        }
+
+        private Hull resolve(List<CatFood> catalog) {
+            foods = new CatFood[size];
+            for (int i = 0; i < size; i++) {
+                foods[i] = catalog.get(indices[i]);
+            }
+            return this;
+        }
+
+        int size() {
+            return size;
+        }
+
+        CatFood food(int rank) {
+            return foods[rank];
+        }
+
+        int monthlyCost(int rank) {
+            return monthlyCosts[rank];
+        }
+
+        double score(int rank) {
+            return scores[rank];
+        }
+    }
+
+    /**
+     * 점수 상위 k개 (점수 내림차순, 동점 시 카탈로그 순번 오름차순)
+     *
+     * k 가 작으므로(추천 5개, 다묘 국소 탐색 32개) 힙 대신 정렬 배열 삽입을 사용합니다.
+     */
+    static final class TopK {
+
+        private final int[] indices;
+        private final int[] monthlyCosts;
+        private final double[] scores;
+        private int size;
+        private long candidateCount;
+
+        TopK(int k) {
+            this.indices = new int[k];
+            this.monthlyCosts = new int[k];
+            this.scores = new double[k];
+        }
+
+        void offer(int index, int monthlyCost, double score) {
+            int capacity = indices.length;
+            if (size == capacity && !isBetter(score, index, scores[size - 1], indices[size - 1])) {
+                return;
+            }
+            int pos = Math.min(size, capacity - 1);
+            while (pos > 0 && isBetter(score, index, scores[pos - 1], indices[pos - 1])) {
+                indices[pos] = indices[pos - 1];
+                monthlyCosts[pos] = monthlyCosts[pos - 1];
+                scores[pos] = scores[pos - 1];
+                pos--;
+            }
+            indices[pos] = index;
+            monthlyCosts[pos] = monthlyCost;
+            scores[pos] = score;
+            if (size < capacity) size++;
+        }
+
+        void countCandidate() {
+            candidateCount++;
+        }
+
+        void mergeFrom(TopK other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.indices[i], other.monthlyCosts[i], other.scores[i]);
+            }
+            candidateCount += other.candidateCount;
+        }
+
+        private static boolean isBetter(double score, int index, double otherScore, int otherIndex) {
+            int cmp = Double.compare(score, otherScore);
+            return cmp > 0 || (cmp == 0 && index < otherIndex);
+        }
+
+        int size() {
+            return size;
+        }
+
+        int index(int rank) {
+            return indices[rank];
+        }
+
+        int monthlyCost(int rank) {
+            return monthlyCosts[rank];
+        }
+
+        double score(int rank) {
+            return scores[rank];
+        }
+
+        long candidateCount() {
+            return candidateCount;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.catfood.service;
+
+import com.catfood.dto.CatalogColumns;
+import com.catfood.dto.CatalogSnapshot;
+import com.catfood.dto.ScoringPolicyDefinition;
+import com.catfood.dto.SnapshotParameters;
+import com.catfood.model.CatFood;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 클라이언트 추천 엔진(static/js/recommend-engine.js)용 카탈로그 스냅샷 서비스
+ *
+ * 칼로리 계산·비용 산정 파라미터, 점수 정책 정의, 사료 목록(열 단위 배열)을 JSON 으로 직렬화하고,
+ * gzip 압축본과 함께 캐시합니다. 카탈로그나 점수 정책이 교체되면 다음 요청 시 다시 만듭니다.
+ *
+ * 버전은 version 을 비운 JSON 의 SHA-256 앞 16자리입니다.
+ * 파라미터·점수 정책·사료 목록이 바뀔 때만 버전이 바뀌므로 ETag 로 그대로 사용합니다.
+ */
+@Service
+public class CatalogSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogSnapshotService.class);
+
+    private final CatFoodRecommendService recommendService;
+    private final ObjectMapper objectMapper;
+    private volatile Cached cached;
+
+    public CatalogSnapshotService(CatFoodRecommendService recommendService, ObjectMapper objectMapper) {
+        this.recommendService = recommendService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 현재 카탈로그의 스냅샷을 반환합니다.
+     */
+    public Payload current() {
+        List<CatFood> foods = recommendService.getCatalog();
+        ScoringPolicyService scoringPolicyService = recommendService.scoringPolicyService();
+        Map<String, ScoringPolicy> policies = scoringPolicyService.policies();
+        Cached current = cached;
+        if (current == null || !current.isFor(foods, policies)) {
+            synchronized (this) {
+                current = cached;
+                if (current == null || !current.isFor(foods, policies)) {
+                    current = new Cached(foods, policies, build(foods, scoringPolicyService, policies));
+                    cached = current;
+                    logger.info("카탈로그 스냅샷 생성 - 버전: {}, 사료 {}개, JSON {}B, gzip {}B",
+                            current.payload().version(), foods.size(),
+                            current.payload().json().length, current.payload().gzip().length);
+                }
+            }
+        }
+        return current.payload();
+    }
+
+    private Payload build(List<CatFood> foods, ScoringPolicyService scoringPolicyService,
+                          Map<String, ScoringPolicy> policies) {
+        Map<String, ScoringPolicyDefinition> definitions = new LinkedHashMap<>();
+        policies.forEach((name, policy) -> definitions.put(name, policy.definition()));
+
+        CatalogSnapshot snapshot = new CatalogSnapshot();
+        snapshot.setParameters(parameters());
+        snapshot.setDefaultScoringPolicy(scoringPolicyService.defaultPolicyName());
+        snapshot.setScoringPolicies(definitions);
+        snapshot.setFoods(columns(foods));
+
+        String version = HexFormat.of().formatHex(sha256(serialize(snapshot)), 0, 8);
+        snapshot.setVersion(version);
+        byte[] json = serialize(snapshot);
+        return new Payload(version, json, gzip(json));
+    }
+
+    static SnapshotParameters parameters() {
+        Map<String, Double> lifeFactors = new LinkedHashMap<>();
+        lifeFactors.put("newbornKitten", CalorieCalculationService.NEWBORN_KITTEN_FACTOR);
+        lifeFactors.put("growingKitten", CalorieCalculationService.GROWING_KITTEN_FACTOR);
+        lifeFactors.put("senior", CalorieCalculationService.SENIOR_FACTOR);
+        lifeFactors.put("neuteredMale", CalorieCalculationService.NEUTERED_MALE_FACTOR);
+        lifeFactors.put("neuteredFemale", CalorieCalculationService.NEUTERED_FEMALE_FACTOR);
+        lifeFactors.put("intactMale", CalorieCalculationService.INTACT_MALE_FACTOR);
+        lifeFactors.put("intactFemale", CalorieCalculationService.INTACT_FEMALE_FACTOR);
+
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setRerCoefficient(CalorieCalculationService.RER_COEFFICIENT);
+        parameters.setRerExponent(CalorieCalculationService.RER_EXPONENT);
+        parameters.setGrowingKittenMonths(CalorieCalculationService.GROWING_KITTEN_MONTHS);
+        parameters.setAdultMonths(CalorieCalculationService.ADULT_MONTHS);
+        parameters.setSeniorMonths(CalorieCalculationService.SENIOR_MONTHS);
+        parameters.setLifeFactors(lifeFactors);
+        parameters.setDaysPerMonth(CatFoodRecommendService.DAYS_PER_MONTH);
+        parameters.setTopN(CatFoodRecommendService.TOP_N);
+        return parameters;
+    }
+
+    private static CatalogColumns columns(List<CatFood> foods) {
+        int n = foods.size();
+        CatalogColumns columns = new CatalogColumns();
+        columns.setIds(new String[n]);
+        columns.setNames(new String[n]);
+        columns.setBrands(new String[n]);
+        columns.setTypes(new String[n]);
+        columns.setLifeStages(new String[n]);
+        columns.setKcalPer100g(new double[n]);
+        columns.setPricePerKg(new int[n]);
+        columns.setProteinPercent(new double[n]);
+        columns.setFatPercent(new double[n]);
+
+        for (int i = 0; i < n; i++) {
+            CatFood food = foods.get(i);
+            columns.getIds()[i] = food.getId();
+            columns.getNames()[i] = food.getName();
+            columns.getBrands()[i] = food.getBrand();
+            columns.getTypes()[i] = food.getType();
+            columns.getLifeStages()[i] = food.getLifeStage();
+            columns.getKcalPer100g()[i] = food.getKcalPer100g();
+            columns.getPricePerKg()[i] = food.getPricePerKg();
+            columns.getProteinPercent()[i] = food.getProteinPercent();
+            columns.getFatPercent()[i] = food.getFatPercent();
+        }
+        return columns;
+    }
+
+    private byte[] serialize(CatalogSnapshot snapshot) {
+        try {
+            return objectMapper.writeValueAsBytes(snapshot);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("카탈로그 스냅샷 직렬화 실패", e);
+        }
+    }
+
+    private static byte[] sha256(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 직렬화된 스냅샷 (JSON 원문 및 gzip 압축본)
+     */
+    public record Payload(String version, byte[] json, byte[] gzip) {
+    }
+
+    private record Cached(List<CatFood> foods, Map<String, ScoringPolicy> policies, Payload payload) {
+
+        boolean isFor(List<CatFood> foods, Map<String, ScoringPolicy> policies) {
+            return this.foods == foods && this.policies == policies;
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package com.catfood.service;
+
+import com.catfood.model.CatFood;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * 사료 카탈로그 검색 인덱스
+ *
+ * 텍스트 검색:
+ *   - name, brand, description, id 를 NFKC 정규화·토큰화하고 한글 음절은 자모(초성·중성·종성)로 분해
+ *     (질의도 같은 grams 로 정규화하므로 호환 자모 ㄱ·ㅏ 는 색인의 첫가끝 자모와 일치)
+ *   - 토큰 앞뒤에 경계 문자를 붙인 자모/문자 3-gram 역색인 (gram → 정렬된 문서 번호 배열)
+ *   - 질의 3-gram 중 MIN_MATCH_RATIO 이상이 일치하는 문서를 매칭 (오타 한두 글자 허용)
+ *
+ * 패싯 필터:
+ *   - brand, type, lifeStage 값별 BitSet, 단백질·가격 범위는 정렬 배열 이분 탐색 → BitSet
+ *   - 필터 조합은 BitSet AND/OR, 패싯 개수는 BitSet cardinality 로 계산
+ *
+ * 카탈로그 스냅샷마다 새로 구성되는 불변 객체입니다.
+ */
+final class FoodSearchIndex {
+
+    static final double MIN_MATCH_RATIO = 0.5;
+
+    private static final int GRAM_SIZE = 3;
+    private static final char TOKEN_START = '\u0002';
+    private static final char TOKEN_END = '\u0003';
+
+    private static final int HANGUL_BASE = 0xAC00;
+    private static final int HANGUL_LAST = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private final List<CatFood> foods;
+    private final Map<String, int[]> postings;
+    private final Map<String, Map<String, BitSet>> facets;
+    private final int[] byProtein;
+    private final double[] sortedProtein;
+    private final int[] byPrice;
+    private final double[] sortedPrice;
+
+    private FoodSearchIndex(List<CatFood> foods, Map<String, int[]> postings, Map<String, Map<String, BitSet>> facets,
+                            int[] byProtein, double[] sortedProtein, int[] byPrice, double[] sortedPrice) {
+        this.foods = foods;
+        this.postings = postings;
+        this.facets = facets;
+        this.byProtein = byProtein;
+        this.sortedProtein = sortedProtein;
+        this.byPrice = byPrice;
+        this.sortedPrice = sortedPrice;
+    }
+
+    static FoodSearchIndex build(List<CatFood> foods) {
+        Map<String, List<Integer>> gramDocs = new HashMap<>();
+        Map<String, Map<String, BitSet>> facets = new LinkedHashMap<>();
+        facets.put("brand", new LinkedHashMap<>());
+        facets.put("type", new LinkedHashMap<>());
+        facets.put("lifeStage", new LinkedHashMap<>());
+
+        for (int doc = 0; doc < foods.size(); doc++) {
+            CatFood food = foods.get(doc);
+            String text = String.join(" ", nullToEmpty(food.getName()), nullToEmpty(food.getBrand()),
+                    nullToEmpty(food.getDescription()), nullToEmpty(food.getId()));
+            for (String gram : grams(text)) {
+                gramDocs.computeIfAbsent(gram, key -> new ArrayList<>()).add(doc);
+            }
+            facets.get("brand").computeIfAbsent(food.getBrand(), key -> new BitSet()).set(doc);
+            facets.get("type").computeIfAbsent(food.getType(), key -> new BitSet()).set(doc);
+            facets.get("lifeStage").computeIfAbsent(food.getLifeStage(), key -> new BitSet()).set(doc);
+        }
+
+        Map<String, int[]> postings = new HashMap<>(gramDocs.size() * 2);
+        gramDocs.forEach((gram, docs) -> postings.put(gram, docs.stream().mapToInt(Integer::intValue).toArray()));
+
+        int[] byProtein = sortedDocs(foods.size(), (a, b) ->
+                Double.compare(foods.get(a).getProteinPercent(), foods.get(b).getProteinPercent()));
+        double[] sortedProtein = Arrays.stream(byProtein).mapToDouble(doc -> foods.get(doc).getProteinPercent()).toArray();
+        int[] byPrice = sortedDocs(foods.size(), (a, b) ->
+                Integer.compare(foods.get(a).getPricePerKg(), foods.get(b).getPricePerKg()));
+        double[] sortedPrice = Arrays.stream(byPrice).mapToDouble(doc -> foods.get(doc).getPricePerKg()).toArray();
+
+        return new FoodSearchIndex(foods, postings, facets, byProtein, sortedProtein, byPrice, sortedPrice);
+    }
+
+    List<CatFood> foods() {
+        return foods;
+    }
+
+    int size() {
+        return foods.size();
+    }
+
+    BitSet all() {
+        BitSet bits = new BitSet(foods.size());
+        bits.set(0, foods.size());
+        return bits;
+    }
+
+    /**
+     * 질의 텍스트와 일치하는 문서와 문서별 일치 3-gram 수를 구합니다. (미달 문서 제외)
+     *
+     * 질의 3-gram 의 포스팅 목록만 이어 붙여 정렬한 뒤 같은 문서 번호를 세므로,
+     * 카탈로그 크기가 아니라 포스팅 길이 합계에 비례하는 메모리만 사용합니다.
+     */
+    TextMatch matchText(String query) {
+        Set<String> queryGrams = grams(query);
+        if (queryGrams.isEmpty()) return new TextMatch(0, new BitSet(), new int[0], new int[0]);
+
+        int total = 0;
+        List<int[]> lists = new ArrayList<>(queryGrams.size());
+        for (String gram : queryGrams) {
+            int[] docs = postings.get(gram);
+            if (docs == null) continue;
+            lists.add(docs);
+            total += docs.length;
+        }
+        int[] hits = new int[total];
+        int offset = 0;
+        for (int[] docs : lists) {
+            System.arraycopy(docs, 0, hits, offset, docs.length);
+            offset += docs.length;
+        }
+        Arrays.sort(hits);
+
+        int required = Math.max(1, (int) Math.ceil(queryGrams.size() * MIN_MATCH_RATIO));
+        BitSet matchedDocs = new BitSet(foods.size());
+        int[] docIds = new int[Math.min(total, foods.size())];
+        int[] counts = new int[docIds.length];
+        int size = 0;
+        for (int i = 0; i < total; ) {
+            int doc = hits[i];
+            int run = i;
+            while (i < total && hits[i] == doc) i++;
+            if (i - run >= required) {
+                matchedDocs.set(doc);
+                docIds[size] = doc;
+                counts[size] = i - run;
+                size++;
+            }
+        }
+        return new TextMatch(queryGrams.size(), matchedDocs,
+                Arrays.copyOf(docIds, size), Arrays.copyOf(counts, size));
+    }
+
+    /**
+     * 패싯 값 목록 중 하나라도 일치하는 문서 집합 (값 목록이 비어 있으면 null = 필터 없음)
+     */
+    BitSet facetFilter(String facet, List<String> values) {
+        if (values == null || values.isEmpty()) return null;
+        BitSet bits = new BitSet(foods.size());
+        Map<String, BitSet> byValue = facets.get(facet);
+        for (String value : values) {
+            BitSet valueBits = byValue.get(value);
+            if (valueBits != null) bits.or(valueBits);
+        }
+        return bits;
+    }
+
+    /**
+     * 패싯 값별 문서 수 (결과 집합과의 교집합 기준, 0건 값 제외)
+     */
+    Map<String, Integer> facetCounts(String facet, BitSet result) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        facets.get(facet).forEach((value, bits) -> {
+            BitSet intersection = (BitSet) bits.clone();
+            intersection.and(result);
+            int count = intersection.cardinality();
+            if (count > 0) counts.put(value, count);
+        });
+        return counts;
+    }
+
+    /**
+     * 단백질 함량 범위 [min, max] 에 속하는 문서 집합 (양끝 모두 null 이면 null)
+     */
+    BitSet proteinRange(Double min, Double max) {
+        if (min == null && max == null) return null;
+        int from = min == null ? 0 : lowerBound(sortedProtein, min);
+        int to = max == null ? sortedProtein.length : upperBound(sortedProtein, max);
+        return toBits(byProtein, from, to);
+    }
+
+    /**
+     * kg당 가격 범위 [min, max] 에 속하는 문서 집합 (양끝 모두 null 이면 null)
+     */
+    BitSet priceRange(Integer min, Integer max) {
+        if (min == null && max == null) return null;
+        int from = min == null ? 0 : lowerBound(sortedPrice, min);
+        int to = max == null ? sortedPrice.length : upperBound(sortedPrice, max);
+        return toBits(byPrice, from, to);
+    }
+
+    private BitSet toBits(int[] sortedDocs, int from, int to) {
+        BitSet bits = new BitSet(foods.size());
+        for (int i = from; i < to; i++) {
+            bits.set(sortedDocs[i]);
+        }
+        return bits;
+    }
+
+    /**
+     * 텍스트를 토큰화하여 3-gram 집합을 만듭니다. (NFKC 정규화, 소문자화, 한글 자모 분해, 토큰 경계 문자 추가)
+     *
+     * NFKC 는 호환 자모(ㄱ U+3131, ㅏ U+314F)를 첫가끝 자모(U+1100, U+1161)로 바꾸고, 자모 시퀀스로 입력된
+     * 음절(NFD)은 완성형으로 합치므로 색인 텍스트와 질의가 같은 자모열로 분해됩니다.
+     */
+    static Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text == null) return grams;
+
+        StringBuilder token = new StringBuilder();
+        String lower = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        for (int i = 0; i <= lower.length(); i++) {
+            char c = i < lower.length() ? lower.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                appendDecomposed(token, c);
+            } else if (token.length() > 0) {
+                addTokenGrams(grams, token);
+                token.setLength(0);
+            }
+        }
+        return grams;
+    }
+
+    private static void addTokenGrams(Set<String> grams, CharSequence token) {
+        String padded = TOKEN_START + token.toString() + TOKEN_END;
+        for (int i = 0; i + GRAM_SIZE <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + GRAM_SIZE));
+        }
+    }
+
+    /**
+     * 한글 음절을 초성·중성·종성 자모로 분해하여 덧붙입니다. (그 외 문자는 그대로)
+     */
+    private static void appendDecomposed(StringBuilder out, char c) {
+        if (c < HANGUL_BASE || c > HANGUL_LAST) {
+            out.append(c);
+            return;
+        }
+        int index = c - HANGUL_BASE;
+        int jongseong = index % JONGSEONG_COUNT;
+        int jungseong = (index / JONGSEONG_COUNT) % JUNGSEONG_COUNT;
+        int choseong = index / (JONGSEONG_COUNT * JUNGSEONG_COUNT);
+        out.append((char) (0x1100 + choseong));
+        out.append((char) (0x1161 + jungseong));
+        if (jongseong > 0) {
+            out.append((char) (0x11A7 + jongseong));
+        }
+    }
+
+    /**
+     * 텍스트 검색 결과 (일치 문서 집합 + 문서 번호 오름차순의 일치 3-gram 수)
+     *
+     * @param queryGramCount 질의 3-gram 수 (relevance 분모)
+     */
+    record TextMatch(int queryGramCount, BitSet docs, int[] docIds, int[] counts) {
+
+        /**
+         * 문서의 일치 3-gram 수 (일치하지 않은 문서는 0)
+         */
+        int count(int doc) {
+            int i = Arrays.binarySearch(docIds, doc);
+            return i >= 0 ? counts[i] : 0;
+        }
+    }
+
+    private static int[] sortedDocs(int size, Comparator<Integer> comparator) {
+        return IntStream.range(0, size).boxed().sorted(comparator).mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int lowerBound(double[] values, double key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < key) low = mid + 1; else high = mid;
+        }
+        return low;
+    }
+
+    private static int upperBound(double[] values, double key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= key) low = mid + 1; else high = mid;
+        }
+        return low;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,220 @@
+package com.catfood.service;
+
+import com.catfood.dto.CatFoodSummary;
+import com.catfood.dto.FoodSearchRequest;
+import com.catfood.dto.FoodSearchResponse;
+import com.catfood.model.CatFood;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 사료 카탈로그 검색 서비스
+ *
+ * 텍스트 검색 + 패싯 필터(brand, type, lifeStage, 단백질·가격 범위)를 FoodSearchIndex 로 처리합니다.
+ * 인덱스는 카탈로그 스냅샷이 바뀌면(CatFoodRecommendService.replaceCatalog) 다음 검색 시 재구성됩니다.
+ *
+ * 페이지네이션은 키셋 커서 방식입니다. 정렬 키(일치 3-gram 수 내림차순, id 오름차순)의
+ * 마지막 값을 커서에 담아, 다음 페이지는 그 이후 항목부터 반환합니다.
+ * 전체 결과를 정렬하지 않고, 커서 이후 항목 중 상위 limit + 1 개만 크기 제한 힙으로 고릅니다. (O(N log limit))
+ */
+@Service
+public class FoodSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FoodSearchService.class);
+
+    private static final double[] PROTEIN_BUCKETS = {25.0, 30.0, 35.0, 40.0};
+    private static final int[] PRICE_BUCKETS = {30000, 50000, 70000, 90000};
+
+    private final CatFoodRecommendService recommendService;
+    private volatile FoodSearchIndex searchIndex;
+
+    public FoodSearchService(CatFoodRecommendService recommendService) {
+        this.recommendService = recommendService;
+    }
+
+    /**
+     * 카탈로그를 검색합니다.
+     */
+    public FoodSearchResponse search(FoodSearchRequest request) {
+        FoodSearchIndex index = getSearchIndex();
+        List<CatFood> foods = index.foods();
+        int limit = request.getLimit() != null ? request.getLimit() : 20;
+
+        boolean hasQuery = request.getQ() != null && !request.getQ().isBlank();
+        // 검색어가 없으면 모든 문서의 일치 수가 0 이므로 배열 없이 상수로 처리
+        FoodSearchIndex.TextMatch match = hasQuery ? index.matchText(request.getQ()) : null;
+        IntUnaryOperator matched = match != null ? match::count : doc -> 0;
+        int queryGramCount = match != null ? match.queryGramCount() : 0;
+        BitSet textFilter = match != null ? match.docs() : null;
+
+        Map<String, BitSet> filters = new LinkedHashMap<>();
+        filters.put("brand", index.facetFilter("brand", request.getBrand()));
+        filters.put("type", index.facetFilter("type", request.getType()));
+        filters.put("lifeStage", index.facetFilter("lifeStage", request.getLifeStage()));
+        filters.put("proteinRange", index.proteinRange(request.getMinProtein(), request.getMaxProtein()));
+        filters.put("priceRange", index.priceRange(request.getMinPrice(), request.getMaxPrice()));
+
+        BitSet result = combine(index, textFilter, filters, null);
+
+        Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+        for (String facet : List.of("brand", "type", "lifeStage")) {
+            facets.put(facet, index.facetCounts(facet, combine(index, textFilter, filters, facet)));
+        }
+        facets.put("proteinRange", proteinBuckets(foods, combine(index, textFilter, filters, "proteinRange")));
+        facets.put("priceRange", priceBuckets(foods, combine(index, textFilter, filters, "priceRange")));
+
+        Comparator<Integer> order = Comparator.<Integer>comparingInt(doc -> -matched.applyAsInt(doc))
+                .thenComparing(doc -> foods.get(doc).getId());
+        Cursor cursor = request.getCursor() != null && !request.getCursor().isBlank()
+                ? Cursor.decode(request.getCursor()) : null;
+
+        // 커서 이후 항목 중 정렬 순서 상위 limit + 1 개만 힙으로 유지 (다음 페이지 유무 확인용 1개 포함)
+        PriorityQueue<Integer> page = new PriorityQueue<>(limit + 1, order.reversed());
+        for (int doc = result.nextSetBit(0); doc >= 0; doc = result.nextSetBit(doc + 1)) {
+            if (cursor != null && !cursor.isBefore(matched.applyAsInt(doc), foods.get(doc).getId())) continue;
+            if (page.size() <= limit) {
+                page.add(doc);
+            } else if (order.compare(doc, page.peek()) < 0) {
+                page.poll();
+                page.add(doc);
+            }
+        }
+        List<Integer> docs = new ArrayList<>(page);
+        docs.sort(order);
+
+        int end = Math.min(docs.size(), limit);
+        List<CatFoodSummary> items = new ArrayList<>(end);
+        for (int i = 0; i < end; i++) {
+            int doc = docs.get(i);
+            items.add(toSummary(foods.get(doc),
+                    queryGramCount == 0 ? 0.0 : (double) matched.applyAsInt(doc) / queryGramCount));
+        }
+
+        String nextCursor = null;
+        if (end < docs.size()) {
+            int last = docs.get(end - 1);
+            nextCursor = new Cursor(matched.applyAsInt(last), foods.get(last).getId()).encode();
+        }
+
+        int totalCount = result.cardinality();
+        logger.info("사료 검색 - 검색어: {}, 결과 {}개 중 {}개 반환", request.getQ(), totalCount, items.size());
+
+        return new FoodSearchResponse(items, nextCursor, totalCount, facets);
+    }
+
+    /**
+     * 현재 카탈로그 스냅샷에 대한 검색 인덱스를 반환합니다. 스냅샷이 바뀌었으면 재구성합니다.
+     */
+    private FoodSearchIndex getSearchIndex() {
+        List<CatFood> catalog = recommendService.getCatalog();
+        FoodSearchIndex index = searchIndex;
+        if (index == null || index.foods() != catalog) {
+            synchronized (this) {
+                index = searchIndex;
+                if (index == null || index.foods() != catalog) {
+                    index = FoodSearchIndex.build(catalog);
+                    searchIndex = index;
+                    logger.info("검색 인덱스 구성 완료 - {}개", index.size());
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * 텍스트 필터와 패싯 필터의 교집합을 구합니다. (excludedFacet 은 제외, 패싯 개수 계산용)
+     */
+    private BitSet combine(FoodSearchIndex index, BitSet textFilter, Map<String, BitSet> filters, String excludedFacet) {
+        BitSet result = textFilter != null ? (BitSet) textFilter.clone() : index.all();
+        filters.forEach((facet, bits) -> {
+            if (bits != null && !facet.equals(excludedFacet)) {
+                result.and(bits);
+            }
+        });
+        return result;
+    }
+
+    private Map<String, Integer> proteinBuckets(List<CatFood> foods, BitSet docs) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (int doc = docs.nextSetBit(0); doc >= 0; doc = docs.nextSetBit(doc + 1)) {
+            double protein = foods.get(doc).getProteinPercent();
+            int bucket = 0;
+            while (bucket < PROTEIN_BUCKETS.length && protein >= PROTEIN_BUCKETS[bucket]) bucket++;
+            String label = bucket == 0 ? String.format("~%.0f%%", PROTEIN_BUCKETS[0])
+                    : bucket == PROTEIN_BUCKETS.length ? String.format("%.0f%%~", PROTEIN_BUCKETS[bucket - 1])
+                    : String.format("%.0f~%.0f%%", PROTEIN_BUCKETS[bucket - 1], PROTEIN_BUCKETS[bucket]);
+            counts.merge(label, 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    private Map<String, Integer> priceBuckets(List<CatFood> foods, BitSet docs) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (int doc = docs.nextSetBit(0); doc >= 0; doc = docs.nextSetBit(doc + 1)) {
+            int price = foods.get(doc).getPricePerKg();
+            int bucket = 0;
+            while (bucket < PRICE_BUCKETS.length && price >= PRICE_BUCKETS[bucket]) bucket++;
+            String label = bucket == 0 ? String.format("~%,d원", PRICE_BUCKETS[0])
+                    : bucket == PRICE_BUCKETS.length ? String.format("%,d원~", PRICE_BUCKETS[bucket - 1])
+                    : String.format("%,d~%,d원", PRICE_BUCKETS[bucket - 1], PRICE_BUCKETS[bucket]);
+            counts.merge(label, 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    private CatFoodSummary toSummary(CatFood food, double relevance) {
+        CatFoodSummary summary = new CatFoodSummary();
+        summary.setId(food.getId());
+        summary.setName(food.getName());
+        summary.setBrand(food.getBrand());
+        summary.setType(food.getType());
+        summary.setLifeStage(food.getLifeStage());
+        summary.setKcalPer100g(food.getKcalPer100g());
+        summary.setPricePerKg(food.getPricePerKg());
+        summary.setProteinPercent(food.getProteinPercent());
+        summary.setFatPercent(food.getFatPercent());
+        summary.setDescription(food.getDescription());
+        summary.setRelevance(Math.round(relevance * 100.0) / 100.0);
+        return summary;
+    }
+
+    /**
+     * 키셋 커서: 이전 페이지 마지막 항목의 정렬 키 (일치 3-gram 수, id)
+     */
+    private record Cursor(int matched, String id) {
+
+        String encode() {
+            String raw = matched + ":" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String encoded) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+                int separator = raw.indexOf(':');
+                return new Cursor(Integer.parseInt(raw.substring(0, separator)), raw.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("페이지 커서가 올바르지 않습니다.");
+            }
+        }
+
+        /**
+         * 커서 항목이 주어진 정렬 키보다 앞서는지 (즉, 주어진 항목이 다음 페이지에 속하는지)
+         */
+        boolean isBefore(int otherMatched, String otherId) {
+            return otherMatched < matched || (otherMatched == matched && otherId.compareTo(id) > 0);
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package com.catfood.service;
+
+import com.catfood.dto.CatFoodAssignment;
+import com.catfood.dto.CatProfile;
+import com.catfood.dto.FoodRecommendation;
+import com.catfood.dto.HouseholdRecommendRequest;
+import com.catfood.dto.HouseholdRecommendResponse;
+import com.catfood.model.CatFood;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 다묘 가정 사료 추천 서비스
+ *
+ * 여러 마리의 고양이가 하나의 월 예산을 공유할 때, 고양이마다 사료 하나씩을 배정하여
+ * 점수 합계를 최대화합니다. (다중 선택 배낭 문제)
+ *
+ * 목적 함수:
+ *   Σ 고양이별 추천 점수 + 공동 구매 가산점 × Σ (사료별 공유 고양이 수 - 1)
+ * 가산점은 점수 정책(sharedFoodBonus)에 정의하므로 정책의 점수 단위를 따릅니다.
+ * 공동 구매는 점수에만 반영합니다. 월 비용은 고양이별 급여량 × kg당 가격의 합이며, 대용량 할인 등
+ * 공유에 따른 비용 절감은 모델링하지 않습니다.
+ *
+ * 최적화 절차:
+ *   ① 고양이별 후보를 (월 비용, 점수) 평면의 상부 볼록 껍질로 축약
+ *   ② 라그랑주 완화: 점수 - λ × 비용 을 고양이별로 독립 최대화, 예산을 만족하는 최소 λ 를 이분 탐색
+ *   ③ 국소 탐색: 남은 예산 안에서 껍질 후보, 고양이별 점수 상위 후보(LOCAL_SEARCH_CANDIDATES 개),
+ *      다른 고양이가 먹는 사료로의 교체를 반복 (껍질 안쪽의 고득점 후보와 공동 구매 유도)
+ *
+ * 고양이별 후보 구성은 추천과 같은 샤드 스캔(병렬 임계값 이상이면 병렬)으로 O(F log S)이고,
+ * 이후 단계는 껍질 크기에만 비례하므로 대규모 카탈로그에서도 10마리 수준까지 빠르게 동작합니다. (S: 샤드 크기)
+ */
+@Service
+public class HouseholdRecommendService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HouseholdRecommendService.class);
+
+    private static final int LAMBDA_SEARCH_ITERATIONS = 60;
+    private static final int MAX_LOCAL_SEARCH_ROUNDS = 20;
+    static final int LOCAL_SEARCH_CANDIDATES = 32;
+    private static final double EPSILON = 1e-9;
+
+    private final CalorieCalculationService calorieService;
+    private final CatFoodRecommendService recommendService;
+
+    public HouseholdRecommendService(CalorieCalculationService calorieService,
+                                     CatFoodRecommendService recommendService) {
+        this.calorieService = calorieService;
+        this.recommendService = recommendService;
+    }
+
+    /**
+     * 가구 전체 예산을 공유하는 고양이들에게 사료를 배정합니다.
+     */
+    public HouseholdRecommendResponse recommend(HouseholdRecommendRequest request) {
+        List<CatProfile> cats = request.getCats();
+        int monthlyBudget = request.getMonthlyBudget();
+        int catCount = cats.size();
+        ScoringPolicy policy = recommendService.scoringPolicy(request.getScoringPolicy());
+
+        double[] dailyCalories = new double[catCount];
+        String[] lifeStageKeys = new String[catCount];
+        ScoringContext[] contexts = new ScoringContext[catCount];
+        List<List<Candidate>> hulls = new ArrayList<>(catCount);
+        List<List<Candidate>> moves = new ArrayList<>(catCount);
+        CatalogIndex catalog = recommendService.getCatalogIndex();
+
+        for (int i = 0; i < catCount; i++) {
+            CatProfile cat = cats.get(i);
+            dailyCalories[i] = calorieService.calculateDailyCalories(
+                    cat.getWeightKg(), cat.getAgeMonths(), cat.getGender(), cat.getNeutered());
+            lifeStageKeys[i] = calorieService.getLifeStageKey(cat.getAgeMonths());
+            contexts[i] = new ScoringContext()
+                    .cat(cat.getWeightKg(), cat.getAgeMonths(), cat.getGender(), cat.getNeutered(),
+                            lifeStageKeys[i], dailyCalories[i])
+                    .budget(monthlyBudget);
+            hulls.add(buildHull(policy, contexts[i], lifeStageKeys[i]));
+            moves.add(buildMoves(catalog, policy, contexts[i], lifeStageKeys[i], hulls.get(i)));
+        }
+
+        Candidate[] assignment = optimize(policy, contexts, hulls, moves, dailyCalories, lifeStageKeys,
+                monthlyBudget);
+
+        List<CatFoodAssignment> assignments = new ArrayList<>(catCount);
+        int totalMonthlyCost = 0;
+        for (int i = 0; i < catCount; i++) {
+            CatProfile cat = cats.get(i);
+            CatFoodAssignment result = new CatFoodAssignment();
+            result.setCatIndex(i);
+            result.setName(cat.getName());
+            result.setDailyCalories(dailyCalories[i]);
+            result.setLifeFactor(calorieService.getLifeFactor(cat.getAgeMonths(), cat.getGender(), cat.getNeutered()));
+            result.setLifeStageDescription(
+                    calorieService.getLifeStageDescription(cat.getAgeMonths(), cat.getGender(), cat.getNeutered()));
+            assignments.add(result);
+        }
+
+        if (assignment == null) {
+            logger.warn("다묘 추천 - 예산 {}원 내에서 {}마리 모두에게 사료를 배정할 수 없음", monthlyBudget, catCount);
+            return new HouseholdRecommendResponse(monthlyBudget, 0, 0.0, 0, assignments);
+        }
+
+        Map<CatFood, Integer> shareCounts = countShares(assignment);
+        for (int i = 0; i < catCount; i++) {
+            Candidate chosen = assignment[i];
+            FoodRecommendation rec = recommendService.toRecommendation(
+                    policy, contexts[i], chosen.food(), chosen.monthlyCost());
+            rec.setRank(1);
+            int sharedWith = shareCounts.get(chosen.food());
+            if (sharedWith > 1) {
+                rec.setReason(rec.getReason() + ", 공동 구매 (" + sharedWith + "마리 공유)");
+            }
+            assignments.get(i).setRecommendation(rec);
+            totalMonthlyCost += chosen.monthlyCost();
+        }
+
+        double totalScore = objective(assignment, policy.sharedFoodBonus());
+        int sharedFoodCount = (int) shareCounts.values().stream().filter(count -> count > 1).count();
+
+        logger.info("다묘 추천 완료 - {}마리, 예산 {}원 중 {}원 사용, 공유 사료 {}종, 점수 합계 {}",
+                catCount, monthlyBudget, totalMonthlyCost, sharedFoodCount, String.format("%.1f", totalScore));
+
+        return new HouseholdRecommendResponse(monthlyBudget, totalMonthlyCost,
+                Math.round(totalScore * 100.0) / 100.0, sharedFoodCount, assignments);
+    }
+
+    /**
+     * 고양이 한 마리의 후보 사료를 (월 비용, 점수) 상부 볼록 껍질로 축약합니다.
+     *
+     * 라그랑주 완화의 해는 항상 이 껍질 위의 점이므로, 이후 탐색은 껍질 크기에만 비례합니다.
+     * 껍질은 추천과 같은 샤드 인덱스에서 샤드별로 구해 병합합니다. (CatalogIndex.Hull)
+     */
+    private List<Candidate> buildHull(ScoringPolicy policy, ScoringContext context, String lifeStageKey) {
+        CatalogIndex.Hull frontier = recommendService.costScoreHull(policy, context, lifeStageKey);
+        List<Candidate> hull = new ArrayList<>(frontier.size());
+        for (int i = 0; i < frontier.size(); i++) {
+            hull.add(new Candidate(frontier.food(i), frontier.monthlyCost(i), frontier.score(i)));
+        }
+        return hull;
+    }
+
+    /**
+     * 국소 탐색 교체 후보: 껍질 후보 + 예산 내 점수 상위 LOCAL_SEARCH_CANDIDATES 개 (중복 제외)
+     *
+     * 껍질은 비용 대비 점수가 좋은 후보만 남기므로, 남은 예산으로 살 수 있는 껍질 안쪽의 고득점 후보를 함께 둡니다.
+     */
+    private List<Candidate> buildMoves(CatalogIndex catalog, ScoringPolicy policy, ScoringContext context,
+                                       String lifeStageKey, List<Candidate> hull) {
+        CatalogIndex.TopK top = recommendService.topCandidates(catalog, policy, context, lifeStageKey,
+                LOCAL_SEARCH_CANDIDATES);
+        List<Candidate> moves = new ArrayList<>(hull);
+        Map<CatFood, Boolean> seen = new IdentityHashMap<>();
+        hull.forEach(candidate -> seen.put(candidate.food(), Boolean.TRUE));
+        for (int rank = 0; rank < top.size(); rank++) {
+            CatFood food = catalog.foods().get(top.index(rank));
+            if (seen.put(food, Boolean.TRUE) == null) {
+                moves.add(new Candidate(food, top.monthlyCost(rank), top.score(rank)));
+            }
+        }
+        return moves;
+    }
+
+    /**
+     * 라그랑주 완화 + 국소 탐색으로 배정을 구합니다. 예산 내 배정이 불가능하면 null 을 반환합니다.
+     */
+    private Candidate[] optimize(ScoringPolicy policy, ScoringContext[] contexts, List<List<Candidate>> hulls,
+                                 List<List<Candidate>> moves, double[] dailyCalories, String[] lifeStageKeys,
+                                 int monthlyBudget) {
+        for (List<Candidate> hull : hulls) {
+            if (hull.isEmpty()) return null;
+        }
+
+        Candidate[] assignment = pickForLambda(hulls, 0.0);
+        if (totalCost(assignment) > monthlyBudget) {
+            Candidate[] cheapest = pickForLambda(hulls, Double.POSITIVE_INFINITY);
+            if (totalCost(cheapest) > monthlyBudget) return null;
+
+            double low = 0.0;
+            double high = 1.0;
+            while (totalCost(pickForLambda(hulls, high)) > monthlyBudget) {
+                high *= 2.0;
+            }
+            for (int iter = 0; iter < LAMBDA_SEARCH_ITERATIONS; iter++) {
+                double mid = (low + high) / 2.0;
+                if (totalCost(pickForLambda(hulls, mid)) > monthlyBudget) {
+                    low = mid;
+                } else {
+                    high = mid;
+                }
+            }
+            assignment = pickForLambda(hulls, high);
+        }
+
+        improve(policy, contexts, assignment, moves, dailyCalories, lifeStageKeys, monthlyBudget);
+        return assignment;
+    }
+
+    /**
+     * 고양이별로 점수 - λ × 비용 이 최대인 껍질 후보를 선택합니다. (λ = ∞ 이면 최저 비용 후보)
+     */
+    private Candidate[] pickForLambda(List<List<Candidate>> hulls, double lambda) {
+        Candidate[] picks = new Candidate[hulls.size()];
+        for (int i = 0; i < hulls.size(); i++) {
+            List<Candidate> hull = hulls.get(i);
+            if (Double.isInfinite(lambda)) {
+                picks[i] = hull.get(0);
+                continue;
+            }
+            Candidate best = null;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (Candidate candidate : hull) {
+                double value = candidate.score() - lambda * candidate.monthlyCost();
+                if (value > bestValue + EPSILON) {
+                    bestValue = value;
+                    best = candidate;
+                }
+            }
+            picks[i] = best;
+        }
+        return picks;
+    }
+
+    /**
+     * 남은 예산 안에서 목적 함수가 개선되는 교체를 더 이상 없을 때까지 반복합니다.
+     *
+     * 교체 후보: 해당 고양이의 껍질·점수 상위 후보 (buildMoves) + 다른 고양이에게 배정된 사료 (나이 적합 시)
+     */
+    private void improve(ScoringPolicy policy, ScoringContext[] contexts, Candidate[] assignment,
+                         List<List<Candidate>> catMoves, double[] dailyCalories,
+                         String[] lifeStageKeys, int monthlyBudget) {
+        int catCount = assignment.length;
+        double sharedFoodBonus = policy.sharedFoodBonus();
+        for (int round = 0; round < MAX_LOCAL_SEARCH_ROUNDS; round++) {
+            boolean improved = false;
+
+            for (int i = 0; i < catCount; i++) {
+                int slack = monthlyBudget - totalCost(assignment);
+                Candidate current = assignment[i];
+                double currentObjective = objective(assignment, sharedFoodBonus);
+
+                List<Candidate> moves = new ArrayList<>(catMoves.get(i));
+                for (int j = 0; j < catCount; j++) {
+                    CatFood sharedFood = assignment[j].food();
+                    if (j == i || sharedFood == current.food()) continue;
+                    if (!recommendService.isAgeAppropriate(sharedFood, lifeStageKeys[i])) continue;
+
+                    int monthlyCost = recommendService.calculateMonthlyCost(sharedFood, dailyCalories[i]);
+                    moves.add(new Candidate(sharedFood, monthlyCost,
+                            recommendService.calculateScore(policy, contexts[i], sharedFood, monthlyCost)));
+                }
+
+                Candidate bestMove = null;
+                double bestObjective = currentObjective;
+                for (Candidate move : moves) {
+                    if (move.food() == current.food()) continue;
+                    if (move.monthlyCost() - current.monthlyCost() > slack) continue;
+
+                    assignment[i] = move;
+                    double candidateObjective = objective(assignment, sharedFoodBonus);
+                    if (candidateObjective > bestObjective + EPSILON) {
+                        bestObjective = candidateObjective;
+                        bestMove = move;
+                    }
+                }
+
+                assignment[i] = bestMove != null ? bestMove : current;
+                improved |= bestMove != null;
+            }
+
+            if (!improved) break;
+        }
+    }
+
+    private double objective(Candidate[] assignment, double sharedFoodBonus) {
+        double total = 0.0;
+        for (Candidate candidate : assignment) {
+            total += candidate.score();
+        }
+        for (int count : countShares(assignment).values()) {
+            total += sharedFoodBonus * (count - 1);
+        }
+        return total;
+    }
+
+    private Map<CatFood, Integer> countShares(Candidate[] assignment) {
+        Map<CatFood, Integer> counts = new IdentityHashMap<>();
+        for (Candidate candidate : assignment) {
+            counts.merge(candidate.food(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    private int totalCost(Candidate[] assignment) {
+        int total = 0;
+        for (Candidate candidate : assignment) {
+            total += candidate.monthlyCost();
+        }
+        return total;
+    }
+
+    /**
+     * 고양이 한 마리 기준 사료 후보 (월 비용, 추천 점수)
+     */
+    private record Candidate(CatFood food, int monthlyCost, double score) {
+    }
+}
@@ -0,0 +1,320 @@
+package com.catfood.service;
+
+import com.catfood.dto.FoodRecommendation;
+import com.catfood.dto.MealPlanRequest;
+import com.catfood.dto.MealPlanResponse;
+import com.catfood.dto.MealPlanStep;
+import com.catfood.model.CatFood;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 체중 변화 기반 월별 급여 계획 서비스
+ *
+ * 매월 예상 체중과 나이로 RER/MER 을 다시 계산하고, 해당 월의 급여 사료와 급여량을 정합니다.
+ *
+ * 체중 변화 모델:
+ *   - 성장 (12개월 미만): 12개월에 목표(예상 성묘) 체중에 도달하도록 매월 남은 차이를 균등 증가
+ *   - 감량 (성묘, 목표 < 현재): 월 최대 4%(주 약 1%) 감량, 급여 칼로리는 MER 의 80%
+ *   - 유지: 체중 변화 없음
+ *
+ * 증분 계산:
+ *   - 생애 단계 키(KITTEN/ADULT/SENIOR)가 같은 구간에서는 적합 사료 후보 배열을 한 번만 구성하여 재사용
+ *     (칼로리당 가격 오름차순 정렬: 월 비용이 이 순서로 증가하므로 매월 예산 내 후보는 배열의 앞부분)
+ *   - 일일 칼로리가 전월과 같으면 전월 결과를 그대로 사용
+ *   - 칼로리가 바뀐 달은 예산 경계만 이분 탐색으로 다시 찾고 그 앞부분만 점수를 계산
+ *     (점수 식이 월 비용·체중 등 매월 바뀌는 변수를 참조하므로 전월 점수는 재사용하지 않음)
+ *   - 전월 사료가 여전히 예산 내이고 최고 점수와의 차이가 점수 정책의 switchMargin 이하이면 유지 (잦은 사료 변경 방지)
+ */
+@Service
+public class MealPlanService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MealPlanService.class);
+
+    static final double DEFAULT_ADULT_WEIGHT_KG = 4.0;
+    static final double MAX_MONTHLY_LOSS_RATIO = 0.04;
+    static final double WEIGHT_LOSS_CALORIE_FACTOR = 0.8;
+
+    private final CalorieCalculationService calorieService;
+    private final CatFoodRecommendService recommendService;
+
+    public MealPlanService(CalorieCalculationService calorieService, CatFoodRecommendService recommendService) {
+        this.calorieService = calorieService;
+        this.recommendService = recommendService;
+    }
+
+    /**
+     * 월별 급여 계획을 생성합니다.
+     */
+    public MealPlanResponse plan(MealPlanRequest request) {
+        int months = request.getMonths();
+        int startAge = request.getAgeMonths();
+        String gender = request.getGender();
+        boolean neutered = request.getNeutered();
+        int monthlyBudget = request.getMonthlyBudget();
+        double startWeight = request.getWeightKg();
+        double targetWeight = resolveTargetWeight(request);
+        ScoringPolicy policy = recommendService.scoringPolicy(request.getScoringPolicy());
+        ScoringContext context = new ScoringContext().budget(monthlyBudget);
+
+        List<MealPlanStep> steps = new ArrayList<>(months);
+        SegmentCandidates segment = null;
+        double weight = startWeight;
+        Choice previous = null;
+        double previousCalories = Double.NaN;
+        int totalCost = 0;
+        int foodChangeCount = 0;
+
+        for (int month = 1; month <= months; month++) {
+            int ageMonths = startAge + month - 1;
+            String lifeStageKey = calorieService.getLifeStageKey(ageMonths);
+            String phase = phaseOf(ageMonths, weight, targetWeight);
+
+            double rer = calorieService.calculateRER(weight);
+            double lifeFactor = calorieService.getLifeFactor(ageMonths, gender, neutered);
+            double dailyCalories = rer * lifeFactor;
+            if ("WEIGHT_LOSS".equals(phase)) {
+                dailyCalories *= WEIGHT_LOSS_CALORIE_FACTOR;
+            }
+            context.cat(weight, ageMonths, gender, neutered, lifeStageKey, dailyCalories);
+
+            if (segment == null || !segment.lifeStageKey.equals(lifeStageKey)) {
+                segment = buildSegment(lifeStageKey);
+            }
+
+            Choice choice;
+            if (previous != null && previous.lifeStageKey.equals(lifeStageKey) && dailyCalories == previousCalories) {
+                choice = previous;
+            } else {
+                choice = choose(policy, context, segment, monthlyBudget, previous);
+            }
+
+            MealPlanStep step = new MealPlanStep();
+            step.setMonth(month);
+            step.setAgeMonths(ageMonths);
+            step.setWeightKg(round(weight, 100.0));
+            step.setPhase(phase);
+            step.setLifeStageKey(lifeStageKey);
+            step.setLifeStageDescription(calorieService.getLifeStageDescription(ageMonths, gender, neutered));
+            step.setLifeFactor(lifeFactor);
+            step.setRerCalories(round(rer, 10.0));
+            step.setDailyCalories(round(dailyCalories, 10.0));
+
+            if (choice != null) {
+                step.setRecommendation(choice == previous
+                        ? previous.recommendation
+                        : toRecommendation(policy, context, choice));
+                choice.recommendation = step.getRecommendation();
+                boolean changed = previous != null && previous.food != choice.food;
+                step.setFoodChanged(changed);
+                if (changed) foodChangeCount++;
+                totalCost += choice.monthlyCost;
+            }
+            steps.add(step);
+
+            previous = choice;
+            previousCalories = dailyCalories;
+            weight = nextWeight(ageMonths, weight, targetWeight, phase);
+        }
+
+        logger.info("급여 계획 완료 - {}개월, 체중 {}kg → {}kg, 사료 변경 {}회, 총 비용 {}원",
+                months, startWeight, round(weight, 100.0), foodChangeCount, totalCost);
+
+        return new MealPlanResponse(startWeight, targetWeight, round(weight, 100.0),
+                totalCost, foodChangeCount, steps);
+    }
+
+    private double resolveTargetWeight(MealPlanRequest request) {
+        if (request.getTargetWeightKg() != null) {
+            return request.getTargetWeightKg();
+        }
+        return request.getAgeMonths() < 12
+                ? Math.max(DEFAULT_ADULT_WEIGHT_KG, request.getWeightKg())
+                : request.getWeightKg();
+    }
+
+    private String phaseOf(int ageMonths, double weight, double targetWeight) {
+        if (ageMonths < 12) {
+            return weight < targetWeight ? "GROWTH" : "MAINTENANCE";
+        }
+        return weight > targetWeight ? "WEIGHT_LOSS" : "MAINTENANCE";
+    }
+
+    private double nextWeight(int ageMonths, double weight, double targetWeight, String phase) {
+        return switch (phase) {
+            case "GROWTH" -> weight + (targetWeight - weight) / (12 - ageMonths);
+            case "WEIGHT_LOSS" -> Math.max(targetWeight, weight * (1.0 - MAX_MONTHLY_LOSS_RATIO));
+            default -> weight;
+        };
+    }
+
+    /**
+     * 생애 단계 키에 적합한 사료만 모아 칼로리당 가격 오름차순의 기본형 배열로 구성합니다.
+     */
+    private SegmentCandidates buildSegment(String lifeStageKey) {
+        List<CatFood> catalog = recommendService.getCatalog();
+        List<Integer> eligible = new ArrayList<>();
+        for (int i = 0; i < catalog.size(); i++) {
+            if (recommendService.isAgeAppropriate(catalog.get(i), lifeStageKey)) {
+                eligible.add(i);
+            }
+        }
+        // 안정 정렬: 칼로리당 가격이 같으면 카탈로그 순서 유지
+        eligible.sort(Comparator.comparingDouble(i -> costRate(catalog.get(i))));
+        return new SegmentCandidates(lifeStageKey, catalog, eligible);
+    }
+
+    /**
+     * 구간 후보 중 해당 월 최고 점수 사료를 고르되, 전월 사료가 허용 차이 이내이면 유지합니다.
+     *
+     * 예산 내 후보는 칼로리당 가격 순 배열의 앞부분이므로 그 범위만 점수를 계산합니다.
+     * 동점은 단일 추천과 같이 카탈로그 순서가 앞선 사료를 우선합니다.
+     */
+    private Choice choose(ScoringPolicy policy, ScoringContext context, SegmentCandidates segment,
+                          int monthlyBudget, Choice previous) {
+        double dailyCalories = context.dailyCalories;
+        int limit = segment.affordableLimit(dailyCalories, monthlyBudget);
+        int bestIndex = -1;
+        int bestCost = 0;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        int previousIndex = -1;
+        int previousCost = 0;
+        double previousScore = Double.NEGATIVE_INFINITY;
+
+        for (int i = 0; i < limit; i++) {
+            int monthlyCost = CatFoodRecommendService.monthlyCost(
+                    dailyCalories, segment.kcalPer100g[i], segment.pricePerKg[i]);
+            if (monthlyCost > monthlyBudget) continue;
+
+            context.food(segment.proteinPercent[i], segment.fatPercent[i], segment.kcalPer100g[i],
+                    segment.pricePerKg[i], segment.types[i], segment.lifeStages[i], monthlyCost);
+            double score = policy.score(context);
+            if (bestIndex < 0 || score > bestScore
+                    || (score == bestScore && segment.catalogOrder[i] < segment.catalogOrder[bestIndex])) {
+                bestIndex = i;
+                bestCost = monthlyCost;
+                bestScore = score;
+            }
+            if (previous != null && segment.foods.get(i) == previous.food) {
+                previousIndex = i;
+                previousCost = monthlyCost;
+                previousScore = score;
+            }
+        }
+
+        if (bestIndex < 0) return null;
+        if (previousIndex >= 0 && bestScore - previousScore <= policy.switchMargin()) {
+            return new Choice(segment.lifeStageKey, segment.foods.get(previousIndex), previousCost);
+        }
+        return new Choice(segment.lifeStageKey, segment.foods.get(bestIndex), bestCost);
+    }
+
+    /**
+     * 칼로리당 가격 (원/kcal × 100). 월 비용 = ceil(일일 칼로리 × 이 값 / 10) × 30
+     */
+    private static double costRate(CatFood food) {
+        return food.getPricePerKg() / food.getKcalPer100g();
+    }
+
+    private FoodRecommendation toRecommendation(ScoringPolicy policy, ScoringContext context, Choice choice) {
+        FoodRecommendation rec = recommendService.toRecommendation(policy, context, choice.food, choice.monthlyCost);
+        rec.setRank(1);
+        return rec;
+    }
+
+    private static double round(double value, double scale) {
+        return Math.round(value * scale) / scale;
+    }
+
+    /**
+     * 생애 단계 구간의 적합 사료 후보 (필드별 기본형 배열, 칼로리당 가격 오름차순)
+     */
+    private static final class SegmentCandidates {
+
+        /**
+         * 예산 경계 탐색 여유 (월 비용 부동소수 계산 오차 흡수, 경계 근처 후보는 정확한 월 비용으로 다시 확인)
+         */
+        private static final double RATE_TOLERANCE = 1e-9;
+
+        final String lifeStageKey;
+        final List<CatFood> foods;
+        final int[] catalogOrder;
+        final double[] costRate;
+        final double[] kcalPer100g;
+        final int[] pricePerKg;
+        final double[] proteinPercent;
+        final double[] fatPercent;
+        final String[] types;
+        final String[] lifeStages;
+
+        SegmentCandidates(String lifeStageKey, List<CatFood> catalog, List<Integer> order) {
+            int size = order.size();
+            this.lifeStageKey = lifeStageKey;
+            this.foods = new ArrayList<>(size);
+            this.catalogOrder = new int[size];
+            this.costRate = new double[size];
+            this.kcalPer100g = new double[size];
+            this.pricePerKg = new int[size];
+            this.proteinPercent = new double[size];
+            this.fatPercent = new double[size];
+            this.types = new String[size];
+            this.lifeStages = new String[size];
+            for (int i = 0; i < size; i++) {
+                CatFood food = catalog.get(order.get(i));
+                foods.add(food);
+                catalogOrder[i] = order.get(i);
+                costRate[i] = costRate(food);
+                kcalPer100g[i] = food.getKcalPer100g();
+                pricePerKg[i] = food.getPricePerKg();
+                proteinPercent[i] = food.getProteinPercent();
+                fatPercent[i] = food.getFatPercent();
+                types[i] = food.getType();
+                lifeStages[i] = food.getLifeStage();
+            }
+        }
+
+        /**
+         * 월 비용이 예산 이내일 수 있는 후보 수 (배열 앞부분 길이)
+         *
+         * ceil(일일 칼로리 × 칼로리당 가격 / 10) ≤ floor(예산 / 30) 이면 예산 이내이므로,
+         * 칼로리당 가격이 10 × floor(예산 / 30) / 일일 칼로리 이하인 후보까지입니다.
+         */
+        int affordableLimit(double dailyCalories, int monthlyBudget) {
+            int dailyBudget = monthlyBudget / CatFoodRecommendService.DAYS_PER_MONTH;
+            double maxRate = 10.0 * dailyBudget / dailyCalories * (1.0 + RATE_TOLERANCE);
+            int low = 0;
+            int high = costRate.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (costRate[mid] <= maxRate) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * 한 달의 사료 선택 결과
+     */
+    private static final class Choice {
+
+        final String lifeStageKey;
+        final CatFood food;
+        final int monthlyCost;
+        FoodRecommendation recommendation;
+
+        Choice(String lifeStageKey, CatFood food, int monthlyCost) {
+            this.lifeStageKey = lifeStageKey;
+            this.food = food;
+            this.monthlyCost = monthlyCost;
+        }
+    }
+}
@@ -0,0 +1,493 @@
+package com.catfood.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 사료별 kg당 가격 시계열 저장소
+ *
+ * 구조 (추가 전용):
+ *   - 메모리 세그먼트: 사료 id 별 가변 기본형 배열 (최근 기록분)
+ *   - 봉인 세그먼트: 메모리 세그먼트 포인트 수가 flush-threshold 에 도달하면 PriceSeries(델타 인코딩)로
+ *     봉인하고, data-dir 이 설정되어 있으면 세그먼트 파일(prices-NNNNNN.seg)로 기록
+ *
+ * 사료별 포인트는 날짜 오름차순으로만 추가되므로 세그먼트 순서가 곧 시간 순서입니다.
+ * 기동 시 data-dir 의 세그먼트 파일을 순서대로 읽어 복원하고, 종료 시 메모리 세그먼트를 파일로 내립니다.
+ *
+ * 압축: 봉인 세그먼트 수가 max-segments 를 넘으면 전체 봉인 세그먼트를 사료별로 이어 붙여 하나로 병합합니다.
+ * 병합 세그먼트는 가장 최근 세그먼트 파일을 원자적으로 대체한 뒤 나머지 파일을 지우며, 파일 헤더에 병합한
+ * 첫 세그먼트 번호를 기록하므로 삭제 전에 중단되어도 기동 시 남은 파일을 건너뛰고 정리합니다.
+ * 포인트는 삭제하지 않습니다. (보존 기한 없음, 조회·기동 비용은 세그먼트 수가 아니라 포인트 수에 비례)
+ */
+@Service
+public class PriceHistoryStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(PriceHistoryStore.class);
+
+    private static final int SEGMENT_MAGIC = 0x43465053;
+    private static final int SEGMENT_VERSION = 2;
+    private static final int SEGMENT_VERSION_V1 = 1;
+    private static final String SEGMENT_PREFIX = "prices-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path dataDir;
+    private final int flushThreshold;
+    private final int maxSegments;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final List<Segment> segments = new ArrayList<>();
+    private final Map<String, PointBuffer> memory = new HashMap<>();
+    private final Map<String, Integer> lastDayByFood = new HashMap<>();
+    private int memoryPointCount;
+    private int nextSequence = 1;
+
+    public PriceHistoryStore(String dataDir, int flushThreshold) {
+        this(dataDir, flushThreshold, 16);
+    }
+
+    /**
+     * @param dataDir        세그먼트 파일 디렉터리 (빈 값이면 메모리 전용)
+     * @param flushThreshold 메모리 세그먼트를 봉인하는 포인트 수 (1 이상)
+     * @param maxSegments    병합 전까지 유지하는 봉인 세그먼트 수 (1 이상)
+     * @throws IllegalArgumentException flushThreshold 또는 maxSegments 가 0 이하인 경우
+     */
+    @Autowired
+    public PriceHistoryStore(@Value("${catfood.prices.data-dir:}") String dataDir,
+                             @Value("${catfood.prices.flush-threshold:100000}") int flushThreshold,
+                             @Value("${catfood.prices.max-segments:16}") int maxSegments) {
+        // 0 이하이면 포인트마다 세그먼트가 봉인되므로 기동 시 거부
+        if (flushThreshold <= 0) {
+            throw new IllegalArgumentException(
+                    "catfood.prices.flush-threshold 는 1 이상이어야 합니다: " + flushThreshold);
+        }
+        if (maxSegments <= 0) {
+            throw new IllegalArgumentException("catfood.prices.max-segments 는 1 이상이어야 합니다: " + maxSegments);
+        }
+        this.dataDir = dataDir == null || dataDir.isBlank() ? null : Path.of(dataDir);
+        this.flushThreshold = flushThreshold;
+        this.maxSegments = maxSegments;
+        loadSegments();
+    }
+
+    /**
+     * 가격 포인트를 추가합니다. 날짜는 해당 사료의 마지막 기록일 이후여야 합니다.
+     */
+    public void record(String foodId, LocalDate date, int pricePerKg) {
+        int day = (int) date.toEpochDay();
+        lock.writeLock().lock();
+        try {
+            requireAfterLast(foodId, day, lastDayByFood.get(foodId));
+            append(foodId, day, pricePerKg);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 가격 포인트를 한 번에 추가합니다. 사료별로 날짜 오름차순이어야 합니다.
+     *
+     * 쓰기 락 안에서 전체를 검증한 뒤 추가하므로, 동시에 같은 사료를 기록하는 요청과 충돌해도
+     * 일부만 저장되지 않습니다. (하나라도 실패하면 IllegalArgumentException, 아무것도 추가하지 않음)
+     */
+    public void recordAll(List<PriceRecord> records) {
+        lock.writeLock().lock();
+        try {
+            Map<String, Integer> batchLastDays = new HashMap<>();
+            for (PriceRecord record : records) {
+                int day = (int) record.date().toEpochDay();
+                requireAfterLast(record.foodId(), day, batchLastDays.containsKey(record.foodId())
+                        ? batchLastDays.get(record.foodId())
+                        : lastDayByFood.get(record.foodId()));
+                batchLastDays.put(record.foodId(), day);
+            }
+
+            for (PriceRecord record : records) {
+                append(record.foodId(), (int) record.date().toEpochDay(), record.pricePerKg());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void requireAfterLast(String foodId, int day, Integer lastDay) {
+        if (lastDay != null && day <= lastDay) {
+            throw new IllegalArgumentException(String.format(
+                    "%s 사료의 가격은 마지막 기록일(%s) 이후 날짜만 추가할 수 있습니다.",
+                    foodId, LocalDate.ofEpochDay(lastDay)));
+        }
+    }
+
+    /**
+     * 검증된 포인트를 메모리 세그먼트에 추가합니다. (쓰기 락 보유 상태에서 호출)
+     */
+    private void append(String foodId, int day, int pricePerKg) {
+        memory.computeIfAbsent(foodId, key -> new PointBuffer()).add(day, pricePerKg);
+        lastDayByFood.put(foodId, day);
+        if (++memoryPointCount >= flushThreshold) {
+            sealMemorySegment();
+        }
+    }
+
+    /**
+     * 사료의 마지막 기록일 (기록이 없으면 null)
+     */
+    public LocalDate lastRecordedDate(String foodId) {
+        lock.readLock().lock();
+        try {
+            Integer lastDay = lastDayByFood.get(foodId);
+            return lastDay == null ? null : LocalDate.ofEpochDay(lastDay);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 기간 [from, to] 의 가격 포인트를 조회합니다.
+     * 시작일에 포인트가 없으면 그 이전 마지막 포인트(시작 시점 유효 가격)를 맨 앞에 포함합니다.
+     */
+    PricePoints range(String foodId, LocalDate from, LocalDate to) {
+        int fromDay = (int) from.toEpochDay();
+        int toDay = (int) to.toEpochDay();
+        PricePoints points = new PricePoints(fromDay);
+        lock.readLock().lock();
+        try {
+            for (Segment segment : segments) {
+                PriceSeries series = segment.series.get(foodId);
+                if (series != null) {
+                    series.scan(fromDay, toDay, points);
+                }
+            }
+            PointBuffer buffer = memory.get(foodId);
+            if (buffer != null) {
+                buffer.scan(fromDay, toDay, points);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        points.finish();
+        return points;
+    }
+
+    /**
+     * 메모리 세그먼트를 봉인합니다. (data-dir 이 설정되어 있으면 파일로 기록)
+     */
+    public void flush() {
+        lock.writeLock().lock();
+        try {
+            sealMemorySegment();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (dataDir != null) {
+            flush();
+        }
+    }
+
+    int segmentCount() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void sealMemorySegment() {
+        if (memory.isEmpty()) return;
+
+        Map<String, PriceSeries> series = new HashMap<>(memory.size() * 2);
+        memory.forEach((foodId, buffer) -> series.put(foodId, buffer.encode()));
+        int sequence = nextSequence++;
+        Segment segment = new Segment(sequence, sequence, series);
+        if (dataDir != null) {
+            writeSegment(segment);
+        }
+        segments.add(segment);
+        logger.info("가격 세그먼트 봉인 - #{}, 사료 {}개, 포인트 {}개", segment.sequence, series.size(), memoryPointCount);
+
+        memory.clear();
+        memoryPointCount = 0;
+
+        if (segments.size() > maxSegments) {
+            compactSegments();
+        }
+    }
+
+    /**
+     * 봉인 세그먼트 전체를 사료별로 이어 붙여 하나로 병합합니다. (쓰기 락 보유 상태에서 호출)
+     *
+     * 병합 세그먼트는 마지막 세그먼트 번호를 이어받아 그 파일을 원자적으로 대체하고, 나머지 파일은 그 후 삭제합니다.
+     */
+    private void compactSegments() {
+        Map<String, PointBuffer> merged = new HashMap<>();
+        for (Segment segment : segments) {
+            segment.series.forEach((foodId, series) -> series.scan(Integer.MIN_VALUE, Integer.MAX_VALUE,
+                    merged.computeIfAbsent(foodId, key -> new PointBuffer())::add));
+        }
+        Map<String, PriceSeries> series = new HashMap<>(merged.size() * 2);
+        merged.forEach((foodId, buffer) -> series.put(foodId, buffer.encode()));
+
+        Segment last = segments.get(segments.size() - 1);
+        Segment compacted = new Segment(last.sequence, segments.get(0).firstSequence, series);
+        if (dataDir != null) {
+            writeSegment(compacted);
+            for (Segment segment : segments) {
+                if (segment != last) deleteSegmentFile(segment.sequence);
+            }
+        }
+        logger.info("가격 세그먼트 병합 - {}개 → #{} (#{} ~ #{}), 사료 {}개",
+                segments.size(), compacted.sequence, compacted.firstSequence, compacted.sequence, series.size());
+        segments.clear();
+        segments.add(compacted);
+    }
+
+    private Path segmentFile(int sequence) {
+        return dataDir.resolve(String.format("%s%06d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+    }
+
+    private void deleteSegmentFile(int sequence) {
+        Path file = segmentFile(sequence);
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("가격 세그먼트 파일 삭제 실패: " + file, e);
+        }
+    }
+
+    private void writeSegment(Segment segment) {
+        Path file = segmentFile(segment.sequence);
+        Path temp = dataDir.resolve(file.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(dataDir);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(SEGMENT_MAGIC);
+                out.writeInt(SEGMENT_VERSION);
+                out.writeInt(segment.firstSequence);
+                out.writeInt(segment.series.size());
+                for (Map.Entry<String, PriceSeries> entry : segment.series.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    entry.getValue().writeTo(out);
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("가격 세그먼트 파일 기록 실패: " + file, e);
+        }
+    }
+
+    private void loadSegments() {
+        if (dataDir == null || !Files.isDirectory(dataDir)) return;
+
+        List<Path> files;
+        try (Stream<Path> list = Files.list(dataDir)) {
+            files = list.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+            }).sorted().toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("가격 세그먼트 디렉터리 조회 실패: " + dataDir, e);
+        }
+
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            int sequence = Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+            Segment segment = readSegment(file, sequence);
+            // 병합 후 삭제 전에 중단된 경우: 병합 세그먼트에 포함된 이전 파일을 제외하고 정리
+            while (!segments.isEmpty() && segments.get(segments.size() - 1).sequence >= segment.firstSequence) {
+                deleteSegmentFile(segments.remove(segments.size() - 1).sequence);
+            }
+            segments.add(segment);
+            nextSequence = Math.max(nextSequence, sequence + 1);
+        }
+        for (Segment segment : segments) {
+            segment.series.forEach((foodId, series) -> lastDayByFood.merge(foodId, series.lastDay(), Math::max));
+        }
+        logger.info("가격 세그먼트 복원 완료 - {}개 ({})", segments.size(), dataDir);
+    }
+
+    private Segment readSegment(Path file, int sequence) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != SEGMENT_MAGIC) {
+                throw new IOException("지원하지 않는 세그먼트 형식");
+            }
+            int version = in.readInt();
+            if (version != SEGMENT_VERSION && version != SEGMENT_VERSION_V1) {
+                throw new IOException("지원하지 않는 세그먼트 버전: " + version);
+            }
+            // 버전 1 파일은 병합 정보가 없으므로 자기 자신만 포함
+            int firstSequence = version == SEGMENT_VERSION ? in.readInt() : sequence;
+            int foodCount = in.readInt();
+            Map<String, PriceSeries> series = new HashMap<>(foodCount * 2);
+            for (int i = 0; i < foodCount; i++) {
+                String foodId = in.readUTF();
+                series.put(foodId, PriceSeries.readFrom(in));
+            }
+            return new Segment(sequence, firstSequence, series);
+        } catch (IOException e) {
+            throw new UncheckedIOException("가격 세그먼트 파일 읽기 실패: " + file, e);
+        }
+    }
+
+    /**
+     * 추가할 가격 포인트
+     */
+    public record PriceRecord(String foodId, LocalDate date, int pricePerKg) {
+    }
+
+    /**
+     * 봉인된 세그먼트 (사료 id → 델타 인코딩 시계열)
+     *
+     * @param firstSequence 병합 세그먼트면 병합한 첫 세그먼트 번호, 아니면 sequence
+     */
+    private record Segment(int sequence, int firstSequence, Map<String, PriceSeries> series) {
+    }
+
+    /**
+     * 메모리 세그먼트의 사료별 포인트 버퍼 (날짜 오름차순)
+     */
+    private static final class PointBuffer {
+
+        private int[] days = new int[16];
+        private int[] prices = new int[16];
+        private int size;
+
+        void add(int day, int price) {
+            if (size == days.length) {
+                days = Arrays.copyOf(days, size * 2);
+                prices = Arrays.copyOf(prices, size * 2);
+            }
+            days[size] = day;
+            prices[size] = price;
+            size++;
+        }
+
+        void scan(int fromDay, int toDay, PriceSeries.PointConsumer consumer) {
+            int start = Arrays.binarySearch(days, 0, size, fromDay);
+            start = start >= 0 ? start : Math.max(0, -start - 2);
+            for (int i = start; i < size && days[i] <= toDay; i++) {
+                consumer.accept(days[i], prices[i]);
+            }
+        }
+
+        PriceSeries encode() {
+            return PriceSeries.encode(days, prices, size);
+        }
+    }
+
+    /**
+     * 범위 조회 결과 (날짜 오름차순 기본형 배열)
+     *
+     * 가격은 다음 포인트 전까지 유지되는 계단 함수로 해석합니다.
+     * 첫 포인트 이전 날짜는 첫 포인트 가격을, 포인트가 없으면 호출 측 기본 가격을 사용합니다.
+     */
+    static final class PricePoints implements PriceSeries.PointConsumer {
+
+        private final int fromDay;
+        private int[] days = new int[32];
+        private int[] prices = new int[32];
+        private int size;
+        private boolean hasCarry;
+        private int carryDay;
+        private int carryPrice;
+
+        PricePoints(int fromDay) {
+            this.fromDay = fromDay;
+        }
+
+        @Override
+        public void accept(int day, int price) {
+            if (day < fromDay) {
+                hasCarry = true;
+                carryDay = day;
+                carryPrice = price;
+                return;
+            }
+            if (day == fromDay) {
+                hasCarry = false;
+            }
+            finish();
+            append(day, price);
+        }
+
+        void finish() {
+            if (hasCarry) {
+                hasCarry = false;
+                append(carryDay, carryPrice);
+            }
+        }
+
+        private void append(int day, int price) {
+            if (size == days.length) {
+                days = Arrays.copyOf(days, size * 2);
+                prices = Arrays.copyOf(prices, size * 2);
+            }
+            days[size] = day;
+            prices[size] = price;
+            size++;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int day(int index) {
+            return days[index];
+        }
+
+        int price(int index) {
+            return prices[index];
+        }
+
+        /**
+         * 특정 날짜에 유효한 가격 (첫 기록 이전 날짜면 fallback)
+         */
+        int priceOn(int day, int fallback) {
+            if (size == 0) return fallback;
+            int index = Arrays.binarySearch(days, 0, size, day);
+            index = index >= 0 ? index : -index - 2;
+            return index >= 0 ? prices[index] : fallback;
+        }
+
+        /**
+         * 기간 [fromDay, toDay] 의 일별 가격 평균 (첫 기록 이전 날짜는 fallback 가격으로 계산)
+         */
+        double averagePrice(int fromDay, int toDay, int fallback) {
+            if (size == 0) return fallback;
+            int index = Arrays.binarySearch(days, 0, size, fromDay);
+            index = index >= 0 ? index : -index - 2;
+            long sum = 0;
+            for (int day = fromDay; day <= toDay; day++) {
+                while (index + 1 < size && days[index + 1] <= day) index++;
+                sum += index >= 0 ? prices[index] : fallback;
+            }
+            return (double) sum / (toDay - fromDay + 1);
+        }
+    }
+}
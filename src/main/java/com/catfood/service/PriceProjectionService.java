@@ -0,0 +1,211 @@
+package com.catfood.service;
+
+import com.catfood.dto.CostProjectionRequest;
+import com.catfood.dto.CostProjectionResponse;
+import com.catfood.dto.FoodCostProjection;
+import com.catfood.dto.FoodRecommendation;
+import com.catfood.dto.MonthlyCostPoint;
+import com.catfood.dto.PriceUpdate;
+import com.catfood.dto.PriceUpdateRequest;
+import com.catfood.dto.RecommendRequest;
+import com.catfood.dto.RecommendResponse;
+import com.catfood.model.CatFood;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 가격 이력 기반 추천 사료 월 비용 추이 서비스
+ *
+ * 추천 사료(현재 카탈로그 가격 기준 상위 5개)마다 과거·이번 달은 기록된 일별 가격의 월 평균으로,
+ * 미래 월은 최근 TREND_WINDOW_DAYS 일 가격의 선형 추세(최소제곱)로 연장한 가격으로 월 비용을 계산합니다.
+ * 가격 기록이 없는 사료와 첫 기록 이전 날짜는 카탈로그 가격이 유지된다고 가정합니다.
+ */
+@Service
+public class PriceProjectionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PriceProjectionService.class);
+
+    static final int TREND_WINDOW_DAYS = 90;
+
+    private final CatFoodRecommendService recommendService;
+    private final PriceHistoryStore priceStore;
+    private final Clock clock;
+
+    @Autowired
+    public PriceProjectionService(CatFoodRecommendService recommendService, PriceHistoryStore priceStore) {
+        this(recommendService, priceStore, Clock.systemDefaultZone());
+    }
+
+    PriceProjectionService(CatFoodRecommendService recommendService, PriceHistoryStore priceStore, Clock clock) {
+        this.recommendService = recommendService;
+        this.priceStore = priceStore;
+        this.clock = clock;
+    }
+
+    /**
+     * 가격 포인트를 기록합니다. 사료별로 날짜순 정렬 후 추가하며, 전체를 검증한 뒤 한 번에 저장합니다.
+     * (날짜 검증과 추가는 PriceHistoryStore.recordAll 이 쓰기 락 안에서 수행)
+     */
+    public int recordPrices(PriceUpdateRequest request) {
+        Set<String> foodIds = new HashSet<>();
+        for (CatFood food : recommendService.getCatalog()) {
+            foodIds.add(food.getId());
+        }
+
+        List<PriceUpdate> updates = new ArrayList<>(request.getPrices());
+        updates.sort(Comparator.comparing(PriceUpdate::getFoodId).thenComparing(PriceUpdate::getDate));
+
+        List<PriceHistoryStore.PriceRecord> records = new ArrayList<>(updates.size());
+        for (PriceUpdate update : updates) {
+            if (!foodIds.contains(update.getFoodId())) {
+                throw new IllegalArgumentException("존재하지 않는 사료 id입니다: " + update.getFoodId());
+            }
+            records.add(new PriceHistoryStore.PriceRecord(update.getFoodId(), update.getDate(), update.getPricePerKg()));
+        }
+
+        priceStore.recordAll(records);
+        logger.info("가격 기록 완료 - {}건, 사료 {}개", records.size(),
+                records.stream().map(PriceHistoryStore.PriceRecord::foodId).distinct().count());
+        return records.size();
+    }
+
+    /**
+     * 추천 사료의 과거·미래 월 비용 추이를 계산합니다.
+     */
+    public CostProjectionResponse project(CostProjectionRequest request) {
+        RecommendResponse recommended = recommendService.recommend(toRecommendRequest(request));
+        double dailyCalories = recommended.getDailyCalories();
+        int monthlyBudget = request.getMonthlyBudget();
+        double priceFactor = 1.0 + (request.getPriceChangePercent() != null ? request.getPriceChangePercent() : 0.0) / 100.0;
+
+        LocalDate today = LocalDate.now(clock);
+        YearMonth current = YearMonth.from(today);
+        YearMonth fromMonth = current.minusMonths(request.getPastMonths());
+        YearMonth toMonth = current.plusMonths(request.getFutureMonths());
+        LocalDate queryFrom = fromMonth.atDay(1).isBefore(today.minusDays(TREND_WINDOW_DAYS - 1))
+                ? fromMonth.atDay(1)
+                : today.minusDays(TREND_WINDOW_DAYS - 1);
+
+        Map<String, CatFood> foods = findFoods(recommended.getRecommendations());
+        List<FoodCostProjection> projections = new ArrayList<>();
+
+        for (FoodRecommendation rec : recommended.getRecommendations()) {
+            CatFood food = foods.get(rec.getFoodId());
+            PriceHistoryStore.PricePoints points = priceStore.range(food.getId(), queryFrom, today);
+
+            int todayDay = (int) today.toEpochDay();
+            int currentPrice = points.priceOn(todayDay, food.getPricePerKg());
+            double trendPerDay = trendPerDay(points, todayDay - TREND_WINDOW_DAYS + 1, todayDay, currentPrice);
+
+            List<MonthlyCostPoint> months = new ArrayList<>();
+            long costSum = 0;
+            int overBudgetMonths = 0;
+            for (YearMonth month = fromMonth; !month.isAfter(toMonth); month = month.plusMonths(1)) {
+                int firstDay = (int) month.atDay(1).toEpochDay();
+                int lastDay = (int) month.atEndOfMonth().toEpochDay();
+                boolean projected = month.isAfter(current);
+
+                double price;
+                if (projected) {
+                    double middleDay = (firstDay + lastDay) / 2.0;
+                    price = (currentPrice + trendPerDay * (middleDay - todayDay)) * priceFactor;
+                } else {
+                    price = points.averagePrice(firstDay, lastDay, food.getPricePerKg());
+                }
+                int averagePrice = (int) Math.max(1, Math.round(price));
+                int monthlyCost = CatFoodRecommendService.monthlyCost(dailyCalories, food.getKcalPer100g(), averagePrice);
+
+                MonthlyCostPoint point = new MonthlyCostPoint();
+                point.setMonth(month.toString());
+                point.setAveragePricePerKg(averagePrice);
+                point.setMonthlyCost(monthlyCost);
+                point.setProjected(projected);
+                point.setOverBudget(monthlyCost > monthlyBudget);
+                months.add(point);
+
+                costSum += monthlyCost;
+                if (monthlyCost > monthlyBudget) overBudgetMonths++;
+            }
+
+            FoodCostProjection projection = new FoodCostProjection();
+            projection.setRank(rec.getRank());
+            projection.setFoodId(food.getId());
+            projection.setFoodName(food.getName());
+            projection.setBrand(food.getBrand());
+            projection.setCurrentPricePerKg(currentPrice);
+            projection.setPriceTrendPerMonth((int) Math.round(trendPerDay * 30));
+            projection.setAverageMonthlyCost((int) (costSum / months.size()));
+            projection.setOverBudgetMonths(overBudgetMonths);
+            projection.setMonths(months);
+            projections.add(projection);
+        }
+
+        logger.info("비용 추이 계산 완료 - 사료 {}개, 기간 {} ~ {}", projections.size(), fromMonth, toMonth);
+
+        return new CostProjectionResponse(dailyCalories, monthlyBudget, fromMonth.toString(), toMonth.toString(),
+                projections);
+    }
+
+    /**
+     * 기간 [fromDay, toDay] 일별 가격의 최소제곱 기울기 (원/kg, 하루당). 기록이 없으면 0
+     * 첫 기록 이전 날짜는 가격을 알 수 없으므로 회귀에서 제외합니다.
+     */
+    static double trendPerDay(PriceHistoryStore.PricePoints points, int fromDay, int toDay, int fallback) {
+        if (points.size() == 0) return 0.0;
+        fromDay = Math.max(fromDay, points.day(0));
+        if (toDay <= fromDay) return 0.0;
+
+        int n = toDay - fromDay + 1;
+        double meanX = (n - 1) / 2.0;
+        double meanY = points.averagePrice(fromDay, toDay, fallback);
+
+        int index = 0;
+        double covariance = 0.0;
+        double variance = 0.0;
+        for (int day = fromDay; day <= toDay; day++) {
+            while (index + 1 < points.size() && points.day(index + 1) <= day) index++;
+            double x = day - fromDay - meanX;
+            covariance += x * (points.price(index) - meanY);
+            variance += x * x;
+        }
+        return covariance / variance;
+    }
+
+    private Map<String, CatFood> findFoods(List<FoodRecommendation> recommendations) {
+        Set<String> ids = new HashSet<>();
+        for (FoodRecommendation rec : recommendations) {
+            ids.add(rec.getFoodId());
+        }
+        Map<String, CatFood> foods = new HashMap<>();
+        for (CatFood food : recommendService.getCatalog()) {
+            if (ids.contains(food.getId())) {
+                foods.putIfAbsent(food.getId(), food);
+            }
+        }
+        return foods;
+    }
+
+    private RecommendRequest toRecommendRequest(CostProjectionRequest request) {
+        RecommendRequest recommendRequest = new RecommendRequest();
+        recommendRequest.setWeightKg(request.getWeightKg());
+        recommendRequest.setAgeMonths(request.getAgeMonths());
+        recommendRequest.setGender(request.getGender());
+        recommendRequest.setNeutered(request.getNeutered());
+        recommendRequest.setMonthlyBudget(request.getMonthlyBudget());
+        recommendRequest.setScoringPolicy(request.getScoringPolicy());
+        return recommendRequest;
+    }
+}
@@ -0,0 +1,195 @@
+package com.catfood.service;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 사료 한 종의 가격 시계열 (봉인된 세그먼트용, 불변)
+ *
+ * 가격 포인트 (날짜=epoch day, kg당 가격) 를 BLOCK_SIZE 개 단위 블록으로 나누어,
+ * 블록 첫 포인트는 헤더 배열에 절댓값으로, 나머지는 직전 포인트와의 차이를 가변 길이 정수로 인코딩합니다.
+ *   - 날짜 차이: 항상 양수 → unsigned varint (일별 가격이면 1바이트)
+ *   - 가격 차이: 음수 가능 → zigzag varint (소폭 변동이면 1~2바이트)
+ *
+ * 범위 조회는 블록 헤더 이분 탐색으로 시작 블록을 찾은 뒤 해당 구간만 복원합니다.
+ */
+final class PriceSeries {
+
+    static final int BLOCK_SIZE = 64;
+
+    private final int count;
+    private final int[] blockFirstDay;
+    private final int[] blockFirstPrice;
+    private final int[] blockOffset;
+    private final byte[] deltas;
+    private final int lastDay;
+    private final int lastPrice;
+
+    private PriceSeries(int count, int[] blockFirstDay, int[] blockFirstPrice, int[] blockOffset,
+                        byte[] deltas, int lastDay, int lastPrice) {
+        this.count = count;
+        this.blockFirstDay = blockFirstDay;
+        this.blockFirstPrice = blockFirstPrice;
+        this.blockOffset = blockOffset;
+        this.deltas = deltas;
+        this.lastDay = lastDay;
+        this.lastPrice = lastPrice;
+    }
+
+    /**
+     * 날짜 오름차순 포인트 배열을 인코딩합니다.
+     */
+    static PriceSeries encode(int[] days, int[] prices, int count) {
+        int blockCount = (count + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        int[] blockFirstDay = new int[blockCount];
+        int[] blockFirstPrice = new int[blockCount];
+        int[] blockOffset = new int[blockCount];
+        byte[] buffer = new byte[Math.max(16, count * 4)];
+        int position = 0;
+
+        for (int i = 0; i < count; i++) {
+            int block = i / BLOCK_SIZE;
+            if (i % BLOCK_SIZE == 0) {
+                blockFirstDay[block] = days[i];
+                blockFirstPrice[block] = prices[i];
+                blockOffset[block] = position;
+                continue;
+            }
+            if (buffer.length - position < 10) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            position = writeVarint(buffer, position, days[i] - days[i - 1]);
+            position = writeVarint(buffer, position, zigzag(prices[i] - prices[i - 1]));
+        }
+
+        return new PriceSeries(count, blockFirstDay, blockFirstPrice, blockOffset,
+                Arrays.copyOf(buffer, position),
+                count > 0 ? days[count - 1] : Integer.MIN_VALUE,
+                count > 0 ? prices[count - 1] : 0);
+    }
+
+    int lastDay() {
+        return lastDay;
+    }
+
+    int lastPrice() {
+        return lastPrice;
+    }
+
+    /**
+     * fromDay 이전 마지막 포인트부터 toDay 이하 포인트까지 순서대로 전달합니다.
+     * (fromDay 이전 포인트는 구간 시작 시점의 유효 가격을 정하는 데 사용)
+     */
+    void scan(int fromDay, int toDay, PointConsumer consumer) {
+        if (count == 0 || blockFirstDay[0] > toDay) return;
+        if (lastDay < fromDay) {
+            consumer.accept(lastDay, lastPrice);
+            return;
+        }
+
+        int block = Math.max(0, lastBlockStartingAtOrBefore(fromDay));
+        for (; block < blockFirstDay.length; block++) {
+            int day = blockFirstDay[block];
+            int price = blockFirstPrice[block];
+            if (day > toDay) return;
+            consumer.accept(day, price);
+
+            int position = blockOffset[block];
+            int blockEnd = Math.min(BLOCK_SIZE, count - block * BLOCK_SIZE);
+            for (int i = 1; i < blockEnd; i++) {
+                int value = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = deltas[position++];
+                    value |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                day += value;
+
+                value = 0;
+                shift = 0;
+                do {
+                    b = deltas[position++];
+                    value |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                price += (value >>> 1) ^ -(value & 1);
+
+                if (day > toDay) return;
+                consumer.accept(day, price);
+            }
+        }
+    }
+
+    private int lastBlockStartingAtOrBefore(int day) {
+        int low = 0;
+        int high = blockFirstDay.length - 1;
+        int result = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (blockFirstDay[mid] <= day) {
+                result = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return result;
+    }
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(count);
+        out.writeInt(blockFirstDay.length);
+        for (int block = 0; block < blockFirstDay.length; block++) {
+            out.writeInt(blockFirstDay[block]);
+            out.writeInt(blockFirstPrice[block]);
+            out.writeInt(blockOffset[block]);
+        }
+        out.writeInt(deltas.length);
+        out.write(deltas);
+        out.writeInt(lastDay);
+        out.writeInt(lastPrice);
+    }
+
+    static PriceSeries readFrom(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        int blockCount = in.readInt();
+        int[] blockFirstDay = new int[blockCount];
+        int[] blockFirstPrice = new int[blockCount];
+        int[] blockOffset = new int[blockCount];
+        for (int block = 0; block < blockCount; block++) {
+            blockFirstDay[block] = in.readInt();
+            blockFirstPrice[block] = in.readInt();
+            blockOffset[block] = in.readInt();
+        }
+        byte[] deltas = new byte[in.readInt()];
+        in.readFully(deltas);
+        int lastDay = in.readInt();
+        int lastPrice = in.readInt();
+        return new PriceSeries(count, blockFirstDay, blockFirstPrice, blockOffset, deltas, lastDay, lastPrice);
+    }
+
+    private static int writeVarint(byte[] buffer, int position, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    /**
+     * 가격 포인트 소비자 (박싱 없이 기본형 전달)
+     */
+    @FunctionalInterface
+    interface PointConsumer {
+        void accept(int day, int price);
+    }
+}
@@ -0,0 +1,74 @@
+package com.catfood.service;
+
+import com.catfood.model.CatFood;
+
+/**
+ * 점수 정책 식의 변수 값
+ *
+ * 필드 이름이 곧 식에서 쓰는 변수 이름입니다. (ScoringExpressionCompiler 가 필드 getter 핸들로 읽음)
+ * 요청(고양이) 변수는 요청마다 한 번, 후보 사료 변수는 후보마다 설정합니다.
+ * 값을 계속 덮어쓰므로 한 스레드(요청 1건 또는 스캔 작업 1개)에서만 사용합니다.
+ */
+final class ScoringContext {
+
+    // 요청(고양이) 변수
+    double weightKg;
+    double ageMonths;
+    String gender;
+    boolean neutered;
+    String lifeStage;
+    double dailyCalories;
+    double monthlyBudget;
+
+    // 후보 사료 변수
+    double proteinPercent;
+    double fatPercent;
+    double kcalPer100g;
+    double pricePerKg;
+    String type;
+    String foodLifeStage;
+    double monthlyCost;
+
+    ScoringContext cat(double weightKg, int ageMonths, String gender, boolean neutered,
+                       String lifeStage, double dailyCalories) {
+        this.weightKg = weightKg;
+        this.ageMonths = ageMonths;
+        this.gender = gender;
+        this.neutered = neutered;
+        this.lifeStage = lifeStage;
+        this.dailyCalories = dailyCalories;
+        return this;
+    }
+
+    ScoringContext budget(int monthlyBudget) {
+        this.monthlyBudget = monthlyBudget;
+        return this;
+    }
+
+    ScoringContext food(CatFood food, int monthlyCost) {
+        return food(food.getProteinPercent(), food.getFatPercent(), food.getKcalPer100g(), food.getPricePerKg(),
+                food.getType(), food.getLifeStage(), monthlyCost);
+    }
+
+    ScoringContext food(double proteinPercent, double fatPercent, double kcalPer100g, int pricePerKg,
+                        String type, String foodLifeStage, int monthlyCost) {
+        this.proteinPercent = proteinPercent;
+        this.fatPercent = fatPercent;
+        this.kcalPer100g = kcalPer100g;
+        this.pricePerKg = pricePerKg;
+        this.type = type;
+        this.foodLifeStage = foodLifeStage;
+        this.monthlyCost = monthlyCost;
+        return this;
+    }
+
+    /**
+     * 요청 변수만 복사한 새 컨텍스트 (병렬 스캔 작업별 사용)
+     */
+    ScoringContext copy() {
+        ScoringContext copy = new ScoringContext();
+        copy.cat(weightKg, (int) ageMonths, gender, neutered, lifeStage, dailyCalories);
+        copy.monthlyBudget = monthlyBudget;
+        return copy;
+    }
+}
@@ -0,0 +1,595 @@
+package com.catfood.service;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.StringConcatException;
+import java.lang.invoke.StringConcatFactory;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 점수 정책 식 컴파일러
+ *
+ * 식을 파싱하면서 바로 MethodHandle 트리로 조립합니다. (AST 를 남기지 않음)
+ * 결과 핸들의 타입은 (ScoringContext)double, (ScoringContext)boolean, (ScoringContext)String 중 하나입니다.
+ *   - 변수: ScoringContext 필드 getter
+ *   - 연산자·함수: 이 클래스의 정적 메서드 핸들을 filterArguments + permuteArguments 로 결합
+ *   - &&, ||, ?: : guardWithTest (단락 평가)
+ *   - 피연산자가 모두 상수인 연산은 컴파일 시점에 계산
+ * 후보마다 식을 해석하지 않으므로, 평가 비용은 필드 읽기와 산술 연산뿐입니다.
+ *
+ * 문법:
+ *   expr       := or ('?' expr ':' expr)?
+ *   or         := and ('||' and)*
+ *   and        := not ('&&' not)*
+ *   not        := '!' not | comparison
+ *   comparison := additive (('<' | '<=' | '>' | '>=' | '==' | '!=') additive)?
+ *   additive   := term (('+' | '-') term)*
+ *   term       := unary (('*' | '/') unary)*
+ *   unary      := '-' unary | primary
+ *   primary    := 숫자 | '문자열' | true | false | 변수 | 함수 '(' expr (',' expr)* ')' | '(' expr ')'
+ *
+ * 함수: min(a, b), max(a, b), abs(a), floor(a)
+ * 제한: 식 길이 MAX_LENGTH 자, 항·연산 MAX_NODES 개, 중첩 MAX_DEPTH 단계
+ *   (정책은 실행 중 등록될 수 있으므로, 핸들 트리가 깊어져 평가 시 스택이 넘치지 않도록 컴파일 단계에서 거부)
+ * 파생 변수 (DERIVED, 참조할 때만 계산):
+ *   - budgetRemainingPercent = (monthlyBudget - monthlyCost) / monthlyBudget × 100
+ *   - budgetUsagePercent     = floor(monthlyCost × 100 / monthlyBudget)
+ */
+final class ScoringExpressionCompiler {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final Map<String, Variable> VARIABLES = variables();
+
+    static final int MAX_LENGTH = 500;
+    static final int MAX_NODES = 100;
+    static final int MAX_DEPTH = 16;
+
+    /**
+     * 파생 변수 정의 (static/js/recommend-engine.js 의 DERIVED 와 같아야 함)
+     */
+    static final Map<String, String> DERIVED = Map.of(
+            "budgetRemainingPercent", "(monthlyBudget - monthlyCost) / monthlyBudget * 100",
+            "budgetUsagePercent", "floor(monthlyCost * 100 / monthlyBudget)");
+
+    private final String source;
+    private int pos;
+    private int nodes;
+    private int depth;
+
+    private ScoringExpressionCompiler(String source) {
+        this.source = source;
+    }
+
+    /**
+     * 숫자 식을 컴파일합니다. 핸들 타입: (ScoringContext)double
+     */
+    static MethodHandle compileNumber(String source) {
+        return compile(source, double.class);
+    }
+
+    /**
+     * 조건 식을 컴파일합니다. 핸들 타입: (ScoringContext)boolean
+     */
+    static MethodHandle compileCondition(String source) {
+        return compile(source, boolean.class);
+    }
+
+    /**
+     * '{식}' 자리 표시자가 들어간 문장을 컴파일합니다.
+     * 숫자 값은 정수면 정수로, 아니면 소수 첫째 자리까지(HALF_UP) 표시합니다.
+     */
+    static Template compileTemplate(String text) {
+        if (text.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("문장이 너무 깁니다 (최대 " + MAX_LENGTH + "자): " + text);
+        }
+        List<String> literals = new ArrayList<>();
+        List<MethodHandle> values = new ArrayList<>();
+        int start = 0;
+        while (true) {
+            int open = text.indexOf('{', start);
+            if (open < 0) break;
+            int close = text.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("문장의 '{' 가 닫히지 않았습니다: " + text);
+            }
+            literals.add(text.substring(start, open));
+            Compiled value = new ScoringExpressionCompiler(text.substring(open + 1, close)).parseAll();
+            values.add(toText(value));
+            start = close + 1;
+        }
+        literals.add(text.substring(start));
+        if (values.isEmpty()) return new Template(literals.get(0), null);
+        return new Template(null, concat(literals, values));
+    }
+
+    /**
+     * literals[0] + values[0] + ... + literals[n] 을 한 번에 이어 붙이는 (ScoringContext)String 핸들
+     *
+     * 문자열 + 연산자와 같은 StringConcatFactory 로 만들어 값마다 StringBuilder 를 거치지 않습니다.
+     */
+    private static MethodHandle concat(List<String> literals, List<MethodHandle> values) {
+        StringBuilder recipe = new StringBuilder();
+        List<Object> constants = new ArrayList<>();
+        for (int i = 0; i < literals.size(); i++) {
+            if (i > 0) recipe.append('\1');
+            if (literals.get(i).isEmpty()) continue;
+            recipe.append('\2');
+            constants.add(literals.get(i));
+        }
+        MethodType concatType = MethodType.methodType(String.class, Collections.nCopies(values.size(), String.class));
+        MethodHandle concat;
+        try {
+            concat = StringConcatFactory.makeConcatWithConstants(LOOKUP, "render", concatType,
+                    recipe.toString(), constants.toArray()).getTarget();
+        } catch (StringConcatException e) {
+            throw new IllegalArgumentException("문장을 컴파일할 수 없습니다: " + e.getMessage(), e);
+        }
+        MethodHandle rendered = MethodHandles.filterArguments(concat, 0, values.toArray(new MethodHandle[0]));
+        return MethodHandles.permuteArguments(rendered, MethodType.methodType(String.class, ScoringContext.class),
+                new int[values.size()]);
+    }
+
+    private static MethodHandle compile(String source, Class<?> expectedType) {
+        if (source == null || source.isBlank()) {
+            throw new IllegalArgumentException("점수 식이 비어 있습니다.");
+        }
+        if (source.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("점수 식이 너무 깁니다 (최대 " + MAX_LENGTH + "자, "
+                    + source.length() + "자)");
+        }
+        Compiled compiled = new ScoringExpressionCompiler(source).parseAll();
+        if (compiled.type != expectedType) {
+            throw new IllegalArgumentException(String.format("점수 식의 결과가 %s 이어야 합니다: %s",
+                    typeName(expectedType), source));
+        }
+        return compiled.handle;
+    }
+
+    private Compiled parseAll() {
+        Compiled result = expr();
+        skipSpaces();
+        if (pos < source.length()) {
+            throw error("예상하지 못한 문자 '" + source.charAt(pos) + "'");
+        }
+        return result;
+    }
+
+    // ===== 파서 =====
+
+    private Compiled expr() {
+        enter();
+        try {
+            return ternary();
+        } finally {
+            depth--;
+        }
+    }
+
+    private Compiled ternary() {
+        Compiled condition = or();
+        if (!accept("?")) return condition;
+        node();
+        requireType(condition, boolean.class, "?:");
+        Compiled whenTrue = expr();
+        expect(":");
+        Compiled whenFalse = expr();
+        if (whenTrue.type != whenFalse.type) {
+            throw error("?: 의 두 결과 타입이 다릅니다");
+        }
+        if (condition.isConstant()) {
+            return (Boolean) condition.constant ? whenTrue : whenFalse;
+        }
+        return Compiled.of(MethodHandles.guardWithTest(condition.handle, whenTrue.handle, whenFalse.handle),
+                whenTrue.type);
+    }
+
+    private Compiled or() {
+        Compiled left = and();
+        while (accept("||")) {
+            node();
+            Compiled right = and();
+            requireType(left, boolean.class, "||");
+            requireType(right, boolean.class, "||");
+            if (left.isConstant()) {
+                left = (Boolean) left.constant ? left : right;
+            } else {
+                left = Compiled.of(MethodHandles.guardWithTest(left.handle, Compiled.constant(true).handle,
+                        right.handle), boolean.class);
+            }
+        }
+        return left;
+    }
+
+    private Compiled and() {
+        Compiled left = not();
+        while (accept("&&")) {
+            node();
+            Compiled right = not();
+            requireType(left, boolean.class, "&&");
+            requireType(right, boolean.class, "&&");
+            if (left.isConstant()) {
+                left = (Boolean) left.constant ? right : left;
+            } else {
+                left = Compiled.of(MethodHandles.guardWithTest(left.handle, right.handle,
+                        Compiled.constant(false).handle), boolean.class);
+            }
+        }
+        return left;
+    }
+
+    private Compiled not() {
+        if (peek("!") && !peek("!=")) {
+            accept("!");
+            node();
+            enter();
+            Compiled operand = not();
+            depth--;
+            requireType(operand, boolean.class, "!");
+            return unary("not", operand);
+        }
+        return comparison();
+    }
+
+    private Compiled comparison() {
+        Compiled left = additive();
+        for (String op : new String[]{"<=", ">=", "==", "!=", "<", ">"}) {
+            if (!accept(op)) continue;
+            node();
+            Compiled right = additive();
+            if (op.equals("==") || op.equals("!=")) {
+                if (left.type != right.type) throw error(op + " 의 두 피연산자 타입이 다릅니다");
+                String name = (op.equals("==") ? "eq" : "ne") + suffix(left.type);
+                return binary(name, left, right);
+            }
+            requireType(left, double.class, op);
+            requireType(right, double.class, op);
+            return binary(switch (op) {
+                case "<" -> "lt";
+                case "<=" -> "le";
+                case ">" -> "gt";
+                default -> "ge";
+            }, left, right);
+        }
+        return left;
+    }
+
+    private Compiled additive() {
+        Compiled left = term();
+        while (true) {
+            String op = accept("+") ? "add" : accept("-") ? "sub" : null;
+            if (op == null) return left;
+            node();
+            left = arithmetic(op, left, term());
+        }
+    }
+
+    private Compiled term() {
+        Compiled left = unary();
+        while (true) {
+            String op = accept("*") ? "mul" : accept("/") ? "div" : null;
+            if (op == null) return left;
+            node();
+            left = arithmetic(op, left, unary());
+        }
+    }
+
+    private Compiled unary() {
+        if (accept("-")) {
+            node();
+            enter();
+            Compiled operand = unary();
+            depth--;
+            requireType(operand, double.class, "-");
+            return unary("neg", operand);
+        }
+        return primary();
+    }
+
+    private Compiled primary() {
+        skipSpaces();
+        if (pos >= source.length()) throw error("식이 끝났습니다");
+        char c = source.charAt(pos);
+        node();
+
+        if (accept("(")) {
+            Compiled inner = expr();
+            expect(")");
+            return inner;
+        }
+        if (c == '\'') {
+            int end = source.indexOf('\'', pos + 1);
+            if (end < 0) throw error("문자열이 닫히지 않았습니다");
+            String value = source.substring(pos + 1, end);
+            pos = end + 1;
+            return Compiled.constant(value);
+        }
+        if (Character.isDigit(c) || c == '.') {
+            int start = pos;
+            while (pos < source.length() && (Character.isDigit(source.charAt(pos)) || source.charAt(pos) == '.')) {
+                pos++;
+            }
+            try {
+                return Compiled.constant(Double.parseDouble(source.substring(start, pos)));
+            } catch (NumberFormatException e) {
+                pos = start;
+                throw error("숫자 형식이 올바르지 않습니다");
+            }
+        }
+        if (Character.isLetter(c)) {
+            int start = pos;
+            while (pos < source.length() && Character.isLetterOrDigit(source.charAt(pos))) {
+                pos++;
+            }
+            String name = source.substring(start, pos);
+            if (accept("(")) return function(name, start);
+            return variable(name, start);
+        }
+        throw error("예상하지 못한 문자 '" + c + "'");
+    }
+
+    private Compiled variable(String name, int start) {
+        if (name.equals("true") || name.equals("false")) {
+            return Compiled.constant(Boolean.parseBoolean(name));
+        }
+        Variable variable = VARIABLES.get(name);
+        if (variable != null) {
+            return Compiled.of(variable.getter, variable.type);
+        }
+        String derived = DERIVED.get(name);
+        if (derived != null) {
+            return new ScoringExpressionCompiler(derived).parseAll();
+        }
+        pos = start;
+        throw error("알 수 없는 변수 '" + name + "'");
+    }
+
+    private Compiled function(String name, int start) {
+        List<Compiled> args = new ArrayList<>();
+        if (!accept(")")) {
+            do {
+                args.add(expr());
+            } while (accept(","));
+            expect(")");
+        }
+        int arity = switch (name) {
+            case "min", "max" -> 2;
+            case "abs", "floor" -> 1;
+            default -> {
+                pos = start;
+                throw error("알 수 없는 함수 '" + name + "'");
+            }
+        };
+        if (args.size() != arity) {
+            pos = start;
+            throw error(name + " 함수의 인자는 " + arity + "개입니다");
+        }
+        for (Compiled arg : args) {
+            requireType(arg, double.class, name);
+        }
+        return arity == 1 ? unary(name, args.get(0)) : binary(name, args.get(0), args.get(1));
+    }
+
+    private Compiled arithmetic(String op, Compiled left, Compiled right) {
+        requireType(left, double.class, op);
+        requireType(right, double.class, op);
+        return binary(op, left, right);
+    }
+
+    // ===== 핸들 조립 =====
+
+    private static Compiled unary(String name, Compiled operand) {
+        MethodHandle op = operator(name, MethodType.methodType(
+                name.equals("not") ? boolean.class : double.class, operand.type));
+        if (operand.isConstant()) {
+            return Compiled.constant(invokeConstant(op, operand.constant));
+        }
+        return Compiled.of(MethodHandles.filterReturnValue(operand.handle, op), op.type().returnType());
+    }
+
+    private static Compiled binary(String name, Compiled left, Compiled right) {
+        Class<?> returnType = switch (name) {
+            case "add", "sub", "mul", "div", "min", "max" -> double.class;
+            default -> boolean.class;
+        };
+        MethodHandle op = operator(name, MethodType.methodType(returnType, left.type, right.type));
+        if (left.isConstant() && right.isConstant()) {
+            return Compiled.constant(invokeConstant(op, left.constant, right.constant));
+        }
+        // 한쪽이 상수면 연산자에 상수를 묶어 단항으로 조립 (핸들 단계 축소)
+        if (right.isConstant()) {
+            return Compiled.of(MethodHandles.filterArguments(
+                    MethodHandles.insertArguments(op, 1, right.constant), 0, left.handle), returnType);
+        }
+        if (left.isConstant()) {
+            return Compiled.of(MethodHandles.filterArguments(
+                    MethodHandles.insertArguments(op, 0, left.constant), 0, right.handle), returnType);
+        }
+        MethodHandle both = MethodHandles.filterArguments(op, 0, left.handle, right.handle);
+        MethodHandle merged = MethodHandles.permuteArguments(both,
+                MethodType.methodType(returnType, ScoringContext.class), 0, 0);
+        return Compiled.of(merged, returnType);
+    }
+
+    private static MethodHandle toText(Compiled value) {
+        if (value.type == String.class) return value.handle;
+        MethodHandle format = operator("text", MethodType.methodType(String.class, value.type));
+        return MethodHandles.filterReturnValue(value.handle, format);
+    }
+
+    private static MethodHandle operator(String name, MethodType type) {
+        try {
+            return LOOKUP.findStatic(ScoringExpressionCompiler.class, name, type);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("연산자 핸들 조회 실패: " + name + type, e);
+        }
+    }
+
+    private static Object invokeConstant(MethodHandle op, Object... args) {
+        try {
+            return op.invokeWithArguments(args);
+        } catch (Throwable e) {
+            throw new IllegalStateException("상수 계산 실패", e);
+        }
+    }
+
+    private static Map<String, Variable> variables() {
+        Map<String, Variable> variables = new HashMap<>();
+        for (Field field : ScoringContext.class.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) continue;
+            try {
+                variables.put(field.getName(), new Variable(LOOKUP.unreflectGetter(field), field.getType()));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("변수 핸들 조회 실패: " + field.getName(), e);
+            }
+        }
+        return Map.copyOf(variables);
+    }
+
+    // ===== 연산자 (findStatic 대상) =====
+
+    static double add(double a, double b) { return a + b; }
+    static double sub(double a, double b) { return a - b; }
+    static double mul(double a, double b) { return a * b; }
+    static double div(double a, double b) { return a / b; }
+    static double neg(double a) { return -a; }
+    static double min(double a, double b) { return Math.min(a, b); }
+    static double max(double a, double b) { return Math.max(a, b); }
+    static double abs(double a) { return Math.abs(a); }
+    static double floor(double a) { return Math.floor(a); }
+
+    static boolean lt(double a, double b) { return a < b; }
+    static boolean le(double a, double b) { return a <= b; }
+    static boolean gt(double a, double b) { return a > b; }
+    static boolean ge(double a, double b) { return a >= b; }
+    static boolean eqNumber(double a, double b) { return a == b; }
+    static boolean neNumber(double a, double b) { return a != b; }
+    static boolean eqBoolean(boolean a, boolean b) { return a == b; }
+    static boolean neBoolean(boolean a, boolean b) { return a != b; }
+    static boolean eqString(String a, String b) { return Objects.equals(a, b); }
+    static boolean neString(String a, String b) { return !Objects.equals(a, b); }
+    static boolean not(boolean a) { return !a; }
+
+    static String text(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) return String.valueOf(value);
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) return Long.toString((long) value);
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    static String text(boolean value) {
+        return String.valueOf(value);
+    }
+
+    // ===== 토큰 처리 =====
+
+    private void node() {
+        if (++nodes > MAX_NODES) {
+            throw error("항·연산이 너무 많습니다 (최대 " + MAX_NODES + "개)");
+        }
+    }
+
+    private void enter() {
+        if (++depth > MAX_DEPTH) {
+            throw error("중첩이 너무 깊습니다 (최대 " + MAX_DEPTH + "단계)");
+        }
+    }
+
+    private void skipSpaces() {
+        while (pos < source.length() && Character.isWhitespace(source.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private boolean peek(String token) {
+        skipSpaces();
+        return source.startsWith(token, pos);
+    }
+
+    private boolean accept(String token) {
+        if (!peek(token)) return false;
+        pos += token.length();
+        return true;
+    }
+
+    private void expect(String token) {
+        if (!accept(token)) throw error("'" + token + "' 가 필요합니다");
+    }
+
+    private void requireType(Compiled operand, Class<?> type, String op) {
+        if (operand.type != type) {
+            throw error(op + " 의 피연산자는 " + typeName(type) + " 이어야 합니다");
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(String.format("점수 식 오류 (%d번째 문자): %s - %s",
+                pos + 1, message, source));
+    }
+
+    private static String suffix(Class<?> type) {
+        return type == double.class ? "Number" : type == boolean.class ? "Boolean" : "String";
+    }
+
+    private static String typeName(Class<?> type) {
+        return type == double.class ? "숫자" : type == boolean.class ? "참/거짓" : "문자열";
+    }
+
+    /**
+     * 컴파일 중간 결과 (상수이면 constant 에 값 보관)
+     */
+    private record Compiled(MethodHandle handle, Class<?> type, Object constant) {
+
+        static Compiled of(MethodHandle handle, Class<?> type) {
+            return new Compiled(handle, type, null);
+        }
+
+        static Compiled constant(Object value) {
+            Class<?> type = value instanceof Double ? double.class
+                    : value instanceof Boolean ? boolean.class
+                    : String.class;
+            MethodHandle handle = MethodHandles.dropArguments(
+                    MethodHandles.constant(type, value), 0, ScoringContext.class);
+            return new Compiled(handle, type, value);
+        }
+
+        boolean isConstant() {
+            return constant != null;
+        }
+    }
+
+    private record Variable(MethodHandle getter, Class<?> type) {
+    }
+
+    /**
+     * 컴파일된 문장 (자리 표시자가 없으면 고정 문장, 있으면 이어 붙이기 핸들)
+     */
+    static final class Template {
+
+        private final String constant;
+        private final MethodHandle handle;
+
+        private Template(String constant, MethodHandle handle) {
+            this.constant = constant;
+            this.handle = handle;
+        }
+
+        String render(ScoringContext context) {
+            if (handle == null) return constant;
+            try {
+                return (String) handle.invokeExact(context);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.catfood.service;
+
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 점수 정책별로 특화되는 샤드 스캔 루프
+ *
+ * 후보마다 정책의 MethodHandle 을 호출하면 핸들이 JIT 상수가 아니므로 점수 식이 루프에 인라인되지 않고
+ * 후보마다 호출 비용이 듭니다. 그래서 정책을 컴파일할 때 이 클래스의 바이트코드를 그대로 복사해
+ * hidden class 로 정의하고, 점수 핸들을 class data 로 넘겨 static final 상수(SPECIALIZED)로 만듭니다.
+ * 복사본의 scan 은 점수 식까지 하나로 컴파일되므로 식을 직접 작성한 루프와 같은 기계어가 됩니다.
+ *
+ * 바이트코드를 생성하지 않고 이미 컴파일된 이 클래스를 재사용합니다.
+ * hidden class 를 정의할 수 없는 환경(GraalVM native image 등)에서는 이 클래스 자체가
+ * 인스턴스 필드의 핸들을 호출합니다. (결과는 같고 후보당 호출 비용만 다름)
+ * 대체 경로는 처음 한 번 WARN 으로 기록하며, specialized() 로 확인할 수 있습니다.
+ *
+ * 복사본으로 정의되므로 중첩 클래스·람다를 두지 않습니다.
+ */
+final class ScoringKernel implements CatalogIndex.ShardScanner {
+
+    /**
+     * 복사본: class data 로 받은 점수 핸들, 원본: null
+     */
+    private static final MethodHandle SPECIALIZED = specializedScore();
+
+    /**
+     * 특화 실패 기록 여부 (원본 클래스에서만 사용)
+     */
+    private static final AtomicBoolean FALLBACK_LOGGED = new AtomicBoolean();
+
+    private final MethodHandle score;
+
+    private ScoringKernel(MethodHandle score) {
+        this.score = score;
+    }
+
+    /**
+     * 점수 핸들((ScoringContext)double)에 특화된 스캔 루프를 만듭니다.
+     */
+    static CatalogIndex.ShardScanner of(MethodHandle score) {
+        byte[] template = templateBytes();
+        Throwable failure = null;
+        if (template != null) {
+            try {
+                MethodHandles.Lookup kernel = MethodHandles.lookup().defineHiddenClassWithClassData(template, score, true);
+                MethodHandle constructor = kernel.findConstructor(kernel.lookupClass(),
+                        MethodType.methodType(void.class, MethodHandle.class));
+                return (CatalogIndex.ShardScanner) constructor.invoke(score);
+            } catch (VirtualMachineError e) {
+                throw e;
+            } catch (Throwable e) {
+                failure = e;
+            }
+        }
+        // 특화 불가 환경: 원본 인스턴스로 대체 (후보마다 핸들 호출)
+        if (FALLBACK_LOGGED.compareAndSet(false, true)) {
+            LoggerFactory.getLogger(ScoringKernel.class).warn(
+                    "점수 정책 스캔 루프 특화 실패 - 후보별 핸들 호출로 대체합니다 (샤드 스캔이 느려질 수 있음): {}",
+                    failure != null ? failure.toString() : "ScoringKernel.class 바이트코드를 읽을 수 없음");
+        }
+        return new ScoringKernel(score);
+    }
+
+    private static byte[] templateBytes() {
+        try (InputStream in = ScoringKernel.class.getResourceAsStream("ScoringKernel.class")) {
+            return in == null ? null : in.readAllBytes();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle specializedScore() {
+        try {
+            return MethodHandles.classData(MethodHandles.lookup(), ConstantDescs.DEFAULT_NAME, MethodHandle.class);
+        } catch (IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * 점수 식이 루프에 인라인된 복사본이면 true
+     */
+    @Override
+    public boolean specialized() {
+        return SPECIALIZED != null;
+    }
+
+    /**
+     * 샤드에서 생애 단계·예산 조건을 만족하는 후보의 점수를 계산해 top 에 넣습니다.
+     *
+     * 후보용 컨텍스트는 여기서 복사합니다. 복사본에서는 점수 식이 인라인되어 컨텍스트가 메서드 밖으로
+     * 나가지 않으므로, JIT 가 객체를 제거하고(scalar replacement) 식이 읽지 않는 변수는 쓰지도 않습니다.
+     *
+     * @param context 고양이·예산 변수가 설정된 컨텍스트 (변경하지 않음)
+     */
+    @Override
+    public void scan(CatalogIndex.Shard shard, ScoringContext context, byte stageBit, CatalogIndex.TopK top) {
+        // 복사본에서는 상수 접기로 SPECIALIZED 만 남음
+        MethodHandle score = SPECIALIZED != null ? SPECIALIZED : this.score;
+        ScoringContext candidate = context.copy();
+        double dailyCalories = context.dailyCalories;
+        // budget(int) 로만 설정되므로 정수 비교 (후보마다 double 변환 없음)
+        int monthlyBudget = (int) context.monthlyBudget;
+        try {
+            for (int i = 0; i < shard.length; i++) {
+                if ((shard.lifeStageMask[i] & stageBit) == 0) continue;
+
+                int monthlyCost = CatFoodRecommendService.monthlyCost(
+                        dailyCalories, shard.kcalPer100g[i], shard.pricePerKg[i]);
+                if (monthlyCost > monthlyBudget) continue;
+
+                top.countCandidate();
+                candidate.food(shard.proteinPercent[i], shard.fatPercent[i], shard.kcalPer100g[i],
+                        shard.pricePerKg[i], shard.types[i], shard.lifeStages[i], monthlyCost);
+                top.offer(shard.offset + i, monthlyCost, (double) score.invokeExact(candidate));
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 샤드에서 생애 단계·예산 조건을 만족하는 후보의 점수를 계산해 모두 hull 에 넣습니다. (다묘 추천)
+     *
+     * @param context 고양이·예산 변수가 설정된 컨텍스트 (변경하지 않음)
+     */
+    @Override
+    public void collect(CatalogIndex.Shard shard, ScoringContext context, byte stageBit, CatalogIndex.Hull hull) {
+        MethodHandle score = SPECIALIZED != null ? SPECIALIZED : this.score;
+        ScoringContext candidate = context.copy();
+        double dailyCalories = context.dailyCalories;
+        int monthlyBudget = (int) context.monthlyBudget;
+        try {
+            for (int i = 0; i < shard.length; i++) {
+                if ((shard.lifeStageMask[i] & stageBit) == 0) continue;
+
+                int monthlyCost = CatFoodRecommendService.monthlyCost(
+                        dailyCalories, shard.kcalPer100g[i], shard.pricePerKg[i]);
+                if (monthlyCost > monthlyBudget) continue;
+
+                candidate.food(shard.proteinPercent[i], shard.fatPercent[i], shard.kcalPer100g[i],
+                        shard.pricePerKg[i], shard.types[i], shard.lifeStages[i], monthlyCost);
+                hull.offer(shard.offset + i, monthlyCost, (double) score.invokeExact(candidate));
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
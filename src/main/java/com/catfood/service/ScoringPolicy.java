@@ -0,0 +1,210 @@
+package com.catfood.service;
+
+import com.catfood.dto.ReasonRule;
+import com.catfood.dto.ScoringPolicyDefinition;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+
+/**
+ * 컴파일된 점수 정책
+ *
+ * 정의(ScoringPolicyDefinition)의 식을 생성 시점에 모두 MethodHandle 로 컴파일하므로,
+ * 후보 사료마다 호출되는 score/reason 은 식을 해석하지 않습니다. 생성 후에는 변경되지 않습니다.
+ */
+final class ScoringPolicy {
+
+    /**
+     * 추천 이유 조건을 묶는 단위 (조건 결과를 int 비트로 모음)
+     */
+    private static final int CONDITIONS_PER_MASK = Integer.SIZE;
+
+    private static final MethodHandle OR = orHandle();
+
+    private final String name;
+    private final ScoringPolicyDefinition definition;
+    private final MethodHandle score;
+    private final CatalogIndex.ShardScanner scanner;
+    private final MethodHandle[] reasonConditions;
+    private final MethodHandle[] reasonMasks;
+    private final ScoringExpressionCompiler.Template[] reasonTexts;
+
+    private ScoringPolicy(String name, ScoringPolicyDefinition definition, MethodHandle score,
+                          MethodHandle[] reasonConditions, ScoringExpressionCompiler.Template[] reasonTexts) {
+        this.name = name;
+        this.definition = definition;
+        this.score = score;
+        this.scanner = ScoringKernel.of(score);
+        this.reasonConditions = reasonConditions;
+        this.reasonMasks = reasonMasks(reasonConditions);
+        this.reasonTexts = reasonTexts;
+    }
+
+    /**
+     * 정책 정의를 컴파일합니다. 식 오류는 IllegalArgumentException (정책·식 위치 포함)
+     *
+     * 컴파일 후 표본 컨텍스트로 점수·추천 이유를 한 번 평가하여, 평가 중 실패하는 정책은 등록 전에 거부합니다.
+     */
+    static ScoringPolicy compile(String name, ScoringPolicyDefinition definition) {
+        if (definition.getFallbackReason() == null || definition.getFallbackReason().isBlank()) {
+            throw new IllegalArgumentException("점수 정책 '" + name + "': 기본 추천 이유가 비어 있습니다.");
+        }
+        requireNonNegative(name, "공동 구매 가산점", definition.getSharedFoodBonus());
+        requireNonNegative(name, "사료 유지 허용 점수 차이", definition.getSwitchMargin());
+        List<ReasonRule> rules = definition.getReasons() == null ? List.of() : definition.getReasons();
+        try {
+            MethodHandle score = ScoringExpressionCompiler.compileNumber(definition.getScore());
+            MethodHandle[] conditions = new MethodHandle[rules.size()];
+            ScoringExpressionCompiler.Template[] texts = new ScoringExpressionCompiler.Template[rules.size()];
+            for (int i = 0; i < rules.size(); i++) {
+                conditions[i] = ScoringExpressionCompiler.compileCondition(rules.get(i).getWhen());
+                texts[i] = ScoringExpressionCompiler.compileTemplate(rules.get(i).getText());
+            }
+            ScoringPolicy policy = new ScoringPolicy(name, definition, score, conditions, texts);
+            policy.verify();
+            return policy;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("점수 정책 '" + name + "': " + e.getMessage(), e);
+        }
+    }
+
+    private static void requireNonNegative(String name, String label, Double value) {
+        if (value != null && !(value >= 0 && value < Double.POSITIVE_INFINITY)) {
+            throw new IllegalArgumentException("점수 정책 '" + name + "': " + label + "는 0 이상의 유한한 값이어야 합니다: " + value);
+        }
+    }
+
+    /**
+     * 표본 컨텍스트(4kg 성체, 예산의 30% 사용 사료)로 점수 식·조건·문장을 모두 평가합니다.
+     */
+    private void verify() {
+        ScoringContext sample = new ScoringContext()
+                .cat(4.0, 36, "MALE", true, "ADULT", 250.0)
+                .budget(100_000)
+                .food(35.0, 15.0, 380.0, 30_000, "DRY", "ALL", 30_000);
+        try {
+            score(sample);
+            for (int i = 0; i < reasonConditions.length; i++) {
+                boolean ignored = (boolean) reasonConditions[i].invokeExact(sample);
+                reasonTexts[i].render(sample);
+            }
+        } catch (RuntimeException | StackOverflowError e) {
+            throw new IllegalArgumentException("표본 평가 실패 - " + e, e);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    String name() {
+        return name;
+    }
+
+    ScoringPolicyDefinition definition() {
+        return definition;
+    }
+
+    /**
+     * 다묘 추천에서 같은 사료를 함께 먹는 고양이 1마리당 가산점 (이 정책의 점수 단위)
+     */
+    double sharedFoodBonus() {
+        return definition.getSharedFoodBonus() == null ? 0.0 : definition.getSharedFoodBonus();
+    }
+
+    /**
+     * 급여 계획에서 전월 사료를 유지하는 최고 점수와의 허용 차이 (이 정책의 점수 단위)
+     */
+    double switchMargin() {
+        return definition.getSwitchMargin() == null ? 0.0 : definition.getSwitchMargin();
+    }
+
+    /**
+     * 이 정책의 점수 식이 인라인된 샤드 스캔 루프
+     */
+    CatalogIndex.ShardScanner scanner() {
+        return scanner;
+    }
+
+    /**
+     * 컨텍스트의 현재 후보 사료 점수
+     */
+    double score(ScoringContext context) {
+        try {
+            return (double) score.invokeExact(context);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * 컨텍스트의 현재 후보 사료 추천 이유
+     *
+     * 조건을 하나씩 호출하지 않고 조건 32개마다 묶은 핸들 하나로 만족한 조건의 비트를 받아,
+     * 만족한 조건의 문장만 렌더링합니다. (이유가 하나면 이어 붙이지 않음)
+     */
+    String reason(ScoringContext context) {
+        String first = null;
+        StringBuilder joined = null;
+        try {
+            for (int m = 0; m < reasonMasks.length; m++) {
+                int mask = (int) reasonMasks[m].invokeExact(context);
+                while (mask != 0) {
+                    String text = reasonTexts[m * CONDITIONS_PER_MASK + Integer.numberOfTrailingZeros(mask)].render(context);
+                    mask &= mask - 1;
+                    if (first == null) {
+                        first = text;
+                    } else {
+                        if (joined == null) joined = new StringBuilder(first);
+                        joined.append(", ").append(text);
+                    }
+                }
+            }
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+        if (first == null) return definition.getFallbackReason();
+        return joined == null ? first : joined.toString();
+    }
+
+    /**
+     * 조건 핸들((ScoringContext)boolean)을 32개씩 (ScoringContext)int 핸들로 묶습니다. (i번째 조건 → i번째 비트)
+     */
+    private static MethodHandle[] reasonMasks(MethodHandle[] conditions) {
+        MethodHandle zero = MethodHandles.dropArguments(MethodHandles.constant(int.class, 0), 0, ScoringContext.class);
+        MethodType maskType = MethodType.methodType(int.class, ScoringContext.class);
+        MethodHandle[] masks = new MethodHandle[(conditions.length + CONDITIONS_PER_MASK - 1) / CONDITIONS_PER_MASK];
+        for (int m = 0; m < masks.length; m++) {
+            MethodHandle mask = zero;
+            int end = Math.min(conditions.length, (m + 1) * CONDITIONS_PER_MASK);
+            for (int i = m * CONDITIONS_PER_MASK; i < end; i++) {
+                MethodHandle bit = MethodHandles.guardWithTest(conditions[i],
+                        MethodHandles.dropArguments(MethodHandles.constant(int.class, 1 << (i % CONDITIONS_PER_MASK)),
+                                0, ScoringContext.class),
+                        zero);
+                mask = MethodHandles.permuteArguments(MethodHandles.filterArguments(OR, 0, mask, bit), maskType, 0, 0);
+            }
+            masks[m] = mask;
+        }
+        return masks;
+    }
+
+    private static int or(int left, int right) {
+        return left | right;
+    }
+
+    private static MethodHandle orHandle() {
+        try {
+            return MethodHandles.lookup().findStatic(ScoringPolicy.class, "or",
+                    MethodType.methodType(int.class, int.class, int.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable e) {
+        if (e instanceof RuntimeException runtime) return runtime;
+        if (e instanceof Error error) throw error;
+        return new IllegalStateException(e);
+    }
+}
@@ -0,0 +1,191 @@
+package com.catfood.service;
+
+import com.catfood.dto.ScoringPolicyDefinition;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 점수 정책 관리 서비스
+ *
+ * 기동 시 정책 파일(catfood.scoring.policies)의 모든 정책을 컴파일하며, 하나라도 오류가 있으면 기동에 실패합니다.
+ * 정책 목록은 변경 불가 Map 을 통째로 교체(copy-on-write)하므로, 추천 요청은 잠금 없이 읽고
+ * 실행 중 교체(put)는 진행 중인 요청에 영향을 주지 않습니다.
+ *
+ * 요청에 scoringPolicy 가 없으면 기본 정책(catfood.scoring.default-policy)을 사용합니다.
+ * 기본 정책은 모든 요청의 기준이므로 실행 중 교체할 수 없습니다. (정책 파일 수정 후 재기동)
+ *
+ * 정책마다 스캔 루프 hidden class 가 하나씩 정의되므로 정책 수를 max-policies 로 제한합니다.
+ * 교체·삭제된 정책의 hidden class 는 참조가 사라지면 언로드되므로, 상한에 도달하면 기존 정책을 교체하거나 삭제합니다.
+ */
+@Service
+public class ScoringPolicyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScoringPolicyService.class);
+
+    static final String BUILT_IN_POLICIES = "scoring-policies.json";
+
+    private static final Pattern POLICY_NAME = Pattern.compile("[a-z0-9-]{1,32}");
+
+    static final int DEFAULT_MAX_POLICIES = 32;
+
+    private final String defaultPolicyName;
+    private final int maxPolicies;
+    private volatile Map<String, ScoringPolicy> policies;
+
+    public ScoringPolicyService(ObjectMapper objectMapper, Resource policyFile, String defaultPolicyName) {
+        this(objectMapper, policyFile, defaultPolicyName, DEFAULT_MAX_POLICIES);
+    }
+
+    /**
+     * @param policyFile        정책 정의 JSON (정책 이름 → 정의)
+     * @param defaultPolicyName 요청에 정책이 없을 때 사용할 정책 이름
+     * @param maxPolicies       등록 가능한 최대 정책 수 (정책 파일 포함)
+     */
+    @Autowired
+    public ScoringPolicyService(ObjectMapper objectMapper,
+                                @Value("${catfood.scoring.policies:classpath:" + BUILT_IN_POLICIES + "}") Resource policyFile,
+                                @Value("${catfood.scoring.default-policy:default}") String defaultPolicyName,
+                                @Value("${catfood.scoring.max-policies:" + DEFAULT_MAX_POLICIES + "}") int maxPolicies) {
+        if (maxPolicies <= 0) {
+            throw new IllegalArgumentException("catfood.scoring.max-policies 는 1 이상이어야 합니다: " + maxPolicies);
+        }
+        Map<String, ScoringPolicyDefinition> definitions = read(objectMapper, policyFile);
+        if (definitions.size() > maxPolicies) {
+            throw new IllegalStateException("정책 파일의 정책 수(" + definitions.size()
+                    + ")가 catfood.scoring.max-policies(" + maxPolicies + ")를 넘습니다: " + policyFile.getDescription());
+        }
+        Map<String, ScoringPolicy> compiled = new LinkedHashMap<>();
+        try {
+            definitions.forEach((name, definition) -> compiled.put(name, ScoringPolicy.compile(name, definition)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("점수 정책 컴파일 실패 - " + policyFile.getDescription() + ": " + e.getMessage(), e);
+        }
+        if (!compiled.containsKey(defaultPolicyName)) {
+            throw new IllegalStateException("기본 점수 정책이 정의되지 않았습니다: " + defaultPolicyName);
+        }
+        this.defaultPolicyName = defaultPolicyName;
+        this.maxPolicies = maxPolicies;
+        this.policies = Collections.unmodifiableMap(compiled);
+        logger.info("점수 정책 {}개 컴파일 완료 - 기본: {}, 전체: {}, 스캔 루프 특화: {}", compiled.size(), defaultPolicyName,
+                compiled.keySet(), compiled.get(defaultPolicyName).scanner().specialized());
+    }
+
+    /**
+     * 내장 정책 파일(scoring-policies.json)로 구성합니다. (Spring 컨텍스트 밖 사용)
+     */
+    static ScoringPolicyService builtIn() {
+        return new ScoringPolicyService(new ObjectMapper(), new ClassPathResource(BUILT_IN_POLICIES), "default");
+    }
+
+    private static Map<String, ScoringPolicyDefinition> read(ObjectMapper objectMapper, Resource policyFile) {
+        try (InputStream in = policyFile.getInputStream()) {
+            return objectMapper.readValue(in, new TypeReference<LinkedHashMap<String, ScoringPolicyDefinition>>() {
+            });
+        } catch (IOException e) {
+            throw new IllegalStateException("점수 정책 파일을 읽을 수 없습니다: " + policyFile.getDescription(), e);
+        }
+    }
+
+    /**
+     * 이름으로 정책을 찾습니다. (null 이면 기본 정책)
+     */
+    ScoringPolicy get(String name) {
+        if (name == null) {
+            return defaultPolicy();
+        }
+        ScoringPolicy policy = policies.get(name);
+        if (policy == null) {
+            throw new IllegalArgumentException("알 수 없는 점수 정책입니다: " + name);
+        }
+        return policy;
+    }
+
+    ScoringPolicy defaultPolicy() {
+        return policies.get(defaultPolicyName);
+    }
+
+    /**
+     * 현재 정책 목록 (교체될 때마다 다른 Map 인스턴스)
+     */
+    Map<String, ScoringPolicy> policies() {
+        return policies;
+    }
+
+    public String defaultPolicyName() {
+        return defaultPolicyName;
+    }
+
+    /**
+     * 정책 이름 → 정의
+     */
+    public Map<String, ScoringPolicyDefinition> definitions() {
+        Map<String, ScoringPolicyDefinition> definitions = new LinkedHashMap<>();
+        policies.forEach((name, policy) -> definitions.put(name, policy.definition()));
+        return definitions;
+    }
+
+    /**
+     * 정책을 컴파일하여 등록하거나 교체합니다. 컴파일에 실패하면 기존 정책을 그대로 유지합니다.
+     * 새 이름 등록은 정책 수가 max-policies 미만일 때만 허용합니다. (교체는 항상 허용)
+     */
+    public void put(String name, ScoringPolicyDefinition definition) {
+        if (name == null || !POLICY_NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("정책 이름은 영문 소문자·숫자·'-' 1~32자여야 합니다: " + name);
+        }
+        if (name.equals(defaultPolicyName)) {
+            throw new IllegalArgumentException("기본 점수 정책은 실행 중 교체할 수 없습니다: " + name);
+        }
+        checkCapacity(name);
+        ScoringPolicy policy = ScoringPolicy.compile(name, definition);
+        synchronized (this) {
+            checkCapacity(name);
+            Map<String, ScoringPolicy> updated = new LinkedHashMap<>(policies);
+            boolean replaced = updated.put(name, policy) != null;
+            policies = Collections.unmodifiableMap(updated);
+            logger.info("점수 정책 {} - {}", replaced ? "교체" : "등록", name);
+        }
+    }
+
+    /**
+     * 정책을 삭제합니다. 기본 정책은 삭제할 수 없습니다.
+     *
+     * @return 삭제했으면 true, 없는 정책이면 false
+     */
+    public boolean remove(String name) {
+        if (name.equals(defaultPolicyName)) {
+            throw new IllegalArgumentException("기본 점수 정책은 삭제할 수 없습니다: " + name);
+        }
+        synchronized (this) {
+            if (!policies.containsKey(name)) {
+                return false;
+            }
+            Map<String, ScoringPolicy> updated = new LinkedHashMap<>(policies);
+            updated.remove(name);
+            policies = Collections.unmodifiableMap(updated);
+            logger.info("점수 정책 삭제 - {}", name);
+            return true;
+        }
+    }
+
+    private void checkCapacity(String name) {
+        Map<String, ScoringPolicy> current = policies;
+        if (!current.containsKey(name) && current.size() >= maxPolicies) {
+            throw new IllegalArgumentException("점수 정책은 최대 " + maxPolicies
+                    + "개까지 등록할 수 있습니다. 기존 정책을 교체하거나 삭제한 뒤 다시 시도해주세요.");
+        }
+    }
+}
@@ -67,6 +67,7 @@ document.querySelectorAll('.preset-btn').forEach(btn => {
         updateAgeHelper();
         document.getElementById('budgetHelperText').textContent =
             `하루 예산 약 ${Math.round(preset.monthlyBudget / 30).toLocaleString()}원`;
+        schedulePreview();
     });
 });
 
@@ -78,8 +79,8 @@ document.getElementById('formulaToggle').addEventListener('click', () => {
     btn.textContent = content.classList.contains('hidden') ? '📐 계산식 보기' : '📐 계산식 닫기';
 });
 
-// ===== 추천 요청 =====
-async function recommend() {
+// ===== 입력값 읽기 =====
+function readForm() {
     const weightKg = parseFloat(document.getElementById('weightKg').value);
     const ageYears = parseInt(document.getElementById('ageYears').value) || 0;
     const ageMonthsExtra = parseInt(document.getElementById('ageMonthsExtra').value) || 0;
@@ -88,14 +89,91 @@ async function recommend() {
     const neuteredVal = document.querySelector('input[name="neutered"]:checked')?.value;
     const monthlyBudget = parseInt(document.getElementById('monthlyBudget').value);
 
-    // 입력 검증
     const errors = [];
     if (isNaN(weightKg) || weightKg < 0.1 || weightKg > 20) errors.push('체중을 0.1~20kg 사이로 입력해주세요.');
     if (ageMonths < 1 || ageMonths > 300) errors.push('나이를 1개월 이상으로 입력해주세요.');
     if (!gender) errors.push('성별을 선택해주세요.');
     if (!neuteredVal) errors.push('중성화 여부를 선택해주세요.');
-    if (isNaN(monthlyBudget) || monthlyBudget < 1000) errors.push('월 예산을 1,000원 이상으로 입력해주세요.');
+    if (isNaN(monthlyBudget) || monthlyBudget < 1000 || monthlyBudget > 1000000) {
+        errors.push('월 예산을 1,000원 ~ 1,000,000원 사이로 입력해주세요.');
+    }
+
+    return {
+        errors,
+        request: { weightKg, ageMonths, gender, neutered: neuteredVal === 'true', monthlyBudget },
+    };
+}
+
+// ===== 카탈로그 스냅샷 (실시간 미리보기용) =====
+// 서버 스냅샷을 localStorage 에 보관하고, 버전(ETag)이 바뀐 경우에만 다시 받습니다.
+const SNAPSHOT_STORAGE_KEY = 'catfood.catalogSnapshot';
+let catalogSnapshot = readStoredSnapshot();
+
+function readStoredSnapshot() {
+    try {
+        const snapshot = JSON.parse(localStorage.getItem(SNAPSHOT_STORAGE_KEY));
+        if (isUsableSnapshot(snapshot)) return snapshot;
+        // 점수 정책 도입 전 형식 등 엔진이 읽을 수 없는 스냅샷은 버리고 새로 받음
+        localStorage.removeItem(SNAPSHOT_STORAGE_KEY);
+    } catch (e) {
+        // 손상된 JSON·저장소 접근 불가
+    }
+    return null;
+}
+
+function isUsableSnapshot(snapshot) {
+    return !!snapshot && !!snapshot.foods
+        && !!snapshot.scoringPolicies && typeof snapshot.scoringPolicies === 'object';
+}
+
+async function loadSnapshot() {
+    const headers = catalogSnapshot ? { 'If-None-Match': `"${catalogSnapshot.version}"` } : {};
+    try {
+        const response = await fetch('/api/catalog/snapshot', { headers });
+        if (response.status === 304 || !response.ok) return;
+
+        catalogSnapshot = await response.json();
+        try {
+            localStorage.setItem(SNAPSHOT_STORAGE_KEY, JSON.stringify(catalogSnapshot));
+        } catch (e) {
+            // 저장 공간이 부족하면 메모리에만 보관
+        }
+    } catch (e) {
+        // 오프라인: 보관된 스냅샷으로 계속 미리보기
+    }
+}
+
+// ===== 실시간 미리보기 =====
+// 입력이 멈추면 서버 요청 없이 클라이언트 엔진으로 결과를 계산합니다. (확정은 '추천받기')
+let previewTimer = null;
 
+function schedulePreview() {
+    clearTimeout(previewTimer);
+    previewTimer = setTimeout(previewRecommend, 150);
+}
+
+function previewRecommend() {
+    if (!isUsableSnapshot(catalogSnapshot) || !window.CatFoodEngine) return;
+
+    const { errors, request } = readForm();
+    if (errors.length > 0) return;
+
+    renderResult(CatFoodEngine.recommend(catalogSnapshot, request), true);
+    document.getElementById('resultSection').classList.remove('hidden');
+}
+
+['weightKg', 'ageYears', 'ageMonthsExtra', 'monthlyBudget'].forEach(id => {
+    document.getElementById(id).addEventListener('input', schedulePreview);
+});
+document.querySelectorAll('input[name="gender"], input[name="neutered"]').forEach(radio => {
+    radio.addEventListener('change', schedulePreview);
+});
+
+// ===== 추천 요청 =====
+async function recommend() {
+    const { errors, request } = readForm();
+
+    // 입력 검증
     const errorDiv = document.getElementById('errorMessage');
     if (errors.length > 0) {
         errorDiv.textContent = errors.join(' / ');
@@ -103,6 +181,7 @@ async function recommend() {
         return;
     }
     errorDiv.classList.add('hidden');
+    clearTimeout(previewTimer);
 
     const btn = document.getElementById('recommendBtn');
     btn.disabled = true;
@@ -112,13 +191,7 @@ async function recommend() {
         const response = await fetch('/api/recommend', {
             method: 'POST',
             headers: { 'Content-Type': 'application/json' },
-            body: JSON.stringify({
-                weightKg,
-                ageMonths,
-                gender,
-                neutered: neuteredVal === 'true',
-                monthlyBudget,
-            }),
+            body: JSON.stringify(request),
         });
 
         if (!response.ok) {
@@ -128,7 +201,13 @@ async function recommend() {
         }
 
         const data = await response.json();
-        renderResult(data);
+        renderResult(data, false);
+
+        // 미리보기와 서버 결과가 다르면 카탈로그가 바뀐 것이므로 스냅샷을 다시 받습니다.
+        if (catalogSnapshot && window.CatFoodEngine
+                && !CatFoodEngine.sameRecommendations(CatFoodEngine.recommend(catalogSnapshot, request), data)) {
+            loadSnapshot();
+        }
 
         document.getElementById('resultSection').classList.remove('hidden');
         document.getElementById('resultSection').scrollIntoView({ behavior: 'smooth', block: 'start' });
@@ -143,16 +222,23 @@ async function recommend() {
 }
 
 // ===== 결과 렌더링 =====
-function renderResult(data) {
+function renderResult(data, preview) {
+    const badge = document.getElementById('resultModeBadge');
+    badge.textContent = preview ? '⚡ 실시간 미리보기 — 추천받기를 누르면 서버에서 확정합니다' : '✅ 서버 확인 완료';
+    badge.classList.toggle('preview', preview);
+    badge.classList.remove('hidden');
+
     document.getElementById('dailyCalories').textContent = Math.round(data.dailyCalories).toLocaleString();
     document.getElementById('rerCalories').textContent = Math.round(data.rerCalories).toLocaleString();
     document.getElementById('lifeFactor').textContent = data.lifeFactor.toFixed(1);
     document.getElementById('lifeStageDesc').textContent = data.lifeStageDescription;
     document.getElementById('formulaText').textContent = data.formulaDescription;
 
-    // 계산식 다시 닫기
-    document.getElementById('formulaContent').classList.add('hidden');
-    document.getElementById('formulaToggle').textContent = '📐 계산식 보기';
+    // 계산식 다시 닫기 (미리보기 중에는 열린 상태 유지)
+    if (!preview) {
+        document.getElementById('formulaContent').classList.add('hidden');
+        document.getElementById('formulaToggle').textContent = '📐 계산식 보기';
+    }
 
     const list = document.getElementById('recommendationsList');
     list.innerHTML = '';
@@ -233,3 +319,5 @@ document.addEventListener('keydown', (e) => {
         }
     }
 });
+
+loadSnapshot().then(previewRecommend);
@@ -0,0 +1,442 @@
+/**
+ * 클라이언트 추천 엔진
+ *
+ * CalorieCalculationService(칼로리 계산), CatFoodRecommendService(비용·순위)와
+ * 점수 정책 컴파일러(ScoringExpressionCompiler)의 JS 포팅입니다.
+ * 서버가 발행한 카탈로그 스냅샷(GET /api/catalog/snapshot)만으로 POST /api/recommend 와 같은 응답을 계산하므로,
+ * 입력 중에는 서버 요청 없이 미리보기를 보여주고 '추천받기' 시에만 서버 결과로 확정합니다.
+ *
+ * 계산 순서와 반올림은 서버 구현과 같아야 합니다. (RecommendEngineParityTest 로 검증)
+ * 브라우저에서는 window.CatFoodEngine, Node 에서는 module.exports 로 노출됩니다.
+ */
+(function (root, factory) {
+    if (typeof module === 'object' && module.exports) {
+        module.exports = factory();
+    } else {
+        root.CatFoodEngine = factory();
+    }
+})(typeof self !== 'undefined' ? self : this, function () {
+    'use strict';
+
+    // ===== 칼로리 계산 (CalorieCalculationService) =====
+
+    function calculateRER(params, weightKg) {
+        return params.rerCoefficient * Math.pow(weightKg, params.rerExponent);
+    }
+
+    function isMale(gender) {
+        return typeof gender === 'string' && gender.toUpperCase() === 'MALE';
+    }
+
+    function getLifeFactor(params, ageMonths, gender, neutered) {
+        const factors = params.lifeFactors;
+        if (ageMonths < params.growingKittenMonths) return factors.newbornKitten;
+        if (ageMonths < params.adultMonths) return factors.growingKitten;
+        if (ageMonths >= params.seniorMonths) return factors.senior;
+        if (neutered) {
+            return isMale(gender) ? factors.neuteredMale : factors.neuteredFemale;
+        }
+        return isMale(gender) ? factors.intactMale : factors.intactFemale;
+    }
+
+    function getLifeStageDescription(params, ageMonths, gender, neutered) {
+        if (ageMonths < params.growingKittenMonths) return '신생 키튼 (0~3개월)';
+        if (ageMonths < params.adultMonths) return '성장기 키튼 (4~11개월)';
+        if (ageMonths >= params.seniorMonths) return '노령묘 (7세 이상)';
+        const genderStr = isMale(gender) ? '수컷' : '암컷';
+        const neuteredStr = neutered ? '중성화' : '미중성화';
+        return `성체 ${neuteredStr} ${genderStr} (1~7세)`;
+    }
+
+    function getLifeStageKey(params, ageMonths) {
+        if (ageMonths < params.adultMonths) return 'KITTEN';
+        if (ageMonths >= params.seniorMonths) return 'SENIOR';
+        return 'ADULT';
+    }
+
+    /**
+     * Java String.format("%.1f") 와 같은 결과를 냅니다.
+     * (toFixed 는 이진 값 기준으로 반올림하지만, Java 는 십진 표현을 HALF_UP 반올림합니다. 예: 1.15 → "1.2")
+     */
+    function formatOneDecimal(value) {
+        const text = Math.abs(value).toString();
+        if (text.indexOf('e') >= 0) return value.toFixed(1);
+
+        const dot = text.indexOf('.');
+        const intPart = dot < 0 ? text : text.substring(0, dot);
+        const fraction = dot < 0 ? '' : text.substring(dot + 1);
+        let scaled = BigInt(intPart + (fraction.charAt(0) || '0'));
+        if (fraction.length > 1 && fraction.charAt(1) >= '5') scaled += 1n;
+
+        const digits = scaled.toString().padStart(2, '0');
+        const sign = value < 0 ? '-' : '';
+        return `${sign}${digits.slice(0, -1)}.${digits.slice(-1)}`;
+    }
+
+    function generateFormula(weightKg, rer, lifeFactor, mer) {
+        return 'NRC/AAFCO 권장 칼로리 계산 공식\n' +
+            '① 기초대사량(RER) = 70 × 체중(kg)^0.75\n' +
+            `   = 70 × ${formatOneDecimal(weightKg)}^0.75 = ${formatOneDecimal(rer)} kcal/일\n` +
+            '② 일일 권장량(MER) = RER × 생애 단계 계수\n' +
+            `   = ${formatOneDecimal(rer)} × ${formatOneDecimal(lifeFactor)} = ${formatOneDecimal(mer)} kcal/일`;
+    }
+
+    // ===== 비용·점수·추천 이유 (CatFoodRecommendService) =====
+
+    function isAgeAppropriate(foodLifeStage, lifeStageKey) {
+        switch (foodLifeStage) {
+            case 'ALL': return true;
+            case 'KITTEN': return lifeStageKey === 'KITTEN';
+            case 'ADULT': return lifeStageKey === 'ADULT' || lifeStageKey === 'SENIOR';
+            case 'SENIOR': return lifeStageKey === 'SENIOR';
+            default: return false;
+        }
+    }
+
+    function dailyAmountGrams(dailyCalories, kcalPer100g) {
+        return dailyCalories / kcalPer100g * 100.0;
+    }
+
+    function dailyCost(dailyCalories, kcalPer100g, pricePerKg) {
+        return Math.ceil(dailyAmountGrams(dailyCalories, kcalPer100g) / 1000.0 * pricePerKg);
+    }
+
+    // ===== 점수 정책 (ScoringExpressionCompiler, ScoringPolicy) =====
+
+    /**
+     * 파생 변수 정의 (ScoringExpressionCompiler.DERIVED 와 같아야 함)
+     */
+    const DERIVED = {
+        budgetRemainingPercent: '(monthlyBudget - monthlyCost) / monthlyBudget * 100',
+        budgetUsagePercent: 'floor(monthlyCost * 100 / monthlyBudget)',
+    };
+
+    const VARIABLES = [
+        'weightKg', 'ageMonths', 'gender', 'neutered', 'lifeStage', 'dailyCalories', 'monthlyBudget',
+        'proteinPercent', 'fatPercent', 'kcalPer100g', 'pricePerKg', 'type', 'foodLifeStage', 'monthlyCost',
+    ];
+
+    const FUNCTIONS = { min: Math.min, max: Math.max, abs: Math.abs, floor: Math.floor };
+
+    /**
+     * 점수 식을 (context) => 값 클로저로 컴파일합니다. 문법·연산 순서는 서버 컴파일러와 같습니다.
+     * 정책은 서버에서 검증된 뒤 스냅샷에 실리므로 타입 검사는 하지 않고 구문 오류만 알립니다.
+     */
+    function compileExpression(source) {
+        let pos = 0;
+
+        function error(message) {
+            return new Error(`점수 식 오류 (${pos + 1}번째 문자): ${message} - ${source}`);
+        }
+        function skipSpaces() {
+            while (pos < source.length && /\s/.test(source.charAt(pos))) pos++;
+        }
+        function peek(token) {
+            skipSpaces();
+            return source.startsWith(token, pos);
+        }
+        function accept(token) {
+            if (!peek(token)) return false;
+            pos += token.length;
+            return true;
+        }
+        function expect(token) {
+            if (!accept(token)) throw error(`'${token}' 가 필요합니다`);
+        }
+
+        function expr() {
+            const condition = or();
+            if (!accept('?')) return condition;
+            const whenTrue = expr();
+            expect(':');
+            const whenFalse = expr();
+            return ctx => (condition(ctx) ? whenTrue(ctx) : whenFalse(ctx));
+        }
+        function or() {
+            let left = and();
+            while (accept('||')) {
+                const a = left, b = and();
+                left = ctx => a(ctx) || b(ctx);
+            }
+            return left;
+        }
+        function and() {
+            let left = not();
+            while (accept('&&')) {
+                const a = left, b = not();
+                left = ctx => a(ctx) && b(ctx);
+            }
+            return left;
+        }
+        function not() {
+            if (peek('!') && !peek('!=')) {
+                accept('!');
+                const operand = not();
+                return ctx => !operand(ctx);
+            }
+            return comparison();
+        }
+        function comparison() {
+            const a = additive();
+            for (const op of ['<=', '>=', '==', '!=', '<', '>']) {
+                if (!accept(op)) continue;
+                const b = additive();
+                switch (op) {
+                    case '<': return ctx => a(ctx) < b(ctx);
+                    case '<=': return ctx => a(ctx) <= b(ctx);
+                    case '>': return ctx => a(ctx) > b(ctx);
+                    case '>=': return ctx => a(ctx) >= b(ctx);
+                    case '==': return ctx => a(ctx) === b(ctx);
+                    default: return ctx => a(ctx) !== b(ctx);
+                }
+            }
+            return a;
+        }
+        function additive() {
+            let left = term();
+            while (true) {
+                const op = accept('+') ? '+' : accept('-') ? '-' : null;
+                if (op === null) return left;
+                const a = left, b = term();
+                left = op === '+' ? ctx => a(ctx) + b(ctx) : ctx => a(ctx) - b(ctx);
+            }
+        }
+        function term() {
+            let left = unary();
+            while (true) {
+                const op = accept('*') ? '*' : accept('/') ? '/' : null;
+                if (op === null) return left;
+                const a = left, b = unary();
+                left = op === '*' ? ctx => a(ctx) * b(ctx) : ctx => a(ctx) / b(ctx);
+            }
+        }
+        function unary() {
+            if (accept('-')) {
+                const operand = unary();
+                return ctx => -operand(ctx);
+            }
+            return primary();
+        }
+        function primary() {
+            skipSpaces();
+            if (pos >= source.length) throw error('식이 끝났습니다');
+            const c = source.charAt(pos);
+
+            if (accept('(')) {
+                const inner = expr();
+                expect(')');
+                return inner;
+            }
+            if (c === "'") {
+                const end = source.indexOf("'", pos + 1);
+                if (end < 0) throw error('문자열이 닫히지 않았습니다');
+                const value = source.substring(pos + 1, end);
+                pos = end + 1;
+                return () => value;
+            }
+            if (/[0-9.]/.test(c)) {
+                const start = pos;
+                while (pos < source.length && /[0-9.]/.test(source.charAt(pos))) pos++;
+                const text = source.substring(start, pos);
+                if (!/^(\d+\.?\d*|\.\d+)$/.test(text)) {
+                    pos = start;
+                    throw error('숫자 형식이 올바르지 않습니다');
+                }
+                const value = Number(text);
+                return () => value;
+            }
+            if (/\p{L}/u.test(c)) {
+                const start = pos;
+                while (pos < source.length && /[\p{L}\p{Nd}]/u.test(source.charAt(pos))) pos++;
+                const name = source.substring(start, pos);
+                if (accept('(')) return call(name, start);
+                return variable(name, start);
+            }
+            throw error(`예상하지 못한 문자 '${c}'`);
+        }
+        function variable(name, start) {
+            if (name === 'true' || name === 'false') {
+                const value = name === 'true';
+                return () => value;
+            }
+            if (VARIABLES.includes(name)) return ctx => ctx[name];
+            if (DERIVED[name]) return compileExpression(DERIVED[name]);
+            pos = start;
+            throw error(`알 수 없는 변수 '${name}'`);
+        }
+        function call(name, start) {
+            const args = [];
+            if (!accept(')')) {
+                do {
+                    args.push(expr());
+                } while (accept(','));
+                expect(')');
+            }
+            const fn = FUNCTIONS[name];
+            if (!fn) {
+                pos = start;
+                throw error(`알 수 없는 함수 '${name}'`);
+            }
+            const [a, b] = args;
+            return b ? ctx => fn(a(ctx), b(ctx)) : ctx => fn(a(ctx));
+        }
+
+        const compiled = expr();
+        skipSpaces();
+        if (pos < source.length) throw error(`예상하지 못한 문자 '${source.charAt(pos)}'`);
+        return compiled;
+    }
+
+    /**
+     * 문장 자리 표시자 값 표시 (ScoringExpressionCompiler.text 와 같음)
+     * 숫자는 정수면 정수로, 아니면 소수 첫째 자리까지(HALF_UP) 표시합니다.
+     */
+    function text(value) {
+        if (typeof value !== 'number' || !Number.isFinite(value)) return String(value);
+        if (Number.isInteger(value) && Math.abs(value) < 1e15) return String(value);
+        return formatOneDecimal(value);
+    }
+
+    function compileTemplate(template) {
+        const parts = [];
+        let start = 0;
+        while (true) {
+            const open = template.indexOf('{', start);
+            if (open < 0) break;
+            const close = template.indexOf('}', open);
+            if (close < 0) throw new Error(`문장의 '{' 가 닫히지 않았습니다: ${template}`);
+            const literal = template.substring(start, open);
+            const value = compileExpression(template.substring(open + 1, close));
+            parts.push(() => literal, ctx => text(value(ctx)));
+            start = close + 1;
+        }
+        const tail = template.substring(start);
+        parts.push(() => tail);
+        return ctx => parts.map(part => part(ctx)).join('');
+    }
+
+    function compilePolicy(name, definition) {
+        const rules = (definition.reasons || []).map(rule => ({
+            when: compileExpression(rule.when),
+            text: compileTemplate(rule.text),
+        }));
+        return {
+            name,
+            score: compileExpression(definition.score),
+            reason(ctx) {
+                const reasons = rules.filter(rule => rule.when(ctx)).map(rule => rule.text(ctx));
+                return reasons.length === 0 ? definition.fallbackReason : reasons.join(', ');
+            },
+        };
+    }
+
+    // 스냅샷별 컴파일된 정책 (정책 이름 → 정책)
+    const compiledPolicies = new WeakMap();
+
+    function scoringPolicy(snapshot, name) {
+        let policies = compiledPolicies.get(snapshot);
+        if (!policies) {
+            policies = {};
+            for (const [policyName, definition] of Object.entries(snapshot.scoringPolicies)) {
+                policies[policyName] = compilePolicy(policyName, definition);
+            }
+            compiledPolicies.set(snapshot, policies);
+        }
+        const policyName = name || snapshot.defaultScoringPolicy;
+        const policy = Object.prototype.hasOwnProperty.call(policies, policyName) ? policies[policyName] : null;
+        if (!policy) throw new Error(`알 수 없는 점수 정책입니다: ${policyName}`);
+        return policy;
+    }
+
+    function setFood(ctx, foods, index, monthlyCost) {
+        ctx.proteinPercent = foods.proteinPercent[index];
+        ctx.fatPercent = foods.fatPercent[index];
+        ctx.kcalPer100g = foods.kcalPer100g[index];
+        ctx.pricePerKg = foods.pricePerKg[index];
+        ctx.type = foods.types[index];
+        ctx.foodLifeStage = foods.lifeStages[index];
+        ctx.monthlyCost = monthlyCost;
+        return ctx;
+    }
+
+    /**
+     * 스냅샷으로 추천 결과를 계산합니다. (POST /api/recommend 응답과 같은 형태)
+     *
+     * @param snapshot GET /api/catalog/snapshot 응답
+     * @param request  { weightKg, ageMonths, gender, neutered, monthlyBudget, scoringPolicy }
+     */
+    function recommend(snapshot, request) {
+        const params = snapshot.parameters;
+        const foods = snapshot.foods;
+        const { weightKg, ageMonths, gender, neutered, monthlyBudget } = request;
+
+        const rer = calculateRER(params, weightKg);
+        const lifeFactor = getLifeFactor(params, ageMonths, gender, neutered);
+        const dailyCalories = rer * lifeFactor;
+        const lifeStageKey = getLifeStageKey(params, ageMonths);
+        const policy = scoringPolicy(snapshot, request.scoringPolicy);
+        const ctx = {
+            weightKg, ageMonths, gender: gender ?? null, neutered: !!neutered,
+            lifeStage: lifeStageKey, dailyCalories, monthlyBudget,
+        };
+
+        // 후보는 인덱스·비용·점수만 담고, 추천 객체는 상위 N개만 만듭니다.
+        const candidates = [];
+        for (let i = 0; i < foods.ids.length; i++) {
+            if (!isAgeAppropriate(foods.lifeStages[i], lifeStageKey)) continue;
+
+            const monthlyCost = dailyCost(dailyCalories, foods.kcalPer100g[i], foods.pricePerKg[i]) * params.daysPerMonth;
+            if (monthlyCost > monthlyBudget) continue;
+
+            candidates.push({
+                index: i,
+                monthlyCost,
+                score: policy.score(setFood(ctx, foods, i, monthlyCost)),
+            });
+        }
+
+        // Array.prototype.sort 는 안정 정렬이므로 점수가 같으면 카탈로그 순서를 유지합니다. (서버 List.sort 와 동일)
+        candidates.sort((a, b) => b.score - a.score);
+
+        const recommendations = candidates.slice(0, params.topN).map((candidate, rank) => {
+            const i = candidate.index;
+            return {
+                rank: rank + 1,
+                foodId: foods.ids[i],
+                foodName: foods.names[i],
+                brand: foods.brands[i],
+                type: foods.types[i],
+                dailyAmountGrams: Math.round(dailyAmountGrams(dailyCalories, foods.kcalPer100g[i]) * 10.0) / 10.0,
+                dailyCost: dailyCost(dailyCalories, foods.kcalPer100g[i], foods.pricePerKg[i]),
+                monthlyCost: candidate.monthlyCost,
+                proteinPercent: foods.proteinPercent[i],
+                fatPercent: foods.fatPercent[i],
+                reason: policy.reason(setFood(ctx, foods, i, candidate.monthlyCost)),
+                score: candidate.score,
+            };
+        });
+
+        return {
+            dailyCalories,
+            rerCalories: rer,
+            lifeFactor,
+            lifeStageDescription: getLifeStageDescription(params, ageMonths, gender, neutered),
+            formulaDescription: generateFormula(weightKg, rer, lifeFactor, dailyCalories),
+            recommendations,
+            scoringPolicy: policy.name,
+        };
+    }
+
+    /**
+     * 두 추천 결과가 같은 사료·순위·비용인지 확인합니다. (서버 검증용)
+     */
+    function sameRecommendations(a, b) {
+        if (a.recommendations.length !== b.recommendations.length) return false;
+        return a.recommendations.every((rec, i) => {
+            const other = b.recommendations[i];
+            return rec.foodId === other.foodId && rec.monthlyCost === other.monthlyCost;
+        });
+    }
+
+    return { recommend, sameRecommendations, formatOneDecimal };
+});
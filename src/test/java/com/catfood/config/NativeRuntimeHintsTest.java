@@ -0,0 +1,67 @@
+package com.catfood.config;
+
+import com.catfood.dto.FoodRecommendation;
+import com.catfood.dto.RecommendRequest;
+import com.catfood.dto.RecommendResponse;
+import com.catfood.dto.ScoringPolicyDefinition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NativeRuntimeHints 테스트")
+class NativeRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("DTO 필드 리플렉션 힌트 등록 (Bean Validation)")
+    void dtoFieldHints() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(RecommendRequest.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(RecommendResponse.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(FoodRecommendation.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS)).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("DTO 바인딩 힌트 등록 (Jackson 접근자)")
+    void dtoBindingHints() throws Exception {
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onMethod(RecommendRequest.class.getMethod("getWeightKg"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onMethod(FoodRecommendation.class.getMethod("setFoodName", String.class))).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Thymeleaf 템플릿 및 정적 리소스 힌트 등록")
+    void resourceHints() {
+        assertThat(RuntimeHintsPredicates.resource().forResource("templates/index.html")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("static/js/app.js")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("scoring-policies.json")).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("점수 정책 식 컴파일러 힌트 등록 (변수 필드·연산자 메서드 핸들)")
+    void scoringPolicyHints() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of("com.catfood.service.ScoringContext"))
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("com.catfood.service.ScoringExpressionCompiler"))
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_METHODS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ScoringPolicyDefinition.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS)).accepts(hints);
+    }
+}
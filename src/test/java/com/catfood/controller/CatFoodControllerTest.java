@@ -1,18 +1,32 @@
 package com.catfood.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
+import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest
@@ -117,4 +131,355 @@ class CatFoodControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.recommendations").isArray());
     }
+
+    @Test
+    @DisplayName("다묘 추천: 2마리, 공유 예산 300000원")
+    void recommendHousehold_validRequest() throws Exception {
+        Map<String, Object> request = Map.of(
+                "cats", List.of(
+                        Map.of("name", "나비", "weightKg", 4.0, "ageMonths", 36, "gender", "MALE", "neutered", true),
+                        Map.of("name", "치즈", "weightKg", 1.5, "ageMonths", 5, "gender", "FEMALE", "neutered", false)
+                ),
+                "monthlyBudget", 300000
+        );
+
+        mockMvc.perform(post("/api/recommend/household")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.assignments.length()").value(2))
+                .andExpect(jsonPath("$.assignments[0].name").value("나비"))
+                .andExpect(jsonPath("$.assignments[1].lifeFactor").value(2.5))
+                .andExpect(jsonPath("$.totalMonthlyCost").isNumber());
+    }
+
+    @Test
+    @DisplayName("다묘 추천 검증 오류: 고양이 정보 누락")
+    void recommendHousehold_missingCatField() throws Exception {
+        Map<String, Object> request = Map.of(
+                "cats", List.of(Map.of("ageMonths", 36, "gender", "MALE", "neutered", true)),
+                "monthlyBudget", 300000
+        );
+
+        mockMvc.perform(post("/api/recommend/household")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$['cats[0].weightKg']").exists());
+    }
+
+    @Test
+    @DisplayName("급여 계획: 5개월 키튼, 12개월 계획")
+    void plan_validRequest() throws Exception {
+        Map<String, Object> request = Map.of(
+                "weightKg", 2.0,
+                "ageMonths", 5,
+                "gender", "FEMALE",
+                "neutered", false,
+                "monthlyBudget", 150000,
+                "months", 12
+        );
+
+        mockMvc.perform(post("/api/plan")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.steps.length()").value(12))
+                .andExpect(jsonPath("$.steps[0].lifeFactor").value(2.5))
+                .andExpect(jsonPath("$.steps[7].lifeStageKey").value("ADULT"));
+    }
+
+    @Test
+    @DisplayName("급여 계획 검증 오류: 계획 기간 24개월 초과")
+    void plan_tooManyMonths() throws Exception {
+        Map<String, Object> request = Map.of(
+                "weightKg", 4.0,
+                "ageMonths", 36,
+                "gender", "MALE",
+                "neutered", true,
+                "monthlyBudget", 150000,
+                "months", 36
+        );
+
+        mockMvc.perform(post("/api/plan")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.months").exists());
+    }
+
+    @Test
+    @DisplayName("사료 검색: 오타 검색어 + 형태 필터, 페이지 커서 반환")
+    void searchFoods_withTypoAndFacet() throws Exception {
+        mockMvc.perform(get("/api/foods")
+                        .param("q", "로얄캐넌")
+                        .param("type", "DRY")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].brand").value("Royal Canin"))
+                .andExpect(jsonPath("$.nextCursor").isString())
+                .andExpect(jsonPath("$.facets.type.WET").isNumber());
+    }
+
+    @Test
+    @DisplayName("사료 검색 검증 오류: 페이지 크기 100 초과")
+    void searchFoods_limitTooLarge() throws Exception {
+        mockMvc.perform(get("/api/foods").param("limit", "500"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.limit").exists());
+    }
+
+    @Test
+    @DisplayName("사료 검색 검증 오류: 최소 단백질 > 최대 단백질, 단백질 범위 밖 값")
+    void searchFoods_invalidProteinRange() throws Exception {
+        mockMvc.perform(get("/api/foods").param("minProtein", "40").param("maxProtein", "30"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.proteinRange").exists());
+        mockMvc.perform(get("/api/foods").param("minProtein", "120"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.minProtein").exists());
+        mockMvc.perform(get("/api/foods").param("maxProtein", "-5"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.maxProtein").exists());
+        mockMvc.perform(get("/api/foods").param("minPrice", "90000").param("maxPrice", "50000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.priceRange").exists());
+    }
+
+    @Test
+    @DisplayName("비용 추이: 과거 2개월 + 이번 달 + 미래 3개월")
+    void projectCost_validRequest() throws Exception {
+        Map<String, Object> request = Map.of(
+                "weightKg", 4.0,
+                "ageMonths", 36,
+                "gender", "MALE",
+                "neutered", true,
+                "monthlyBudget", 150000,
+                "pastMonths", 2,
+                "futureMonths", 3
+        );
+
+        mockMvc.perform(post("/api/recommend/projection")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.foods[0].foodId").isString())
+                .andExpect(jsonPath("$.foods[0].months.length()").value(6))
+                .andExpect(jsonPath("$.foods[0].months[5].projected").value(true));
+    }
+
+    @Test
+    @DisplayName("비용 추이 검증 오류: 과거·미래 기간 명시적 null")
+    void projectCost_nullMonths() throws Exception {
+        String request = "{\"weightKg\":4.0,\"ageMonths\":36,\"gender\":\"MALE\",\"neutered\":true,"
+                + "\"monthlyBudget\":150000,\"pastMonths\":null,\"futureMonths\":null}";
+
+        mockMvc.perform(post("/api/recommend/projection")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.pastMonths").exists())
+                .andExpect(jsonPath("$.futureMonths").exists());
+    }
+
+    @Test
+    @DisplayName("가격 기록 검증 오류: 가격 0원")
+    void recordPrices_invalidPrice() throws Exception {
+        Map<String, Object> request = Map.of(
+                "prices", List.of(Map.of("foodId", "rc-indoor", "date", "2026-01-01", "pricePerKg", 0))
+        );
+
+        mockMvc.perform(post("/api/prices")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$['prices[0].pricePerKg']").exists());
+    }
+
+    @Test
+    @DisplayName("카탈로그 스냅샷: gzip 본문 + ETag, 같은 ETag 재요청 시 304")
+    void catalogSnapshot_gzipAndNotModified() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/catalog/snapshot").header("Accept-Encoding", "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().exists("ETag"))
+                .andReturn();
+
+        byte[] json;
+        try (GZIPInputStream in = new GZIPInputStream(
+                new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            json = in.readAllBytes();
+        }
+        JsonNode snapshot = objectMapper.readTree(json);
+        String etag = result.getResponse().getHeader("ETag");
+        assertThat(etag).isEqualTo("\"" + snapshot.get("version").asText() + "\"");
+        assertThat(snapshot.at("/foods/ids").size()).isEqualTo(snapshot.at("/foods/pricePerKg").size()).isPositive();
+        assertThat(snapshot.at("/defaultScoringPolicy").asText()).isEqualTo("default");
+
+        mockMvc.perform(get("/api/catalog/snapshot").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().stringValues("Vary", hasItem("Accept-Encoding")));
+    }
+
+    @Test
+    @DisplayName("카탈로그 스냅샷: Accept-Encoding 의 coding·q 값을 해석해 gzip 여부 결정, 항상 Vary: Accept-Encoding")
+    void catalogSnapshot_acceptEncodingNegotiation() throws Exception {
+        for (String acceptEncoding : List.of("gzip", "GZIP", "deflate, gzip;q=0.5", "x-gzip", "*", "br;q=1.0, *;q=0.1")) {
+            mockMvc.perform(get("/api/catalog/snapshot").header("Accept-Encoding", acceptEncoding))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Content-Encoding", "gzip"))
+                    .andExpect(header().stringValues("Vary", hasItem("Accept-Encoding")));
+        }
+        for (String acceptEncoding : List.of("gzip;q=0", "gzip; q=0.000", "notgzip", "gzipped", "identity",
+                "gzip;q=0, *", "*;q=0", "gzip;q=abc")) {
+            MvcResult result = mockMvc.perform(get("/api/catalog/snapshot").header("Accept-Encoding", acceptEncoding))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist("Content-Encoding"))
+                    .andExpect(header().stringValues("Vary", hasItem("Accept-Encoding")))
+                    .andReturn();
+            assertThat(objectMapper.readTree(result.getResponse().getContentAsByteArray()).has("version"))
+                    .as(acceptEncoding).isTrue();
+        }
+    }
+
+    @Test
+    @DirtiesContext // 등록한 fat-first 정책이 다른 테스트(정책 목록·카탈로그 스냅샷)에 남지 않도록 컨텍스트 폐기
+    @DisplayName("점수 정책 등록 후 해당 정책으로 추천, 정책 목록에 포함")
+    void scoringPolicy_putThenRecommend() throws Exception {
+        Map<String, Object> policy = Map.of(
+                "description", "지방 함량 우선",
+                "score", "fatPercent * 2 - budgetUsagePercent * 0.1",
+                "reasons", List.of(Map.of("when", "fatPercent >= 20", "text", "지방 {fatPercent}%")),
+                "fallbackReason", "기본"
+        );
+
+        mockMvc.perform(put("/api/scoring/policies/fat-first")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(policy)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("fat-first"))
+                .andExpect(jsonPath("$.defaultPolicy").value("default"));
+
+        mockMvc.perform(get("/api/scoring/policies"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.default.score").isString())
+                .andExpect(jsonPath("$['fat-first'].score").value("fatPercent * 2 - budgetUsagePercent * 0.1"));
+
+        Map<String, Object> request = Map.of(
+                "weightKg", 4.0,
+                "ageMonths", 36,
+                "gender", "MALE",
+                "neutered", true,
+                "monthlyBudget", 200000,
+                "scoringPolicy", "fat-first"
+        );
+
+        mockMvc.perform(post("/api/recommend")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.scoringPolicy").value("fat-first"))
+                .andExpect(jsonPath("$.recommendations[0].reason").isString());
+    }
+
+    @Test
+    @DisplayName("점수 정책 삭제: 등록한 정책은 삭제 후 목록에서 사라지고, 없는 정책은 404, 기본 정책은 400")
+    void scoringPolicy_delete() throws Exception {
+        Map<String, Object> policy = Map.of("score", "fatPercent", "fallbackReason", "기본");
+        mockMvc.perform(put("/api/scoring/policies/to-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(policy)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/api/scoring/policies/to-delete"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("to-delete"));
+        mockMvc.perform(get("/api/scoring/policies"))
+                .andExpect(jsonPath("$['to-delete']").doesNotExist());
+
+        mockMvc.perform(delete("/api/scoring/policies/to-delete"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/scoring/policies/default"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("점수 정책 등록 오류: 식 구문 오류는 400 + 오류 위치")
+    void scoringPolicy_invalidExpression() throws Exception {
+        Map<String, Object> policy = Map.of("score", "proteinPercent *", "fallbackReason", "기본");
+
+        mockMvc.perform(put("/api/scoring/policies/broken")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(policy)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("번째 문자")));
+
+        mockMvc.perform(get("/api/scoring/policies"))
+                .andExpect(jsonPath("$.broken").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("점수 정책 등록 오류: 기본 정책 교체는 400")
+    void scoringPolicy_replaceDefault() throws Exception {
+        Map<String, Object> policy = Map.of("score", "fatPercent", "fallbackReason", "기본");
+
+        mockMvc.perform(put("/api/scoring/policies/default")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(policy)))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/scoring/policies"))
+                .andExpect(jsonPath("$.default.score").value("proteinPercent * 0.6 + budgetRemainingPercent * 0.4"));
+    }
+
+    @Test
+    @DisplayName("추천 요청 검증 오류: 없는 점수 정책, 형식이 잘못된 정책 이름")
+    void recommend_unknownScoringPolicy() throws Exception {
+        for (String scoringPolicy : List.of("no-such-policy", "Bad Name")) {
+            Map<String, Object> request = Map.of(
+                    "weightKg", 4.0,
+                    "ageMonths", 36,
+                    "gender", "MALE",
+                    "neutered", true,
+                    "monthlyBudget", 80000,
+                    "scoringPolicy", scoringPolicy
+            );
+
+            mockMvc.perform(post("/api/recommend")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = "catfood.scoring.admin-enabled=false")
+    @DisplayName("점수 정책 관리 비활성 (catfood.scoring.admin-enabled=false)")
+    class ScoringAdminDisabled {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Test
+        @DisplayName("점수 정책 등록·삭제: 403, 정책 변경 없음")
+        void scoringPolicy_adminDisabled() throws Exception {
+            Map<String, Object> policy = Map.of("score", "fatPercent", "fallbackReason", "기본");
+
+            mockMvc.perform(put("/api/scoring/policies/disabled-admin")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(policy)))
+                    .andExpect(status().isForbidden())
+                    .andExpect(jsonPath("$.message").value(containsString("catfood.scoring.admin-enabled=true")));
+
+            mockMvc.perform(get("/api/scoring/policies"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$['disabled-admin']").doesNotExist());
+
+            mockMvc.perform(delete("/api/scoring/policies/budget-first"))
+                    .andExpect(status().isForbidden());
+            mockMvc.perform(get("/api/scoring/policies"))
+                    .andExpect(jsonPath("$['budget-first']").exists());
+        }
+    }
 }
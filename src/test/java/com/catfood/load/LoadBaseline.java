@@ -0,0 +1,110 @@
+package com.catfood.load;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * 부하 테스트 기준선 (properties 파일)
+ *
+ * 키:
+ *   - {endpoint}.p99Ms : 정상 부하 구간의 엔드포인트별 p99 지연 시간 (ms)
+ *   - maxThroughput    : 단계 증가 구간에서 SLO 를 만족한 최대 처리량 (요청/초)
+ *   - env.*            : 측정 환경 (코어 수, 최대 힙, JVM, OS, 부하 설정). 값이 하나라도 다르면 비교할 수 없는 기준선
+ */
+final class LoadBaseline {
+
+    private static final String ENVIRONMENT_PREFIX = "env.";
+
+    private final Map<String, String> environment;
+    private final Map<String, Double> values;
+
+    private LoadBaseline(Map<String, String> environment, Map<String, Double> values) {
+        this.environment = environment;
+        this.values = values;
+    }
+
+    /**
+     * 현재 측정 환경을 담은 빈 기준선
+     */
+    static LoadBaseline empty(double rate, int durationSeconds) {
+        Map<String, String> environment = new TreeMap<>();
+        environment.put("env.processors", String.valueOf(Runtime.getRuntime().availableProcessors()));
+        environment.put("env.maxHeapMb", String.valueOf(Runtime.getRuntime().maxMemory() / (1024 * 1024)));
+        environment.put("env.java", System.getProperty("java.vm.name") + " " + System.getProperty("java.version"));
+        environment.put("env.os", System.getProperty("os.name") + " " + System.getProperty("os.arch"));
+        environment.put("env.load.rate", String.format(Locale.ROOT, "%.0f", rate));
+        environment.put("env.load.durationSeconds", String.valueOf(durationSeconds));
+        return new LoadBaseline(environment, new TreeMap<>());
+    }
+
+    /**
+     * 기준선 파일을 읽습니다. (파일이 없으면 null)
+     */
+    static LoadBaseline load(Path file) {
+        if (!Files.exists(file)) return null;
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("기준선 파일 읽기 실패: " + file, e);
+        }
+        Map<String, String> environment = new TreeMap<>();
+        Map<String, Double> values = new TreeMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(ENVIRONMENT_PREFIX)) {
+                environment.put(key, properties.getProperty(key));
+            } else {
+                values.put(key, Double.parseDouble(properties.getProperty(key)));
+            }
+        }
+        return new LoadBaseline(environment, values);
+    }
+
+    void save(Path file, String comment) {
+        Properties properties = new Properties();
+        properties.putAll(environment);
+        values.forEach((key, value) -> properties.setProperty(key, String.format(Locale.ROOT, "%.2f", value)));
+        try {
+            Files.createDirectories(file.getParent());
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                properties.store(writer, comment);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("기준선 파일 기록 실패: " + file, e);
+        }
+    }
+
+    /**
+     * 이 기준선과 측정 환경이 다른 항목 (기준선에 환경 정보가 없으면 모든 항목)
+     */
+    List<String> environmentMismatches(LoadBaseline measured) {
+        List<String> mismatches = new ArrayList<>();
+        measured.environment.forEach((key, value) -> {
+            String expected = environment.get(key);
+            if (!value.equals(expected)) {
+                mismatches.add(key.substring(ENVIRONMENT_PREFIX.length()) + ": 기준선 "
+                        + (expected != null ? expected : "(없음)") + ", 현재 " + value);
+            }
+        });
+        return mismatches;
+    }
+
+    Double get(String key) {
+        return values.get(key);
+    }
+
+    void put(String key, double value) {
+        values.put(key, value);
+    }
+}
@@ -0,0 +1,113 @@
+package com.catfood.load;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.StringJoiner;
+
+/**
+ * 부하 테스트 요청 구성
+ *
+ * 요청 종류 비율:
+ *   - POST /api/recommend           : 80%
+ *   - POST /api/recommend/household : 20% (고양이 2~4마리)
+ *
+ * 고양이 구성 (단일 추천 기준):
+ *   - 키튼 (2~11개월)  20%: 체중은 나이에 비례 (0.5~3.5kg)
+ *   - 성묘 (1~6세)     60%: 체중 정규분포 평균 4.5kg, 표준편차 1.0kg, 중성화 80%
+ *   - 노령묘 (7~18세)  20%: 체중 정규분포 평균 4.2kg, 표준편차 0.9kg, 중성화 90%
+ *
+ * 월 예산은 로그정규분포 (중앙값 150,000원, 키튼·노령묘는 소폭 상향), 1,000 ~ 1,000,000원으로 제한.
+ * (성묘 기준 최저가 사료 월 비용이 약 100,000원이므로 요청의 약 10%는 예산 부족 응답)
+ * 시드가 같으면 같은 요청 순서를 재현합니다.
+ */
+final class LoadProfile {
+
+    static final double HOUSEHOLD_RATIO = 0.2;
+
+    private static final double BUDGET_MEDIAN = 150000;
+    private static final double BUDGET_SIGMA = 0.35;
+
+    private final Random random;
+
+    LoadProfile(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * 다음 요청을 생성합니다.
+     */
+    Request next() {
+        if (random.nextDouble() < HOUSEHOLD_RATIO) {
+            int cats = 2 + random.nextInt(3);
+            StringJoiner profiles = new StringJoiner(",", "[", "]");
+            double budget = 0;
+            for (int i = 0; i < cats; i++) {
+                Cat cat = nextCat();
+                profiles.add(cat.json());
+                budget += cat.budget;
+            }
+            String body = String.format(Locale.ROOT, "{\"cats\":%s,\"monthlyBudget\":%d}",
+                    profiles, clampBudget(budget * 0.9));
+            return new Request(Endpoint.HOUSEHOLD, body);
+        }
+
+        Cat cat = nextCat();
+        String body = String.format(Locale.ROOT, "{%s,\"monthlyBudget\":%d}", cat.fields(), clampBudget(cat.budget));
+        return new Request(Endpoint.RECOMMEND, body);
+    }
+
+    private Cat nextCat() {
+        double stage = random.nextDouble();
+        String gender = random.nextBoolean() ? "MALE" : "FEMALE";
+        double budget = BUDGET_MEDIAN * Math.exp(random.nextGaussian() * BUDGET_SIGMA);
+
+        if (stage < 0.2) {
+            int ageMonths = 2 + random.nextInt(10);
+            double weightKg = clamp(0.35 * ageMonths + random.nextGaussian() * 0.2, 0.5, 3.5);
+            return new Cat(weightKg, ageMonths, gender, false, budget * 1.1);
+        }
+        if (stage < 0.8) {
+            int ageMonths = 12 + random.nextInt(72);
+            double weightKg = clamp(4.5 + random.nextGaussian(), 2.5, 9.0);
+            return new Cat(weightKg, ageMonths, gender, random.nextDouble() < 0.8, budget);
+        }
+        int ageMonths = 84 + random.nextInt(132);
+        double weightKg = clamp(4.2 + random.nextGaussian() * 0.9, 2.5, 8.0);
+        return new Cat(weightKg, ageMonths, gender, random.nextDouble() < 0.9, budget * 1.15);
+    }
+
+    private static int clampBudget(double budget) {
+        return (int) clamp(Math.round(budget / 1000.0) * 1000.0, 1000, 1_000_000);
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    enum Endpoint {
+        RECOMMEND("/api/recommend"),
+        HOUSEHOLD("/api/recommend/household");
+
+        final String path;
+
+        Endpoint(String path) {
+            this.path = path;
+        }
+    }
+
+    record Request(Endpoint endpoint, String body) {
+    }
+
+    private record Cat(double weightKg, int ageMonths, String gender, boolean neutered, double budget) {
+
+        String fields() {
+            return String.format(Locale.ROOT,
+                    "\"weightKg\":%.1f,\"ageMonths\":%d,\"gender\":\"%s\",\"neutered\":%b",
+                    weightKg, ageMonths, gender, neutered);
+        }
+
+        String json() {
+            return "{" + fields() + "}";
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.catfood.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 개방형(open-model) 부하 생성기
+ *
+ * 응답 완료를 기다리지 않고 포아송 도착 간격(지수 분포)으로 요청을 보냅니다.
+ * 지연 시간은 실제 전송 시각이 아닌 예정 도착 시각부터 측정하므로,
+ * 서버가 밀려 전송이 늦어진 시간도 지연에 포함됩니다. (coordinated omission 보정)
+ *
+ * 동시 진행 요청이 maxInFlight 를 넘으면 해당 요청은 보내지 않고 실패로 집계합니다.
+ */
+final class OpenModelLoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final String baseUrl;
+    private final int maxInFlight;
+    private final ExecutorService executor;
+    private final HttpClient client;
+
+    OpenModelLoadGenerator(String baseUrl, int maxInFlight) {
+        this.baseUrl = baseUrl;
+        this.maxInFlight = maxInFlight;
+        this.executor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors() * 2));
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+    }
+
+    /**
+     * 목표 도착률로 지정 시간 동안 요청을 보내고 결과를 집계합니다.
+     *
+     * @param ratePerSecond 목표 도착률 (요청/초)
+     * @param duration      측정 시간
+     * @param profile       요청 구성
+     * @param seed          도착 간격 난수 시드
+     */
+    Result run(double ratePerSecond, Duration duration, LoadProfile profile, long seed) {
+        Map<LoadProfile.Endpoint, Histogram> histograms = new EnumMap<>(LoadProfile.Endpoint.class);
+        for (LoadProfile.Endpoint endpoint : LoadProfile.Endpoint.values()) {
+            histograms.put(endpoint, new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3));
+        }
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicLong completed = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        Random arrivals = new Random(seed);
+
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        double meanIntervalNanos = 1_000_000_000.0 / ratePerSecond;
+        long intended = start;
+        long sent = 0;
+
+        while (true) {
+            intended += (long) (-Math.log(1.0 - arrivals.nextDouble()) * meanIntervalNanos);
+            if (intended >= end) break;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            LoadProfile.Request request = profile.next();
+            sent++;
+            if (inFlight.incrementAndGet() > maxInFlight) {
+                inFlight.decrementAndGet();
+                errors.incrementAndGet();
+                continue;
+            }
+
+            long scheduledAt = intended;
+            Histogram histogram = histograms.get(request.endpoint());
+            client.sendAsync(toHttpRequest(request), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        long latency = System.nanoTime() - scheduledAt;
+                        inFlight.decrementAndGet();
+                        if (failure != null || response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                            return;
+                        }
+                        histogram.recordValue(Math.min(latency, HIGHEST_TRACKABLE_NANOS));
+                        completed.incrementAndGet();
+                    });
+        }
+
+        while (inFlight.get() > 0 && System.nanoTime() - end < TimeUnit.SECONDS.toNanos(30)) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        return new Result(ratePerSecond, sent, completed.get(), errors.get(), elapsedSeconds, histograms);
+    }
+
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private HttpRequest toHttpRequest(LoadProfile.Request request) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + request.endpoint().path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(request.body()))
+                .build();
+    }
+
+    /**
+     * 한 구간의 측정 결과 (지연 시간 단위: 나노초)
+     */
+    record Result(double targetRate, long sent, long completed, long errors, double elapsedSeconds,
+                  Map<LoadProfile.Endpoint, Histogram> histograms) {
+
+        double throughput() {
+            return completed / elapsedSeconds;
+        }
+
+        double errorRatio() {
+            return sent == 0 ? 0.0 : (double) errors / sent;
+        }
+
+        Histogram combined() {
+            Histogram combined = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+            histograms.values().forEach(combined::add);
+            return combined;
+        }
+
+        static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
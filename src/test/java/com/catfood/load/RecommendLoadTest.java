@@ -0,0 +1,201 @@
+package com.catfood.load;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 추천 API 부하 테스트 및 SLO 회귀 검사 (기본 빌드에서 제외)
+ *
+ * 실행: mvn test -Pload
+ * 기준선 갱신: mvn test -Pload -Dload.updateBaseline=true
+ *
+ * 구간:
+ *   1. 워밍업       : load.rate 로 load.warmupSeconds 초 (집계 제외)
+ *   2. 정상 부하    : load.rate 로 load.durationSeconds 초 → 엔드포인트별 지연 시간 백분위
+ *   3. 단계 증가    : load.rate 부터 load.rampFactor 배씩 load.rampSteps 단계 (단계당 load.rampStepSeconds 초)
+ *                    → 오류율 1% 미만, 목표 도착률의 95% 이상 처리, p99 ≤ load.sloP99Ms 를 만족한 최대 처리량
+ *
+ * 기준선(load.baseline) 대비 정상 부하 p99 가 (1 + load.p99Tolerance) 배 + load.p99SlackMs 를 넘거나,
+ * 최대 처리량이 (1 - load.throughputTolerance) 배 미만이면 실패합니다.
+ * 기준선은 측정 환경(코어 수, 최대 힙, JVM, OS, 부하 설정)과 함께 기록하며, 현재 환경과 다르면
+ * 절대 수치를 비교할 수 없으므로 회귀 검사를 건너뜁니다. (테스트 skipped, 같은 장비에서 기준선을 먼저 기록)
+ * 지연 시간 분포(.hgrm)는 target/load 에 기록됩니다.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "logging.level.com.catfood=WARN")
+@ActiveProfiles("test")
+@DisplayName("추천 API 부하 테스트")
+class RecommendLoadTest {
+
+    private static final double RATE = doubleProperty("load.rate", 200);
+    private static final int WARMUP_SECONDS = Integer.getInteger("load.warmupSeconds", 10);
+    private static final int DURATION_SECONDS = Integer.getInteger("load.durationSeconds", 30);
+    private static final double RAMP_FACTOR = doubleProperty("load.rampFactor", 1.5);
+    private static final int RAMP_STEPS = Integer.getInteger("load.rampSteps", 8);
+    private static final int RAMP_STEP_SECONDS = Integer.getInteger("load.rampStepSeconds", 5);
+    private static final double SLO_P99_MS = doubleProperty("load.sloP99Ms", 100);
+    private static final int MAX_IN_FLIGHT = Integer.getInteger("load.maxInFlight", 1000);
+    private static final long SEED = Long.getLong("load.seed", 20240601L);
+
+    private static final double P99_TOLERANCE = doubleProperty("load.p99Tolerance", 0.25);
+    private static final double P99_SLACK_MS = doubleProperty("load.p99SlackMs", 5);
+    private static final double THROUGHPUT_TOLERANCE = doubleProperty("load.throughputTolerance", 0.15);
+    private static final Path BASELINE = Path.of(System.getProperty("load.baseline", "src/test/resources/load/baseline.properties"));
+    private static final boolean UPDATE_BASELINE = Boolean.getBoolean("load.updateBaseline");
+    private static final Path REPORT_DIR = Path.of("target", "load");
+
+    @LocalServerPort
+    private int port;
+
+    private OpenModelLoadGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        generator = new OpenModelLoadGenerator("http://localhost:" + port, MAX_IN_FLIGHT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        generator.shutdown();
+    }
+
+    @Test
+    @DisplayName("정상 부하 p99 및 최대 처리량이 기준선 대비 회귀하지 않음")
+    void recommendUnderOpenModelLoad() {
+        generator.run(RATE, Duration.ofSeconds(WARMUP_SECONDS), new LoadProfile(SEED - 1), SEED - 1);
+
+        OpenModelLoadGenerator.Result steady =
+                generator.run(RATE, Duration.ofSeconds(DURATION_SECONDS), new LoadProfile(SEED), SEED);
+        writeDistributions(steady);
+
+        List<OpenModelLoadGenerator.Result> ramp = new ArrayList<>();
+        double maxThroughput = 0;
+        double rate = RATE;
+        for (int step = 0; step < RAMP_STEPS; step++, rate *= RAMP_FACTOR) {
+            OpenModelLoadGenerator.Result result = generator.run(
+                    rate, Duration.ofSeconds(RAMP_STEP_SECONDS), new LoadProfile(SEED + step + 1), SEED + step + 1);
+            ramp.add(result);
+            if (!meetsSlo(result)) break;
+            maxThroughput = Math.max(maxThroughput, result.throughput());
+        }
+
+        LoadBaseline measured = LoadBaseline.empty(RATE, DURATION_SECONDS);
+        steady.histograms().forEach((endpoint, histogram) ->
+                measured.put(key(endpoint), OpenModelLoadGenerator.Result.millis(histogram.getValueAtPercentile(99.0))));
+        measured.put("maxThroughput", maxThroughput);
+
+        System.out.println(report(steady, ramp, maxThroughput));
+        assertThat(steady.errorRatio()).as("정상 부하 오류율").isLessThan(0.01);
+
+        LoadBaseline baseline = LoadBaseline.load(BASELINE);
+        if (UPDATE_BASELINE || baseline == null) {
+            measured.save(BASELINE, "mvn test -Pload -Dload.updateBaseline=true");
+            System.out.println("기준선 기록: " + BASELINE.toAbsolutePath());
+            return;
+        }
+        List<String> mismatches = baseline.environmentMismatches(measured);
+        Assumptions.assumeTrue(mismatches.isEmpty(), () -> "기준선과 측정 환경이 달라 SLO 회귀 검사를 건너뜁니다 "
+                + mismatches + " - 이 장비에서 -Dload.updateBaseline=true 로 기준선을 먼저 기록하세요.");
+
+        List<String> regressions = new ArrayList<>();
+        for (LoadProfile.Endpoint endpoint : LoadProfile.Endpoint.values()) {
+            Double expected = baseline.get(key(endpoint));
+            double actual = measured.get(key(endpoint));
+            if (expected != null && actual > expected * (1 + P99_TOLERANCE) + P99_SLACK_MS) {
+                regressions.add(String.format("%s p99 %.2fms > 기준선 %.2fms (+%.0f%% +%.0fms 허용)",
+                        endpoint.path, actual, expected, P99_TOLERANCE * 100, P99_SLACK_MS));
+            }
+        }
+        Double expectedThroughput = baseline.get("maxThroughput");
+        if (expectedThroughput != null && maxThroughput < expectedThroughput * (1 - THROUGHPUT_TOLERANCE)) {
+            regressions.add(String.format("최대 처리량 %.0f req/s < 기준선 %.0f req/s (-%.0f%% 허용)",
+                    maxThroughput, expectedThroughput, THROUGHPUT_TOLERANCE * 100));
+        }
+
+        assertThat(regressions).as("기준선 대비 SLO 회귀").isEmpty();
+    }
+
+    private boolean meetsSlo(OpenModelLoadGenerator.Result result) {
+        double p99 = OpenModelLoadGenerator.Result.millis(result.combined().getValueAtPercentile(99.0));
+        return result.errorRatio() < 0.01
+                && result.throughput() >= result.targetRate() * 0.95
+                && p99 <= SLO_P99_MS;
+    }
+
+    private String report(OpenModelLoadGenerator.Result steady, List<OpenModelLoadGenerator.Result> ramp,
+                          double maxThroughput) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%n정상 부하: 목표 %.0f req/s, %d초, 처리량 %.1f req/s, 오류 %d/%d%n",
+                steady.targetRate(), DURATION_SECONDS, steady.throughput(), steady.errors(), steady.sent()));
+        report.append(String.format("%-28s %8s %8s %8s %8s %8s %8s%n",
+                "endpoint", "count", "p50", "p90", "p99", "p99.9", "max"));
+        for (Map.Entry<LoadProfile.Endpoint, Histogram> entry : steady.histograms().entrySet()) {
+            appendRow(report, entry.getKey().path, entry.getValue());
+        }
+        appendRow(report, "(all)", steady.combined());
+
+        report.append(String.format("%n단계 증가 (SLO: 오류 < 1%%, 처리량 ≥ 목표 95%%, p99 ≤ %.0fms)%n", SLO_P99_MS));
+        report.append(String.format("%10s %12s %10s %8s %6s%n", "target", "throughput", "p99(ms)", "errors", "SLO"));
+        for (OpenModelLoadGenerator.Result result : ramp) {
+            report.append(String.format("%10.0f %12.1f %10.2f %8d %6s%n",
+                    result.targetRate(), result.throughput(),
+                    OpenModelLoadGenerator.Result.millis(result.combined().getValueAtPercentile(99.0)),
+                    result.errors(), meetsSlo(result) ? "OK" : "FAIL"));
+        }
+        report.append(String.format("최대 처리량: %.1f req/s%n", maxThroughput));
+        return report.toString();
+    }
+
+    private void appendRow(StringBuilder report, String name, Histogram histogram) {
+        report.append(String.format("%-28s %8d %8.2f %8.2f %8.2f %8.2f %8.2f%n", name, histogram.getTotalCount(),
+                OpenModelLoadGenerator.Result.millis(histogram.getValueAtPercentile(50.0)),
+                OpenModelLoadGenerator.Result.millis(histogram.getValueAtPercentile(90.0)),
+                OpenModelLoadGenerator.Result.millis(histogram.getValueAtPercentile(99.0)),
+                OpenModelLoadGenerator.Result.millis(histogram.getValueAtPercentile(99.9)),
+                OpenModelLoadGenerator.Result.millis(histogram.getMaxValue())));
+    }
+
+    private void writeDistributions(OpenModelLoadGenerator.Result result) {
+        try {
+            Files.createDirectories(REPORT_DIR);
+            for (Map.Entry<LoadProfile.Endpoint, Histogram> entry : result.histograms().entrySet()) {
+                Path file = REPORT_DIR.resolve(entry.getKey().name().toLowerCase() + ".hgrm");
+                try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                    entry.getValue().outputPercentileDistribution(out, 1_000_000.0);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String key(LoadProfile.Endpoint endpoint) {
+        return endpoint.name().toLowerCase() + ".p99Ms";
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+}
@@ -0,0 +1,69 @@
+package com.catfood.service;
+
+import com.catfood.dto.FoodRecommendation;
+import com.catfood.dto.RecommendRequest;
+import com.catfood.dto.RecommendResponse;
+import com.catfood.model.CatFood;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CatFoodRecommendService 테스트")
+class CatFoodRecommendServiceTest {
+
+    @ParameterizedTest(name = "{0}kg, {1}개월, 예산 {2}원")
+    @CsvSource({
+            "4.0, 36, 150000",
+            "1.5, 5, 80000",
+            "5.0, 120, 200000"
+    })
+    @DisplayName("샤드 병렬 스캔 결과가 순차 스캔 결과와 동일")
+    void parallelScan_matchesSequential(double weightKg, int ageMonths, int monthlyBudget) {
+        List<CatFood> catalog = SyntheticCatalog.generate(50_000, 42L);
+        CalorieCalculationService calorieService = new CalorieCalculationService();
+
+        CatFoodRecommendService sequential = new CatFoodRecommendService(calorieService, Integer.MAX_VALUE, 4096, 0);
+        CatFoodRecommendService parallel = new CatFoodRecommendService(calorieService, 1, 1000, 4);
+        sequential.replaceCatalog(catalog);
+        parallel.replaceCatalog(catalog);
+
+        RecommendRequest request = new RecommendRequest();
+        request.setWeightKg(weightKg);
+        request.setAgeMonths(ageMonths);
+        request.setGender("MALE");
+        request.setNeutered(true);
+        request.setMonthlyBudget(monthlyBudget);
+
+        List<FoodRecommendation> expected = sequential.recommend(request).getRecommendations();
+        RecommendResponse actual = parallel.recommend(request);
+        parallel.shutdownScanPool();
+
+        assertThat(expected).hasSize(5);
+        assertThat(actual.getRecommendations()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("샤드 크기·병렬 임계값이 0 이하면 설정 이름과 함께 거부")
+    void nonPositiveSettings_rejected() {
+        CalorieCalculationService calorieService = new CalorieCalculationService();
+
+        assertThatThrownBy(() -> new CatFoodRecommendService(calorieService, 100_000, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("catfood.recommend.shard-size");
+        assertThatThrownBy(() -> new CatFoodRecommendService(calorieService, 100_000, -1, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("catfood.recommend.shard-size");
+        assertThatThrownBy(() -> new CatFoodRecommendService(calorieService, 0, 4096, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("catfood.recommend.parallel-threshold");
+        assertThatThrownBy(() -> new CatFoodRecommendService(calorieService, -5, 4096, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("catfood.recommend.parallel-threshold");
+    }
+}
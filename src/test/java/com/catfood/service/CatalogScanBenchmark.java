@@ -0,0 +1,108 @@
+package com.catfood.service;
+
+import com.catfood.dto.RecommendRequest;
+import com.catfood.model.CatFood;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 대규모 카탈로그 스캔 벤치마크 (기본 빌드에서 제외)
+ *
+ * 실행: mvn test -Pbenchmark -Dbenchmark.catalogSize=1000000 -Dbenchmark.iterations=30
+ *
+ * 순차 스캔(병렬 임계값 미만 경로: 호출 스레드에서 샤드를 차례로 스캔)과 샤드 병렬 스캔을
+ * 병렬도 1, 2, 4, ... 가용 코어 수까지 번갈아 실행하여 요청당 지연 시간의 중앙값과 순차 대비 속도 향상을 출력합니다.
+ * 가용 코어가 1개면 병렬도 1(스캔 풀 전달 비용)만 측정되며 확장 곡선은 얻을 수 없습니다.
+ * (점수 정책 도입 전 CatFood 목록 순회 경로와의 비교는 ScoringPolicyBenchmark)
+ */
+@Tag("benchmark")
+@DisplayName("카탈로그 스캔 벤치마크")
+class CatalogScanBenchmark {
+
+    private static final int CATALOG_SIZE = Integer.getInteger("benchmark.catalogSize", 1_000_000);
+    private static final int WARMUP_ITERATIONS = Integer.getInteger("benchmark.warmup", 10);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 30);
+
+    @Test
+    @DisplayName("병렬도별 스캔 지연 시간")
+    void scalingCurve() {
+        List<CatFood> catalog = SyntheticCatalog.generate(CATALOG_SIZE, 42L);
+        CalorieCalculationService calorieService = new CalorieCalculationService();
+        List<RecommendRequest> requests = requests();
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        List<String> modes = new ArrayList<>();
+        List<CatFoodRecommendService> services = new ArrayList<>();
+        modes.add("sequential");
+        services.add(new CatFoodRecommendService(calorieService, Integer.MAX_VALUE, CatalogIndex.DEFAULT_SHARD_SIZE, 1));
+        for (int p = 1; ; p = Math.min(p * 2, cores)) {
+            modes.add("sharded x" + p);
+            services.add(new CatFoodRecommendService(calorieService, 1, CatalogIndex.DEFAULT_SHARD_SIZE, p));
+            if (p == cores) break;
+        }
+        for (CatFoodRecommendService service : services) {
+            service.replaceCatalog(catalog);
+        }
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            for (CatFoodRecommendService service : services) {
+                service.recommend(requests.get(i % requests.size()));
+            }
+        }
+        // 모드를 번갈아 실행하여 측정 중 JIT·GC·다른 프로세스 부하가 한 모드에 몰리지 않도록 함
+        long[][] nanos = new long[services.size()][ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            RecommendRequest request = requests.get(i % requests.size());
+            for (int m = 0; m < services.size(); m++) {
+                long start = System.nanoTime();
+                services.get(m).recommend(request);
+                nanos[m][i] = System.nanoTime() - start;
+            }
+        }
+        for (CatFoodRecommendService service : services) {
+            service.shutdownScanPool();
+        }
+
+        double baselineMs = median(nanos[0]) / 1e6;
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%n카탈로그 %,d개, 표본 %d회 (가용 코어 %d)%n", CATALOG_SIZE, ITERATIONS, cores));
+        report.append(String.format("%-16s %16s %10s%n", "mode", "median ms/req", "speedup"));
+        for (int m = 0; m < services.size(); m++) {
+            double ms = median(nanos[m]) / 1e6;
+            report.append(String.format("%-16s %16.2f %9.2fx%n", modes.get(m), ms, baselineMs / ms));
+        }
+        if (cores == 1) {
+            report.append("가용 코어 1개: 병렬도별 확장 곡선은 다중 코어 환경에서 측정하세요.\n");
+        }
+
+        System.out.println(report);
+    }
+
+    private static double median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+    private List<RecommendRequest> requests() {
+        return List.of(
+                request(4.0, 36, "MALE", true, 150000),
+                request(1.5, 5, "FEMALE", false, 80000),
+                request(5.0, 120, "FEMALE", true, 200000),
+                request(3.2, 24, "FEMALE", false, 120000));
+    }
+
+    private RecommendRequest request(double weightKg, int ageMonths, String gender, boolean neutered, int budget) {
+        RecommendRequest request = new RecommendRequest();
+        request.setWeightKg(weightKg);
+        request.setAgeMonths(ageMonths);
+        request.setGender(gender);
+        request.setNeutered(neutered);
+        request.setMonthlyBudget(budget);
+        return request;
+    }
+}
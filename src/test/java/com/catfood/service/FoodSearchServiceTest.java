@@ -0,0 +1,193 @@
+package com.catfood.service;
+
+import com.catfood.dto.CatFoodSummary;
+import com.catfood.dto.FoodSearchRequest;
+import com.catfood.dto.FoodSearchResponse;
+import com.catfood.model.CatFood;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FoodSearchService 테스트")
+class FoodSearchServiceTest {
+
+    private CatFoodRecommendService recommendService;
+    private FoodSearchService service;
+
+    @BeforeEach
+    void setUp() {
+        recommendService = new CatFoodRecommendService(new CalorieCalculationService());
+        service = new FoodSearchService(recommendService);
+    }
+
+    @Test
+    @DisplayName("한글 오타 검색: '로얄캐넌' → 로얄캐닌 사료가 상위에 검색됨")
+    void koreanTypo_matchesBrand() {
+        FoodSearchRequest request = new FoodSearchRequest();
+        request.setQ("로얄캐넌");
+
+        FoodSearchResponse response = service.search(request);
+
+        assertThat(response.getItems()).isNotEmpty();
+        assertThat(response.getItems().get(0).getBrand()).isEqualTo("Royal Canin");
+        assertThat(response.getItems().get(0).getRelevance()).isBetween(0.5, 1.0);
+    }
+
+    @Test
+    @DisplayName("호환 자모 검색어: 'ㄹㅗㅇㅑㄹㅋㅐㄴㅣㄴ' 도 색인과 같이 정규화되어 로얄캐닌 사료가 검색됨")
+    void compatibilityJamoQuery_matchesBrand() {
+        FoodSearchRequest request = new FoodSearchRequest();
+        request.setQ("ㄹㅗㅇㅑㄹㅋㅐㄴㅣㄴ");
+
+        FoodSearchResponse response = service.search(request);
+
+        assertThat(response.getItems()).isNotEmpty()
+                .allSatisfy(item -> assertThat(item.getBrand()).isEqualTo("Royal Canin"));
+    }
+
+    @Test
+    @DisplayName("텍스트 일치 수: 포스팅 목록 병합 결과가 문서별 3-gram 직접 비교와 동일")
+    void matchText_matchesPerDocumentGrams() {
+        List<CatFood> foods = new ArrayList<>(recommendService.getCatalog());
+        foods.addAll(SyntheticCatalog.generate(2_000, 3L));
+        FoodSearchIndex index = FoodSearchIndex.build(foods);
+
+        for (String query : List.of("로얄캐넌", "royl canin", "synthetic food 12", "인도어")) {
+            Set<String> queryGrams = FoodSearchIndex.grams(query);
+            int required = Math.max(1, (int) Math.ceil(queryGrams.size() * FoodSearchIndex.MIN_MATCH_RATIO));
+            FoodSearchIndex.TextMatch match = index.matchText(query);
+
+            for (int doc = 0; doc < foods.size(); doc++) {
+                CatFood food = foods.get(doc);
+                Set<String> docGrams = new HashSet<>(FoodSearchIndex.grams(String.join(" ",
+                        food.getName(), food.getBrand(), food.getDescription(), food.getId())));
+                docGrams.retainAll(queryGrams);
+                int expected = docGrams.size() >= required ? docGrams.size() : 0;
+
+                assertThat(match.count(doc)).as("%s / %s", query, food.getId()).isEqualTo(expected);
+                assertThat(match.docs().get(doc)).isEqualTo(expected > 0);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("커서 페이지네이션 (합성 3,000개): 페이지를 이어 붙이면 (일치 수 내림차순, id 오름차순) 전체 정렬과 동일")
+    void cursorPagination_matchesFullSortOnLargeCatalog() {
+        List<CatFood> foods = SyntheticCatalog.generate(3_000, 9L);
+        recommendService.replaceCatalog(foods);
+        String query = "synthetic food 12";
+        FoodSearchIndex.TextMatch match = FoodSearchIndex.build(foods).matchText(query);
+        List<String> expected = new ArrayList<>();
+        for (int doc = match.docs().nextSetBit(0); doc >= 0; doc = match.docs().nextSetBit(doc + 1)) {
+            expected.add(match.count(doc) + ":" + foods.get(doc).getId());
+        }
+        expected.sort((a, b) -> {
+            int countA = Integer.parseInt(a.substring(0, a.indexOf(':')));
+            int countB = Integer.parseInt(b.substring(0, b.indexOf(':')));
+            return countA != countB ? Integer.compare(countB, countA)
+                    : a.substring(a.indexOf(':') + 1).compareTo(b.substring(b.indexOf(':') + 1));
+        });
+
+        List<String> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            FoodSearchRequest page = new FoodSearchRequest();
+            page.setQ(query);
+            page.setLimit(37);
+            page.setCursor(cursor);
+            FoodSearchResponse response = service.search(page);
+            assertThat(response.getTotalCount()).isEqualTo(expected.size());
+            response.getItems().forEach(item -> paged.add(item.getId()));
+            cursor = response.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(expected).hasSizeGreaterThan(37);
+        assertThat(paged).containsExactlyElementsOf(
+                expected.stream().map(key -> key.substring(key.indexOf(':') + 1)).toList());
+    }
+
+    @Test
+    @DisplayName("영문 오타 검색: 'royl canin' → Royal Canin 사료만 검색됨")
+    void englishTypo_matchesBrand() {
+        FoodSearchRequest request = new FoodSearchRequest();
+        request.setQ("royl canin");
+
+        FoodSearchResponse response = service.search(request);
+
+        assertThat(response.getItems()).isNotEmpty()
+                .allSatisfy(item -> assertThat(item.getBrand()).isEqualTo("Royal Canin"));
+    }
+
+    @Test
+    @DisplayName("패싯 필터: 선택한 패싯 자신의 개수는 다른 조건만으로 계산")
+    void facetFilter_disjunctiveCounts() {
+        FoodSearchRequest request = new FoodSearchRequest();
+        request.setType(List.of("WET"));
+        request.setLimit(100);
+
+        FoodSearchResponse response = service.search(request);
+
+        assertThat(response.getItems()).allSatisfy(item -> assertThat(item.getType()).isEqualTo("WET"));
+        assertThat(response.getTotalCount()).isEqualTo(response.getItems().size());
+        assertThat(response.getFacets().get("type")).containsKeys("DRY", "WET");
+        assertThat(response.getFacets().get("type").get("WET")).isEqualTo(response.getTotalCount());
+        assertThat(response.getFacets().get("brand").values().stream().mapToInt(Integer::intValue).sum())
+                .isEqualTo(response.getTotalCount());
+    }
+
+    @Test
+    @DisplayName("범위 필터: 단백질·가격 범위 양끝 포함")
+    void rangeFilter_inclusive() {
+        FoodSearchRequest request = new FoodSearchRequest();
+        request.setMinProtein(35.0);
+        request.setMaxPrice(65000);
+        request.setLimit(100);
+
+        FoodSearchResponse response = service.search(request);
+
+        assertThat(response.getItems()).isNotEmpty().allSatisfy(item -> {
+            assertThat(item.getProteinPercent()).isGreaterThanOrEqualTo(35.0);
+            assertThat(item.getPricePerKg()).isLessThanOrEqualTo(65000);
+        });
+        assertThat(response.getItems()).extracting(CatFoodSummary::getId).contains("nc-adult", "wc-adult");
+    }
+
+    @Test
+    @DisplayName("커서 페이지네이션: 페이지를 이어 붙이면 전체 결과와 동일하고 중복 없음")
+    void cursorPagination_coversAllResults() {
+        FoodSearchRequest all = new FoodSearchRequest();
+        all.setLimit(100);
+        List<String> expected = service.search(all).getItems().stream().map(CatFoodSummary::getId).toList();
+
+        List<String> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            FoodSearchRequest page = new FoodSearchRequest();
+            page.setLimit(4);
+            page.setCursor(cursor);
+            FoodSearchResponse response = service.search(page);
+            assertThat(response.getItems().size()).isLessThanOrEqualTo(4);
+            response.getItems().forEach(item -> paged.add(item.getId()));
+            cursor = response.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(paged).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 IllegalArgumentException")
+    void invalidCursor_throws() {
+        FoodSearchRequest request = new FoodSearchRequest();
+        request.setCursor("not-a-cursor");
+
+        assertThatThrownBy(() -> service.search(request)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,125 @@
+package com.catfood.service;
+
+import com.catfood.dto.CatProfile;
+import com.catfood.dto.HouseholdRecommendRequest;
+import com.catfood.model.CatFood;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 다묘 추천 대규모 카탈로그 벤치마크 (기본 빌드에서 제외)
+ *
+ * 실행: mvn test -Pbenchmark -Dtest=HouseholdRecommendBenchmark -Dbenchmark.catalogSize=1000000
+ *
+ * 고양이 10마리 가구 요청의 평균 지연 시간을 측정합니다.
+ *   - list scan : 샤드 인덱스 도입 전 buildHull (고양이마다 CatFood 목록 순회·점수 계산 후 전체 정렬, 껍질 구성까지만)
+ *   - sequential: 병렬 임계값 미만 경로 (호출 스레드에서 샤드별 껍질을 구해 병합)
+ *   - sharded xN: 샤드별 껍질을 ForkJoinPool(병렬도 N)에서 구해 병합
+ */
+@Tag("benchmark")
+@DisplayName("다묘 추천 벤치마크")
+class HouseholdRecommendBenchmark {
+
+    private static final int CATALOG_SIZE = Integer.getInteger("benchmark.catalogSize", 1_000_000);
+    private static final int WARMUP_ITERATIONS = Integer.getInteger("benchmark.warmup", 3);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 10);
+    private static final int CAT_COUNT = 10;
+
+    @Test
+    @DisplayName("고양이 10마리 가구 요청 지연 시간")
+    void tenCats() {
+        List<CatFood> catalog = SyntheticCatalog.generate(CATALOG_SIZE, 42L);
+        CalorieCalculationService calorieService = new CalorieCalculationService();
+        HouseholdRecommendRequest request = request();
+
+        CatFoodRecommendService sequential =
+                new CatFoodRecommendService(calorieService, Integer.MAX_VALUE, CatalogIndex.DEFAULT_SHARD_SIZE, 1);
+        sequential.replaceCatalog(catalog);
+        double listScanMs = measure(() -> listScanHulls(sequential, calorieService, request));
+        HouseholdRecommendService sequentialHousehold = new HouseholdRecommendService(calorieService, sequential);
+        double sequentialMs = measure(() -> sequentialHousehold.recommend(request));
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%n카탈로그 %,d개, 고양이 %d마리, 반복 %d회 (가용 코어 %d)%n",
+                CATALOG_SIZE, CAT_COUNT, ITERATIONS, Runtime.getRuntime().availableProcessors()));
+        report.append(String.format("%-16s %12s %10s%n", "mode", "ms/request", "speedup"));
+        report.append(String.format("%-16s %12.2f %10s%n", "list scan", listScanMs, "1.00x"));
+        report.append(String.format("%-16s %12.2f %9.2fx%n", "sequential", sequentialMs, listScanMs / sequentialMs));
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        CatFoodRecommendService parallel =
+                new CatFoodRecommendService(calorieService, 1, CatalogIndex.DEFAULT_SHARD_SIZE, cores);
+        parallel.replaceCatalog(catalog);
+        HouseholdRecommendService parallelHousehold = new HouseholdRecommendService(calorieService, parallel);
+        double parallelMs = measure(() -> parallelHousehold.recommend(request));
+        parallel.shutdownScanPool();
+        report.append(String.format("%-16s %12.2f %9.2fx%n", "sharded x" + cores, parallelMs, listScanMs / parallelMs));
+
+        System.out.println(report);
+    }
+
+    private double measure(Runnable task) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+    }
+
+    /**
+     * 샤드 인덱스 도입 전 buildHull 의 후보 수집·정렬 (고양이별 카탈로그 전체 순회)
+     */
+    private int listScanHulls(CatFoodRecommendService service, CalorieCalculationService calorieService,
+                              HouseholdRecommendRequest request) {
+        ScoringPolicy policy = service.scoringPolicy(null);
+        int hullInput = 0;
+        for (CatProfile cat : request.getCats()) {
+            double dailyCalories = calorieService.calculateDailyCalories(
+                    cat.getWeightKg(), cat.getAgeMonths(), cat.getGender(), cat.getNeutered());
+            String lifeStageKey = calorieService.getLifeStageKey(cat.getAgeMonths());
+            ScoringContext context = new ScoringContext()
+                    .cat(cat.getWeightKg(), cat.getAgeMonths(), cat.getGender(), cat.getNeutered(),
+                            lifeStageKey, dailyCalories)
+                    .budget(request.getMonthlyBudget());
+
+            List<double[]> candidates = new ArrayList<>();
+            for (CatFood food : service.getCatalog()) {
+                if (!service.isAgeAppropriate(food, lifeStageKey)) continue;
+
+                int monthlyCost = service.calculateMonthlyCost(food, dailyCalories);
+                if (monthlyCost > request.getMonthlyBudget()) continue;
+
+                candidates.add(new double[]{monthlyCost, service.calculateScore(policy, context, food, monthlyCost)});
+            }
+            candidates.sort(Comparator.<double[]>comparingDouble(c -> c[0])
+                    .thenComparing(Comparator.<double[]>comparingDouble(c -> c[1]).reversed()));
+            hullInput += candidates.size();
+        }
+        return hullInput;
+    }
+
+    private HouseholdRecommendRequest request() {
+        List<CatProfile> cats = new ArrayList<>(CAT_COUNT);
+        for (int i = 0; i < CAT_COUNT; i++) {
+            CatProfile cat = new CatProfile();
+            cat.setName("cat-" + i);
+            cat.setWeightKg(2.5 + 0.3 * i);
+            cat.setAgeMonths(new int[]{5, 24, 60, 130}[i % 4]);
+            cat.setGender(i % 2 == 0 ? "MALE" : "FEMALE");
+            cat.setNeutered(i % 3 != 0);
+            cats.add(cat);
+        }
+        HouseholdRecommendRequest request = new HouseholdRecommendRequest();
+        request.setCats(cats);
+        request.setMonthlyBudget(1_500_000);
+        return request;
+    }
+}
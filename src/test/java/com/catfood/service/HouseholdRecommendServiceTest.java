@@ -0,0 +1,204 @@
+package com.catfood.service;
+
+import com.catfood.dto.CatFoodAssignment;
+import com.catfood.dto.CatProfile;
+import com.catfood.dto.HouseholdRecommendRequest;
+import com.catfood.dto.HouseholdRecommendResponse;
+import com.catfood.dto.RecommendRequest;
+import com.catfood.dto.RecommendResponse;
+import com.catfood.dto.ScoringPolicyDefinition;
+import com.catfood.model.CatFood;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("HouseholdRecommendService 테스트")
+class HouseholdRecommendServiceTest {
+
+    private CatFoodRecommendService recommendService;
+    private HouseholdRecommendService service;
+
+    @BeforeEach
+    void setUp() {
+        CalorieCalculationService calorieService = new CalorieCalculationService();
+        ScoringPolicyService policyService = ScoringPolicyService.builtIn();
+        ScoringPolicyDefinition scaled = policyService.definitions().get("default");
+        policyService.put("scaled-x100", new ScoringPolicyDefinition(null, "(" + scaled.getScore() + ") * 100",
+                scaled.getReasons(), scaled.getFallbackReason(), scaled.getSharedFoodBonus() * 100, null));
+        recommendService = new CatFoodRecommendService(calorieService, policyService);
+        service = new HouseholdRecommendService(calorieService, recommendService);
+    }
+
+    @Test
+    @DisplayName("1마리: 단일 추천 1순위와 동일한 사료 배정")
+    void singleCat_matchesTopRecommendation() {
+        HouseholdRecommendResponse household = service.recommend(request(200000, cat(4.0, 36, "MALE", true)));
+
+        RecommendRequest single = new RecommendRequest();
+        single.setWeightKg(4.0);
+        single.setAgeMonths(36);
+        single.setGender("MALE");
+        single.setNeutered(true);
+        single.setMonthlyBudget(200000);
+        RecommendResponse response = recommendService.recommend(single);
+
+        assertThat(household.getAssignments().get(0).getRecommendation().getFoodName())
+                .isEqualTo(response.getRecommendations().get(0).getFoodName());
+    }
+
+    @Test
+    @DisplayName("공유 예산: 4마리 월 비용 합계가 예산 이하")
+    void multipleCats_withinSharedBudget() {
+        HouseholdRecommendResponse response = service.recommend(request(400000,
+                cat(4.0, 36, "MALE", true),
+                cat(3.5, 48, "FEMALE", true),
+                cat(1.5, 5, "FEMALE", false),
+                cat(5.0, 120, "MALE", true)));
+
+        assertThat(response.getAssignments()).hasSize(4);
+        assertThat(response.getAssignments()).allSatisfy(a -> assertThat(a.getRecommendation()).isNotNull());
+        int sum = response.getAssignments().stream()
+                .mapToInt(a -> a.getRecommendation().getMonthlyCost())
+                .sum();
+        assertThat(sum).isEqualTo(response.getTotalMonthlyCost());
+        assertThat(sum).isLessThanOrEqualTo(400000);
+    }
+
+    @Test
+    @DisplayName("공동 구매: 같은 조건의 성체 2마리는 같은 사료 공유")
+    void sameProfileCats_shareFood() {
+        HouseholdRecommendResponse response = service.recommend(request(400000,
+                cat(4.0, 36, "MALE", true),
+                cat(4.0, 40, "MALE", true)));
+
+        List<CatFoodAssignment> assignments = response.getAssignments();
+        assertThat(assignments.get(0).getRecommendation().getFoodName())
+                .isEqualTo(assignments.get(1).getRecommendation().getFoodName());
+        assertThat(response.getSharedFoodCount()).isEqualTo(1);
+        assertThat(assignments.get(0).getRecommendation().getReason()).contains("공동 구매");
+    }
+
+    @Test
+    @DisplayName("공동 구매 가산점은 정책 점수 단위: 점수·가산점을 100배 한 정책도 같은 배정")
+    void sharedFoodBonus_followsPolicyScale() {
+        HouseholdRecommendRequest byDefault = request(400000,
+                cat(4.0, 36, "MALE", true), cat(4.0, 40, "MALE", true), cat(1.5, 5, "FEMALE", false));
+        HouseholdRecommendRequest scaled = request(400000,
+                cat(4.0, 36, "MALE", true), cat(4.0, 40, "MALE", true), cat(1.5, 5, "FEMALE", false));
+        scaled.setScoringPolicy("scaled-x100");
+
+        HouseholdRecommendResponse expected = service.recommend(byDefault);
+        HouseholdRecommendResponse actual = service.recommend(scaled);
+
+        assertThat(actual.getAssignments()).extracting(a -> a.getRecommendation().getFoodName())
+                .containsExactlyElementsOf(expected.getAssignments().stream()
+                        .map(a -> a.getRecommendation().getFoodName()).toList());
+        assertThat(actual.getSharedFoodCount()).isEqualTo(expected.getSharedFoodCount()).isPositive();
+        assertThat(actual.getTotalScore()).isCloseTo(expected.getTotalScore() * 100, within(0.5));
+    }
+
+    @Test
+    @DisplayName("예산 부족: 전체 배정 불가 시 배정 없음")
+    void budgetTooLow_noAssignment() {
+        HouseholdRecommendResponse response = service.recommend(request(1000,
+                cat(4.0, 36, "MALE", true),
+                cat(4.0, 36, "FEMALE", true)));
+
+        assertThat(response.getTotalMonthlyCost()).isZero();
+        assertThat(response.getAssignments()).allSatisfy(a -> assertThat(a.getRecommendation()).isNull());
+        assertThat(response.getAssignments().get(0).getDailyCalories()).isPositive();
+    }
+
+    @Test
+    @DisplayName("국소 탐색 후보: 볼록 껍질 안쪽이라도 남은 예산으로 살 수 있는 고득점 사료로 교체")
+    void localSearch_reachesCandidatesInsideHull() {
+        CalorieCalculationService calorieService = new CalorieCalculationService();
+        ScoringPolicyService policyService = ScoringPolicyService.builtIn();
+        policyService.put("protein-only", new ScoringPolicyDefinition(null, "proteinPercent", List.of(), "단백질",
+                0.0, null));
+        CatFoodRecommendService proteinService = new CatFoodRecommendService(calorieService, policyService);
+        // 단백질 점수: 저가 10, 중가 25, 고가 50 → 중가는 (저가, 고가) 선분 아래라 껍질에서 빠짐
+        CatFood cheap = food("cheap", 10000, 10.0);
+        CatFood middle = food("middle", 60000, 25.0);
+        CatFood premium = food("premium", 100000, 50.0);
+        proteinService.replaceCatalog(List.of(cheap, middle, premium));
+
+        // 두 마리 모두 고가를 살 수는 없고 (고가 + 중가)까지만 가능: 껍질(저가, 고가)만으로는 (고가, 저가) 60점에 멈춤
+        double dailyCalories = calorieService.calculateDailyCalories(4.0, 36, "MALE", true);
+        int middleCost = proteinService.calculateMonthlyCost(middle, dailyCalories);
+        int premiumCost = proteinService.calculateMonthlyCost(premium, dailyCalories);
+        HouseholdRecommendRequest request = request(premiumCost + middleCost,
+                cat(4.0, 36, "MALE", true), cat(4.0, 36, "MALE", true));
+        request.setScoringPolicy("protein-only");
+
+        HouseholdRecommendResponse response =
+                new HouseholdRecommendService(calorieService, proteinService).recommend(request);
+
+        assertThat(response.getAssignments()).extracting(a -> a.getRecommendation().getFoodId())
+                .containsExactlyInAnyOrder("premium", "middle");
+        assertThat(response.getTotalScore()).isEqualTo(75.0);
+        assertThat(response.getTotalMonthlyCost()).isEqualTo(premiumCost + middleCost);
+    }
+
+    @Test
+    @DisplayName("샤드별 볼록 껍질 병합(병렬): 카탈로그 전체를 한 샤드로 구한 배정과 동일")
+    void shardedHull_matchesSingleShard() {
+        CalorieCalculationService calorieService = new CalorieCalculationService();
+        List<CatFood> catalog = SyntheticCatalog.generate(20_000, 7L);
+
+        CatFoodRecommendService single = new CatFoodRecommendService(calorieService, Integer.MAX_VALUE, 20_000, 1);
+        single.replaceCatalog(catalog);
+        CatFoodRecommendService sharded = new CatFoodRecommendService(calorieService, 1, 512, 2);
+        sharded.replaceCatalog(catalog);
+
+        try {
+            for (int budget : new int[]{300_000, 500_000, 1_000_000}) {
+                HouseholdRecommendRequest request = request(budget,
+                        cat(4.0, 36, "MALE", true),
+                        cat(3.5, 48, "FEMALE", true),
+                        cat(1.5, 5, "FEMALE", false),
+                        cat(5.0, 120, "MALE", true));
+                HouseholdRecommendResponse expected =
+                        new HouseholdRecommendService(calorieService, single).recommend(request);
+                HouseholdRecommendResponse actual =
+                        new HouseholdRecommendService(calorieService, sharded).recommend(request);
+
+                assertThat(expected.getTotalMonthlyCost()).as("예산 %d", budget).isPositive();
+                assertThat(actual.getTotalMonthlyCost()).as("예산 %d", budget)
+                        .isEqualTo(expected.getTotalMonthlyCost());
+                assertThat(actual.getTotalScore()).isEqualTo(expected.getTotalScore());
+                for (int i = 0; i < expected.getAssignments().size(); i++) {
+                    assertThat(actual.getAssignments().get(i).getRecommendation().getFoodId())
+                            .isEqualTo(expected.getAssignments().get(i).getRecommendation().getFoodId());
+                }
+            }
+        } finally {
+            sharded.shutdownScanPool();
+        }
+    }
+
+    private static CatFood food(String id, int pricePerKg, double proteinPercent) {
+        return new CatFood(id, id, "Test", "DRY", "ADULT", 400, pricePerKg, proteinPercent, 15.0, id);
+    }
+
+    private HouseholdRecommendRequest request(int monthlyBudget, CatProfile... cats) {
+        HouseholdRecommendRequest request = new HouseholdRecommendRequest();
+        request.setCats(List.of(cats));
+        request.setMonthlyBudget(monthlyBudget);
+        return request;
+    }
+
+    private CatProfile cat(double weightKg, int ageMonths, String gender, boolean neutered) {
+        CatProfile cat = new CatProfile();
+        cat.setWeightKg(weightKg);
+        cat.setAgeMonths(ageMonths);
+        cat.setGender(gender);
+        cat.setNeutered(neutered);
+        return cat;
+    }
+}
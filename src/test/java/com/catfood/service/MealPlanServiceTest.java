@@ -0,0 +1,168 @@
+package com.catfood.service;
+
+import com.catfood.dto.FoodRecommendation;
+import com.catfood.dto.MealPlanRequest;
+import com.catfood.dto.MealPlanResponse;
+import com.catfood.dto.MealPlanStep;
+import com.catfood.dto.RecommendRequest;
+import com.catfood.dto.RecommendResponse;
+import com.catfood.dto.ScoringPolicyDefinition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("MealPlanService 테스트")
+class MealPlanServiceTest {
+
+    private CatFoodRecommendService recommendService;
+    private MealPlanService service;
+
+    @BeforeEach
+    void setUp() {
+        CalorieCalculationService calorieService = new CalorieCalculationService();
+        ScoringPolicyService policyService = ScoringPolicyService.builtIn();
+        ScoringPolicyDefinition scaled = policyService.definitions().get("default");
+        policyService.put("scaled-x100", new ScoringPolicyDefinition(null, "(" + scaled.getScore() + ") * 100",
+                scaled.getReasons(), scaled.getFallbackReason(), null, scaled.getSwitchMargin() * 100));
+        // 예산 경계의 가장 비싼 후보가 1순위인 정책 (경계 탐색 검증용)
+        policyService.put("priciest", new ScoringPolicyDefinition(null, "monthlyCost", List.of(), "예산 최대 사용",
+                null, null));
+        recommendService = new CatFoodRecommendService(calorieService, policyService);
+        service = new MealPlanService(calorieService, recommendService);
+    }
+
+    @Test
+    @DisplayName("키튼 3개월 → 12개월 경계: 생애 단계 계수 3.0 → 2.5 → 성체 계수")
+    void kitten_crossesLifeStageBoundaries() {
+        MealPlanResponse response = service.plan(request(1.0, 3, null, 12, 200000));
+        List<MealPlanStep> steps = response.getSteps();
+
+        assertThat(steps).hasSize(12);
+        assertThat(steps.get(0).getLifeFactor()).isEqualTo(3.0);
+        assertThat(steps.get(0).getPhase()).isEqualTo("GROWTH");
+        assertThat(steps.get(1).getLifeFactor()).isEqualTo(2.5);
+        assertThat(steps.get(8).getLifeStageKey()).isEqualTo("KITTEN");
+        assertThat(steps.get(9).getAgeMonths()).isEqualTo(12);
+        assertThat(steps.get(9).getLifeStageKey()).isEqualTo("ADULT");
+        assertThat(steps.get(9).getLifeFactor()).isEqualTo(1.6);
+        assertThat(steps.get(9).getWeightKg()).isCloseTo(MealPlanService.DEFAULT_ADULT_WEIGHT_KG, within(0.01));
+        assertThat(steps.get(9).getPhase()).isEqualTo("MAINTENANCE");
+    }
+
+    @Test
+    @DisplayName("과체중 성묘: 월 4% 이내 감량, 목표 체중 미만으로 내려가지 않음")
+    void overweightAdult_losesWeightGradually() {
+        MealPlanResponse response = service.plan(request(7.0, 48, 5.5, 24, 300000));
+        List<MealPlanStep> steps = response.getSteps();
+
+        for (int i = 1; i < steps.size(); i++) {
+            double previous = steps.get(i - 1).getWeightKg();
+            double current = steps.get(i).getWeightKg();
+            assertThat(current).isLessThanOrEqualTo(previous);
+            assertThat(previous - current).isLessThanOrEqualTo(previous * MealPlanService.MAX_MONTHLY_LOSS_RATIO + 0.01);
+            assertThat(current).isGreaterThanOrEqualTo(5.5);
+        }
+        assertThat(steps.get(0).getPhase()).isEqualTo("WEIGHT_LOSS");
+        assertThat(steps.get(0).getDailyCalories()).isCloseTo(
+                steps.get(0).getRerCalories() * 1.6 * MealPlanService.WEIGHT_LOSS_CALORIE_FACTOR, within(0.2));
+        assertThat(response.getEndWeightKg()).isCloseTo(5.5, within(0.01));
+        assertThat(steps.get(23).getPhase()).isEqualTo("MAINTENANCE");
+    }
+
+    @Test
+    @DisplayName("노령 경계(84개월): 생애 단계 키 SENIOR, 계수 1.4")
+    void adult_crossesSeniorBoundary() {
+        MealPlanResponse response = service.plan(request(4.0, 82, null, 4, 200000));
+        List<MealPlanStep> steps = response.getSteps();
+
+        assertThat(steps.get(1).getLifeStageKey()).isEqualTo("ADULT");
+        assertThat(steps.get(2).getAgeMonths()).isEqualTo(84);
+        assertThat(steps.get(2).getLifeStageKey()).isEqualTo("SENIOR");
+        assertThat(steps.get(2).getLifeFactor()).isEqualTo(1.4);
+    }
+
+    @Test
+    @DisplayName("유지 단계 첫 달: 단일 추천 1순위와 동일, 이후 사료 변경 없음")
+    void maintenance_matchesRecommendAndKeepsFood() {
+        MealPlanResponse response = service.plan(request(4.0, 36, null, 6, 200000));
+
+        RecommendRequest single = new RecommendRequest();
+        single.setWeightKg(4.0);
+        single.setAgeMonths(36);
+        single.setGender("MALE");
+        single.setNeutered(true);
+        single.setMonthlyBudget(200000);
+        RecommendResponse recommended = recommendService.recommend(single);
+
+        assertThat(response.getSteps().get(0).getRecommendation().getFoodName())
+                .isEqualTo(recommended.getRecommendations().get(0).getFoodName());
+        assertThat(response.getFoodChangeCount()).isZero();
+        assertThat(response.getTotalCost())
+                .isEqualTo(6 * response.getSteps().get(0).getRecommendation().getMonthlyCost());
+    }
+
+    @Test
+    @DisplayName("예산 경계 탐색: 대규모 카탈로그에서도 첫 달 사료가 단일 추천 1순위와 동일 (동점은 카탈로그 순서)")
+    void firstMonth_matchesRecommendOnLargeCatalog() {
+        recommendService.replaceCatalog(SyntheticCatalog.generate(20_000, 11L));
+
+        for (String policy : new String[]{null, "priciest"}) {
+            for (int budget : new int[]{15_000, 40_000, 90_000, 250_000}) {
+                for (int ageMonths : new int[]{5, 36, 100}) {
+                    MealPlanRequest plan = request(4.0, ageMonths, null, 1, budget);
+                    plan.setScoringPolicy(policy);
+                    FoodRecommendation planned = service.plan(plan).getSteps().get(0).getRecommendation();
+
+                    RecommendRequest single = new RecommendRequest();
+                    single.setWeightKg(4.0);
+                    single.setAgeMonths(ageMonths);
+                    single.setGender("MALE");
+                    single.setNeutered(true);
+                    single.setMonthlyBudget(budget);
+                    single.setScoringPolicy(policy);
+                    List<FoodRecommendation> recommended = recommendService.recommend(single).getRecommendations();
+
+                    if (recommended.isEmpty()) {
+                        assertThat(planned).isNull();
+                    } else {
+                        assertThat(planned.getFoodId()).as("%s, 예산 %d, %d개월", policy, budget, ageMonths)
+                                .isEqualTo(recommended.get(0).getFoodId());
+                        assertThat(planned.getMonthlyCost()).isEqualTo(recommended.get(0).getMonthlyCost());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("사료 유지 허용 차이는 정책 점수 단위: 점수·허용 차이를 100배 한 정책도 같은 월별 사료")
+    void switchMargin_followsPolicyScale() {
+        MealPlanRequest scaled = request(7.0, 48, 5.5, 24, 300000);
+        scaled.setScoringPolicy("scaled-x100");
+
+        MealPlanResponse expected = service.plan(request(7.0, 48, 5.5, 24, 300000));
+        MealPlanResponse actual = service.plan(scaled);
+
+        assertThat(actual.getSteps()).extracting(step -> step.getRecommendation().getFoodName())
+                .containsExactlyElementsOf(expected.getSteps().stream()
+                        .map(step -> step.getRecommendation().getFoodName()).toList());
+        assertThat(actual.getFoodChangeCount()).isEqualTo(expected.getFoodChangeCount());
+    }
+
+    private MealPlanRequest request(double weightKg, int ageMonths, Double targetWeightKg, int months, int budget) {
+        MealPlanRequest request = new MealPlanRequest();
+        request.setWeightKg(weightKg);
+        request.setAgeMonths(ageMonths);
+        request.setGender("MALE");
+        request.setNeutered(true);
+        request.setMonthlyBudget(budget);
+        request.setTargetWeightKg(targetWeightKg);
+        request.setMonths(months);
+        return request;
+    }
+}
@@ -0,0 +1,69 @@
+package com.catfood.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+/**
+ * 가격 이력 범위 조회 벤치마크 (기본 빌드에서 제외)
+ *
+ * 실행: mvn test -Pbenchmark -Dbenchmark.foods=5000 -Dbenchmark.days=365
+ *
+ * 사료 N종 × 일별 가격 D일을 봉인 세그먼트 + 메모리 세그먼트에 기록한 뒤,
+ * 전체 사료의 1년 범위 조회와 월 평균 계산 시간을 출력합니다.
+ */
+@Tag("benchmark")
+@DisplayName("가격 이력 조회 벤치마크")
+class PriceHistoryBenchmark {
+
+    private static final int FOODS = Integer.getInteger("benchmark.foods", 5000);
+    private static final int DAYS = Integer.getInteger("benchmark.days", 365);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 20);
+
+    @Test
+    @DisplayName("전체 사료 1년 범위 조회")
+    void yearRangeQuery() {
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        LocalDate end = start.plusDays(DAYS - 1);
+        PriceHistoryStore store = new PriceHistoryStore("", 100000);
+        String[] foodIds = new String[FOODS];
+        int[][] prices = new int[FOODS][];
+        for (int f = 0; f < FOODS; f++) {
+            foodIds[f] = "food-" + f;
+            prices[f] = PriceHistoryStoreTest.randomWalk(DAYS, f);
+        }
+        for (int d = 0; d < DAYS; d++) {
+            LocalDate date = start.plusDays(d);
+            for (int f = 0; f < FOODS; f++) {
+                store.record(foodIds[f], date, prices[f][d]);
+            }
+        }
+
+        long checksum = 0;
+        for (int i = 0; i < 3; i++) {
+            checksum += queryAll(store, foodIds, start, end);
+        }
+        long began = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            checksum += queryAll(store, foodIds, start, end);
+        }
+        double ms = (System.nanoTime() - began) / 1_000_000.0 / ITERATIONS;
+
+        System.out.printf("%n사료 %,d종 × %d일 (세그먼트 %d개): 전체 범위 조회 + 월 평균 %.2fms (checksum %d)%n",
+                FOODS, DAYS, store.segmentCount(), ms, checksum);
+    }
+
+    private long queryAll(PriceHistoryStore store, String[] foodIds, LocalDate start, LocalDate end) {
+        long sum = 0;
+        int from = (int) start.toEpochDay();
+        for (String foodId : foodIds) {
+            PriceHistoryStore.PricePoints points = store.range(foodId, start, end);
+            for (int month = 0; month < 12; month++) {
+                sum += (long) points.averagePrice(from + month * 30, from + month * 30 + 29, 0);
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,244 @@
+package com.catfood.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PriceHistoryStore 테스트")
+class PriceHistoryStoreTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    @Test
+    @DisplayName("메모리·봉인 세그먼트에 걸친 범위 조회: 시작 시점 유효 가격 포함, 원본과 동일")
+    void range_acrossSegments_matchesRecordedPoints() {
+        PriceHistoryStore store = new PriceHistoryStore("", 150);
+        int[] prices = randomWalk(365, 7L);
+        for (int i = 0; i < prices.length; i++) {
+            store.record("rc-indoor", START.plusDays(i), prices[i]);
+        }
+        assertThat(store.segmentCount()).isEqualTo(2);
+
+        PriceHistoryStore.PricePoints points = store.range("rc-indoor", START.plusDays(100), START.plusDays(299));
+
+        assertThat(points.size()).isEqualTo(200);
+        for (int i = 0; i < points.size(); i++) {
+            assertThat(points.day(i)).isEqualTo((int) START.plusDays(100 + i).toEpochDay());
+            assertThat(points.price(i)).isEqualTo(prices[100 + i]);
+        }
+    }
+
+    @Test
+    @DisplayName("드문 포인트: 구간 시작 전 마지막 가격이 구간 가격으로 유지됨")
+    void range_sparsePoints_carriesPriceIntoRange() {
+        PriceHistoryStore store = new PriceHistoryStore("", 100000);
+        store.record("hiq-adult", START, 45000);
+        store.record("hiq-adult", START.plusDays(20), 47000);
+
+        PriceHistoryStore.PricePoints points = store.range("hiq-adult", START.plusDays(10), START.plusDays(19));
+
+        assertThat(points.size()).isEqualTo(1);
+        assertThat(points.price(0)).isEqualTo(45000);
+        int from = (int) START.plusDays(10).toEpochDay();
+        assertThat(points.averagePrice(from, from + 9, 0)).isEqualTo(45000.0);
+        assertThat(store.range("hiq-adult", START.plusDays(10), START.plusDays(29))
+                .averagePrice(from, from + 19, 0)).isEqualTo(46000.0);
+    }
+
+    @Test
+    @DisplayName("세그먼트 파일 기록 후 재기동 시 복원")
+    void dataDir_segmentsSurviveRestart(@TempDir Path dataDir) {
+        PriceHistoryStore store = new PriceHistoryStore(dataDir.toString(), 100);
+        int[] prices = randomWalk(250, 11L);
+        for (int i = 0; i < prices.length; i++) {
+            store.record("ziwi-adult", START.plusDays(i), prices[i]);
+        }
+        store.close();
+
+        PriceHistoryStore reopened = new PriceHistoryStore(dataDir.toString(), 100);
+        PriceHistoryStore.PricePoints points = reopened.range("ziwi-adult", START, START.plusDays(249));
+
+        assertThat(reopened.segmentCount()).isEqualTo(3);
+        assertThat(reopened.lastRecordedDate("ziwi-adult")).isEqualTo(START.plusDays(249));
+        assertThat(points.size()).isEqualTo(250);
+        for (int i = 0; i < points.size(); i++) {
+            assertThat(points.price(i)).isEqualTo(prices[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("세그먼트 병합: 최대 개수 초과 시 사료별로 합쳐 파일 하나로 줄이고, 재기동 후에도 포인트 동일")
+    void compaction_mergesSegmentsPerFood(@TempDir Path dataDir) throws Exception {
+        PriceHistoryStore store = new PriceHistoryStore(dataDir.toString(), 50, 3);
+        int[] indoor = randomWalk(200, 3L);
+        int[] adult = randomWalk(200, 4L);
+        for (int i = 0; i < 200; i++) {
+            store.record("rc-indoor", START.plusDays(i), indoor[i]);
+            store.record("mb-adult", START.plusDays(i), adult[i]);
+        }
+        store.close();
+
+        // 50포인트마다 봉인 (8회) → 4·7번째 봉인에서 병합, 병합본 1개 + 이후 봉인 1개
+        assertThat(store.segmentCount()).isEqualTo(2);
+        try (Stream<Path> files = Files.list(dataDir)) {
+            assertThat(files.filter(file -> file.toString().endsWith(".seg")).count())
+                    .isEqualTo(store.segmentCount());
+        }
+
+        PriceHistoryStore reopened = new PriceHistoryStore(dataDir.toString(), 50, 3);
+        assertThat(reopened.segmentCount()).isEqualTo(store.segmentCount());
+        assertThat(reopened.lastRecordedDate("rc-indoor")).isEqualTo(START.plusDays(199));
+        PriceHistoryStore.PricePoints indoorPoints = reopened.range("rc-indoor", START, START.plusDays(199));
+        PriceHistoryStore.PricePoints adultPoints = reopened.range("mb-adult", START, START.plusDays(199));
+        assertThat(indoorPoints.size()).isEqualTo(200);
+        assertThat(adultPoints.size()).isEqualTo(200);
+        for (int i = 0; i < 200; i++) {
+            assertThat(indoorPoints.day(i)).isEqualTo((int) START.plusDays(i).toEpochDay());
+            assertThat(indoorPoints.price(i)).isEqualTo(indoor[i]);
+            assertThat(adultPoints.price(i)).isEqualTo(adult[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("세그먼트 병합 중단 복구: 병합 파일에 포함된 이전 파일이 남아 있으면 기동 시 건너뛰고 삭제")
+    void compaction_leftoverFilesSkippedOnLoad(@TempDir Path dataDir, @TempDir Path backup) throws Exception {
+        PriceHistoryStore store = new PriceHistoryStore(dataDir.toString(), 10, 2);
+        int[] prices = randomWalk(30, 5L);
+        for (int i = 0; i < 20; i++) {
+            store.record("rc-indoor", START.plusDays(i), prices[i]);
+        }
+        for (String name : List.of("prices-000001.seg", "prices-000002.seg")) {
+            Files.copy(dataDir.resolve(name), backup.resolve(name));
+        }
+        for (int i = 20; i < 30; i++) {
+            store.record("rc-indoor", START.plusDays(i), prices[i]);
+        }
+        assertThat(dataDir.resolve("prices-000001.seg")).doesNotExist();
+
+        // 병합 파일(#3)을 기록한 뒤 이전 파일 삭제 전에 중단된 상태를 재현
+        for (String name : List.of("prices-000001.seg", "prices-000002.seg")) {
+            Files.copy(backup.resolve(name), dataDir.resolve(name));
+        }
+
+        PriceHistoryStore reopened = new PriceHistoryStore(dataDir.toString(), 10, 2);
+        PriceHistoryStore.PricePoints points = reopened.range("rc-indoor", START, START.plusDays(29));
+
+        assertThat(reopened.segmentCount()).isEqualTo(1);
+        assertThat(dataDir.resolve("prices-000001.seg")).doesNotExist();
+        assertThat(points.size()).isEqualTo(30);
+        for (int i = 0; i < 30; i++) {
+            assertThat(points.price(i)).isEqualTo(prices[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("최대 세그먼트 수가 0 이하면 설정 이름과 함께 거부")
+    void nonPositiveMaxSegments_rejected() {
+        assertThatThrownBy(() -> new PriceHistoryStore("", 100, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("catfood.prices.max-segments");
+    }
+
+    @Test
+    @DisplayName("봉인 포인트 수가 0 이하면 설정 이름과 함께 거부")
+    void nonPositiveFlushThreshold_rejected() {
+        assertThatThrownBy(() -> new PriceHistoryStore("", 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("catfood.prices.flush-threshold");
+        assertThatThrownBy(() -> new PriceHistoryStore("", -1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("catfood.prices.flush-threshold");
+    }
+
+    @Test
+    @DisplayName("마지막 기록일 이전 날짜 추가는 IllegalArgumentException")
+    void record_outOfOrder_throws() {
+        PriceHistoryStore store = new PriceHistoryStore("", 100000);
+        store.record("mb-adult", START.plusDays(5), 35000);
+
+        assertThatThrownBy(() -> store.record("mb-adult", START.plusDays(5), 36000))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> store.record("mb-adult", START, 36000))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("일괄 추가: 하나라도 날짜가 맞지 않으면 아무것도 추가하지 않음")
+    void recordAll_conflict_addsNothing() {
+        PriceHistoryStore store = new PriceHistoryStore("", 2);
+        store.record("mb-adult", START.plusDays(10), 35000);
+
+        assertThatThrownBy(() -> store.recordAll(List.of(
+                new PriceHistoryStore.PriceRecord("rc-indoor", START, 61000),
+                new PriceHistoryStore.PriceRecord("rc-indoor", START.plusDays(1), 62000),
+                new PriceHistoryStore.PriceRecord("mb-adult", START.plusDays(5), 36000))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("mb-adult");
+
+        assertThat(store.lastRecordedDate("rc-indoor")).isNull();
+        assertThat(store.lastRecordedDate("mb-adult")).isEqualTo(START.plusDays(10));
+        assertThat(store.segmentCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시 일괄 추가: 같은 사료·날짜를 기록하는 요청 중 하나만 전부 저장")
+    void recordAll_concurrentBatches_allOrNothing() throws Exception {
+        PriceHistoryStore store = new PriceHistoryStore("", 100000);
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            String own = "food-" + t;
+            results.add(pool.submit(() -> {
+                start.await();
+                try {
+                    store.recordAll(List.of(
+                            new PriceHistoryStore.PriceRecord(own, START, 10000),
+                            new PriceHistoryStore.PriceRecord("shared", START, 20000)));
+                    return true;
+                } catch (IllegalArgumentException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+
+        int succeeded = 0;
+        for (int t = 0; t < threads; t++) {
+            boolean ok = results.get(t).get();
+            succeeded += ok ? 1 : 0;
+            assertThat(store.lastRecordedDate("food-" + t)).isEqualTo(ok ? START : null);
+        }
+        pool.shutdown();
+        assertThat(succeeded).isEqualTo(1);
+        assertThat(store.range("shared", START, START).size()).isEqualTo(1);
+    }
+
+    static int[] randomWalk(int days, long seed) {
+        Random random = new Random(seed);
+        int[] prices = new int[days];
+        int price = 50000;
+        for (int i = 0; i < days; i++) {
+            price = Math.max(1000, price + random.nextInt(2001) - 1000);
+            if (random.nextInt(50) == 0) price += 20000;
+            prices[i] = price;
+        }
+        return prices;
+    }
+}
@@ -0,0 +1,151 @@
+package com.catfood.service;
+
+import com.catfood.dto.CostProjectionRequest;
+import com.catfood.dto.CostProjectionResponse;
+import com.catfood.dto.FoodCostProjection;
+import com.catfood.dto.MonthlyCostPoint;
+import com.catfood.dto.PriceUpdate;
+import com.catfood.dto.PriceUpdateRequest;
+import com.catfood.model.CatFood;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PriceProjectionService 테스트")
+class PriceProjectionServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 6, 15);
+
+    private CatFoodRecommendService recommendService;
+    private PriceHistoryStore priceStore;
+    private PriceProjectionService service;
+
+    @BeforeEach
+    void setUp() {
+        recommendService = new CatFoodRecommendService(new CalorieCalculationService());
+        priceStore = new PriceHistoryStore("", 100000);
+        Clock clock = Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        service = new PriceProjectionService(recommendService, priceStore, clock);
+    }
+
+    @Test
+    @DisplayName("가격 기록이 없으면 전 기간 카탈로그 가격 기준 월 비용 유지")
+    void noHistory_flatCatalogPrice() {
+        CostProjectionResponse response = service.project(request(3, 3, null));
+
+        assertThat(response.getFromMonth()).isEqualTo("2026-03");
+        assertThat(response.getToMonth()).isEqualTo("2026-09");
+        assertThat(response.getFoods()).hasSize(5);
+        for (FoodCostProjection food : response.getFoods()) {
+            CatFood catalogFood = find(food.getFoodId());
+            assertThat(food.getMonths()).hasSize(7)
+                    .allSatisfy(month -> assertThat(month.getAveragePricePerKg()).isEqualTo(catalogFood.getPricePerKg()));
+            assertThat(food.getPriceTrendPerMonth()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("일별 가격 상승 이력: 과거 월 평균 반영, 미래 월은 상승 추세로 예측")
+    void risingHistory_projectsUpwardTrend() {
+        String foodId = service.project(request(0, 0, null)).getFoods().get(0).getFoodId();
+        List<PriceUpdate> prices = new ArrayList<>();
+        for (LocalDate date = TODAY.minusDays(179); !date.isAfter(TODAY); date = date.plusDays(1)) {
+            prices.add(new PriceUpdate(foodId, date, 40000 + (int) (TODAY.toEpochDay() - 179 - date.toEpochDay()) * -100));
+        }
+        PriceUpdateRequest update = new PriceUpdateRequest();
+        update.setPrices(prices);
+        service.recordPrices(update);
+
+        FoodCostProjection food = service.project(request(3, 3, null)).getFoods().stream()
+                .filter(f -> f.getFoodId().equals(foodId)).findFirst().orElseThrow();
+        List<MonthlyCostPoint> months = food.getMonths();
+
+        assertThat(food.getCurrentPricePerKg()).isEqualTo(40000 + 179 * 100);
+        assertThat(food.getPriceTrendPerMonth()).isEqualTo(3000);
+        for (int i = 1; i < months.size(); i++) {
+            assertThat(months.get(i).getAveragePricePerKg()).isGreaterThan(months.get(i - 1).getAveragePricePerKg());
+        }
+        assertThat(months.get(3).isProjected()).isFalse();
+        assertThat(months.get(4).isProjected()).isTrue();
+    }
+
+    @Test
+    @DisplayName("첫 기록 이전 날짜는 첫 기록 가격이 아니라 카탈로그 가격으로 월 평균 계산")
+    void daysBeforeFirstRecord_useCatalogPrice() {
+        String foodId = service.project(request(0, 0, null)).getFoods().get(0).getFoodId();
+        int catalogPrice = find(foodId).getPricePerKg();
+        int recordedPrice = catalogPrice * 2;
+        List<PriceUpdate> prices = new ArrayList<>();
+        for (LocalDate date = TODAY.minusDays(9); !date.isAfter(TODAY); date = date.plusDays(1)) {
+            prices.add(new PriceUpdate(foodId, date, recordedPrice));
+        }
+        PriceUpdateRequest update = new PriceUpdateRequest();
+        update.setPrices(prices);
+        service.recordPrices(update);
+
+        FoodCostProjection food = service.project(request(3, 1, null)).getFoods().stream()
+                .filter(f -> f.getFoodId().equals(foodId)).findFirst().orElseThrow();
+        List<MonthlyCostPoint> months = food.getMonths();
+
+        // 2026-03 ~ 05 는 기록 이전, 6월은 1~5일 카탈로그 가격 + 6~30일 기록 가격
+        assertThat(months.subList(0, 3))
+                .allSatisfy(month -> assertThat(month.getAveragePricePerKg()).isEqualTo(catalogPrice));
+        assertThat(months.get(3).getAveragePricePerKg())
+                .isEqualTo((int) Math.round((5.0 * catalogPrice + 25.0 * recordedPrice) / 30));
+        assertThat(food.getCurrentPricePerKg()).isEqualTo(recordedPrice);
+        assertThat(food.getPriceTrendPerMonth()).isZero();
+        assertThat(months.get(4).getAveragePricePerKg()).isEqualTo(recordedPrice);
+    }
+
+    @Test
+    @DisplayName("가정 가격 변동률은 미래 월에만 적용")
+    void priceChangePercent_appliesToFutureMonths() {
+        CostProjectionResponse base = service.project(request(1, 2, null));
+        CostProjectionResponse raised = service.project(request(1, 2, 20.0));
+
+        List<MonthlyCostPoint> baseMonths = base.getFoods().get(0).getMonths();
+        List<MonthlyCostPoint> raisedMonths = raised.getFoods().get(0).getMonths();
+        assertThat(raisedMonths.get(1).getAveragePricePerKg()).isEqualTo(baseMonths.get(1).getAveragePricePerKg());
+        assertThat(raisedMonths.get(3).getAveragePricePerKg())
+                .isEqualTo((int) Math.round(baseMonths.get(3).getAveragePricePerKg() * 1.2));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사료 id 가격 기록은 IllegalArgumentException (일부만 기록되지 않음)")
+    void recordPrices_unknownFood_throws() {
+        PriceUpdateRequest update = new PriceUpdateRequest();
+        update.setPrices(List.of(
+                new PriceUpdate("rc-indoor", TODAY, 61000),
+                new PriceUpdate("unknown-food", TODAY, 10000)));
+
+        assertThatThrownBy(() -> service.recordPrices(update)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(priceStore.lastRecordedDate("rc-indoor")).isNull();
+    }
+
+    private CatFood find(String foodId) {
+        return recommendService.getCatalog().stream()
+                .filter(food -> food.getId().equals(foodId)).findFirst().orElseThrow();
+    }
+
+    private CostProjectionRequest request(int pastMonths, int futureMonths, Double priceChangePercent) {
+        CostProjectionRequest request = new CostProjectionRequest();
+        request.setWeightKg(4.0);
+        request.setAgeMonths(36);
+        request.setGender("MALE");
+        request.setNeutered(true);
+        request.setMonthlyBudget(150000);
+        request.setPastMonths(pastMonths);
+        request.setFutureMonths(futureMonths);
+        request.setPriceChangePercent(priceChangePercent);
+        return request;
+    }
+}
@@ -0,0 +1,207 @@
+package com.catfood.service;
+
+import com.catfood.dto.ReasonRule;
+import com.catfood.dto.RecommendRequest;
+import com.catfood.dto.ScoringPolicyDefinition;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 클라이언트 추천 엔진(static/js/recommend-engine.js)과 서버 추천 결과의 일치 여부 검증
+ *
+ * 같은 스냅샷·요청을 Node 로 실행한 결과와 CatFoodRecommendService 결과를 필드 단위로 비교합니다.
+ * 정수·문자열은 정확히 일치해야 하며, 실수는 Math.pow 구현 차이(1ulp)만 허용합니다.
+ * node 실행 파일이 없으면 건너뜁니다. (경로 지정: -Dparity.node=/path/to/node)
+ */
+@DisplayName("클라이언트 추천 엔진 패리티 테스트")
+class RecommendEngineParityTest {
+
+    private static final String NODE = System.getProperty("parity.node", "node");
+    private static final Path ENGINE = Path.of("src/main/resources/static/js/recommend-engine.js");
+    private static final Path RUNNER = Path.of("src/test/js/parity-runner.js");
+    private static final double RELATIVE_TOLERANCE = 1e-12;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void requireNode() {
+        assumeTrue(nodeAvailable(), "node 실행 파일이 없어 패리티 테스트를 건너뜁니다");
+    }
+
+    @Test
+    @DisplayName("기본 카탈로그: 생애 단계 경계·예시 입력 + 무작위 500건이 서버와 일치")
+    void defaultCatalog_matchesServer() throws Exception {
+        CatFoodRecommendService service = new CatFoodRecommendService(new CalorieCalculationService());
+
+        List<RecommendRequest> cases = new ArrayList<>();
+        for (int ageMonths : new int[]{1, 3, 4, 11, 12, 83, 84, 300}) {
+            for (String gender : new String[]{"MALE", "FEMALE"}) {
+                cases.add(request(4.0, ageMonths, gender, true, 80000));
+                cases.add(request(4.0, ageMonths, gender, false, 80000));
+            }
+        }
+        cases.add(request(4.0, 36, "MALE", true, 50000));
+        cases.add(request(1.5, 5, "FEMALE", false, 30000));
+        cases.add(request(5.0, 120, "FEMALE", true, 70000));
+        cases.add(request(20.0, 36, "MALE", false, 1000));
+        cases.addAll(randomCases(500, 20240601L));
+
+        assertParity(service, cases);
+    }
+
+    @Test
+    @DisplayName("합성 카탈로그 3,000개 (동점 다수): 무작위 200건이 순위까지 서버와 일치")
+    void syntheticCatalog_matchesServerIncludingTies() throws Exception {
+        CatFoodRecommendService service = new CatFoodRecommendService(new CalorieCalculationService());
+        service.replaceCatalog(SyntheticCatalog.generate(3000, 42L));
+
+        assertParity(service, randomCases(200, 7L));
+    }
+
+    @Test
+    @DisplayName("점수 정책: budget-first·사용자 정의 정책(삼항·문자열·함수·소수 표시) 결과가 서버와 일치")
+    void scoringPolicies_matchServer() throws Exception {
+        ScoringPolicyService policyService = ScoringPolicyService.builtIn();
+        policyService.put("custom", new ScoringPolicyDefinition(
+                "단백질·지방 가중, 습식 가산점",
+                "(type == 'WET' ? 5 : 0) + max(proteinPercent - 30, 0) * 1.5 - abs(fatPercent - 15) * 0.3"
+                        + " + floor(budgetRemainingPercent / 10)",
+                List.of(
+                        new ReasonRule("!(lifeStage == 'ADULT') || neutered", "지방 {fatPercent}% · 월 {monthlyCost / 1000}천원"),
+                        new ReasonRule("min(weightKg, 5) >= 4 && gender != 'FEMALE'", "체중 {weightKg}kg 기준 {dailyCalories}kcal")),
+                "기본 정책 대체", null, null));
+        CatFoodRecommendService service = new CatFoodRecommendService(new CalorieCalculationService(), policyService);
+        service.replaceCatalog(SyntheticCatalog.generate(3000, 42L));
+
+        List<RecommendRequest> cases = new ArrayList<>();
+        for (RecommendRequest request : randomCases(150, 11L)) {
+            request.setScoringPolicy("budget-first");
+            cases.add(request);
+        }
+        for (RecommendRequest request : randomCases(150, 13L)) {
+            request.setScoringPolicy("custom");
+            cases.add(request);
+        }
+
+        assertParity(service, cases);
+    }
+
+    private void assertParity(CatFoodRecommendService service, List<RecommendRequest> cases) throws Exception {
+        CatalogSnapshotService snapshotService = new CatalogSnapshotService(service, objectMapper);
+        ObjectNode input = objectMapper.createObjectNode();
+        input.set("snapshot", objectMapper.readTree(snapshotService.current().json()));
+        input.set("cases", objectMapper.valueToTree(cases));
+        Path inputFile = tempDir.resolve("parity-input.json");
+        objectMapper.writeValue(inputFile.toFile(), input);
+
+        JsonNode actual = runNode(inputFile);
+        assertThat(actual.size()).isEqualTo(cases.size());
+
+        List<String> mismatches = new ArrayList<>();
+        for (int i = 0; i < cases.size(); i++) {
+            JsonNode expected = objectMapper.valueToTree(service.recommend(cases.get(i)));
+            compare("case[" + i + "]", expected, actual.get(i), mismatches);
+        }
+        assertThat(mismatches).as("서버와 다른 필드").isEmpty();
+    }
+
+    private JsonNode runNode(Path inputFile) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(NODE, RUNNER.toString(), ENGINE.toString(), inputFile.toString())
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        byte[] output = process.getInputStream().readAllBytes();
+        assertThat(process.waitFor(60, TimeUnit.SECONDS)).as("node 실행 시간 초과").isTrue();
+        assertThat(process.exitValue()).as("node 종료 코드").isZero();
+        return objectMapper.readTree(output);
+    }
+
+    private static void compare(String path, JsonNode expected, JsonNode actual, List<String> mismatches) {
+        if (actual == null) {
+            mismatches.add(path + ": 누락");
+        } else if (expected.isNumber() && actual.isNumber()) {
+            double a = expected.asDouble();
+            double b = actual.asDouble();
+            boolean integral = expected.isIntegralNumber();
+            if (integral ? a != b : Math.abs(a - b) > RELATIVE_TOLERANCE * Math.max(1.0, Math.abs(a))) {
+                mismatches.add(path + ": " + expected + " != " + actual);
+            }
+        } else if (expected.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = expected.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                compare(path + "." + field.getKey(), field.getValue(), actual.get(field.getKey()), mismatches);
+            }
+        } else if (expected.isArray()) {
+            if (expected.size() != actual.size()) {
+                mismatches.add(path + ": 길이 " + expected.size() + " != " + actual.size());
+                return;
+            }
+            for (int i = 0; i < expected.size(); i++) {
+                compare(path + "[" + i + "]", expected.get(i), actual.get(i), mismatches);
+            }
+        } else if (!expected.equals(actual)) {
+            mismatches.add(path + ": " + expected + " != " + actual);
+        }
+    }
+
+    /**
+     * 화면 입력 범위 내 무작위 요청 (체중은 소수 둘째 자리까지, 예산은 1,000원 단위)
+     */
+    private static List<RecommendRequest> randomCases(int count, long seed) {
+        Random random = new Random(seed);
+        List<RecommendRequest> cases = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double weightKg = (10 + random.nextInt(1200)) / 100.0;
+            int ageMonths = 1 + random.nextInt(240);
+            String gender = random.nextBoolean() ? "MALE" : "FEMALE";
+            int monthlyBudget = (5 + random.nextInt(300)) * 1000;
+            cases.add(request(weightKg, ageMonths, gender, random.nextBoolean(), monthlyBudget));
+        }
+        return cases;
+    }
+
+    private static RecommendRequest request(double weightKg, int ageMonths, String gender,
+                                            boolean neutered, int monthlyBudget) {
+        RecommendRequest request = new RecommendRequest();
+        request.setWeightKg(weightKg);
+        request.setAgeMonths(ageMonths);
+        request.setGender(gender);
+        request.setNeutered(neutered);
+        request.setMonthlyBudget(monthlyBudget);
+        return request;
+    }
+
+    private static boolean nodeAvailable() {
+        try {
+            Process process = new ProcessBuilder(NODE, "--version").redirectErrorStream(true).start();
+            process.getInputStream().readAllBytes();
+            return process.waitFor(10, TimeUnit.SECONDS) && process.exitValue() == 0;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
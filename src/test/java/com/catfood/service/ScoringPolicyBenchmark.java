@@ -0,0 +1,279 @@
+package com.catfood.service;
+
+import com.catfood.dto.FoodRecommendation;
+import com.catfood.model.CatFood;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 컴파일된 점수 정책 vs 하드코딩 점수 식 벤치마크 (기본 빌드에서 제외)
+ *
+ * 실행: mvn test -Pbenchmark -Dtest=ScoringPolicyBenchmark
+ *
+ * 두 방식을 번갈아 실행하여 요청당 시간의 중앙값을 비교합니다.
+ *   - 샤드 스캔 (카탈로그 1,000,000개, 단일 스레드)
+ *       hardcoded: 점수 정책 도입 전 CatalogIndex 샤드 스캔과 같은 루프
+ *       compiled : 기본 정책의 특화 스캔 루프 (ScoringPolicy.scanner)
+ *   - 순차 경로 (병렬 임계값 미만 카탈로그: 내장 카탈로그, 합성 50,000개)
+ *       hardcoded: 점수 정책 도입 전 CatFoodRecommendService.recommend 의 순차 경로
+ *                  (CatFood 목록 순회, 후보마다 추천 객체 생성 후 정렬)
+ *       compiled : 현재 순차 경로 (CatalogIndex.scan + 상위 N개 추천 객체 생성)
+ * 특화 루프의 JIT 프로파일이 작은 카탈로그 기준으로 먼저 굳지 않도록 샤드 스캔을 먼저 측정합니다.
+ * 두 방식의 결과(상위 N개·후보 수·추천 이유)가 같아야 하며,
+ * 컴파일 방식이 허용 배율(benchmark.maxSlowdown)보다 느리면 실패합니다.
+ */
+@Tag("benchmark")
+@DisplayName("점수 정책 벤치마크")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ScoringPolicyBenchmark {
+
+    private static final int CATALOG_SIZE = Integer.getInteger("benchmark.catalogSize", 1_000_000);
+    private static final int SEQUENTIAL_CATALOG_SIZE = Integer.getInteger("benchmark.sequentialCatalogSize", 50_000);
+    private static final long WARMUP_MILLIS = Long.getLong("benchmark.warmupMillis", 3_000L);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 200);
+    private static final double MAX_SLOWDOWN = Double.parseDouble(System.getProperty("benchmark.maxSlowdown", "1.05"));
+
+    /**
+     * 측정 1회가 이 시간보다 짧으면 같은 요청을 반복하여 한 표본으로 측정 (타이머 해상도 보정)
+     */
+    private static final long MIN_SAMPLE_NANOS = 1_000_000L;
+
+    private static final int TOP_N = CatFoodRecommendService.TOP_N;
+
+    private final CalorieCalculationService calorieService = new CalorieCalculationService();
+    private final CatFoodRecommendService recommendService = new CatFoodRecommendService(calorieService);
+    /**
+     * 운영과 같이 정책 인스턴스(특화 스캔 루프) 하나를 모든 측정에서 공유
+     */
+    private static final ScoringPolicy POLICY = ScoringPolicyService.builtIn().defaultPolicy();
+
+    // 성체 4kg, 키튼 2kg, 노령묘 5kg
+    private final ScoringContext[] requests = {
+            request(4.0, 36, 150_000),
+            request(2.0, 6, 80_000),
+            request(5.0, 120, 200_000),
+    };
+
+    @Test
+    @Order(1)
+    @DisplayName("샤드 스캔: 기본 정책이 하드코딩 식 대비 회귀 없음")
+    void shardScan_noRegression() {
+        assertThat(POLICY.scanner().specialized()).as("점수 식이 스캔 루프에 인라인되어야 함").isTrue();
+        CatalogIndex index = CatalogIndex.build(SyntheticCatalog.generate(CATALOG_SIZE, 42L),
+                CatalogIndex.DEFAULT_SHARD_SIZE, recommendService::isAgeAppropriate);
+
+        for (ScoringContext request : requests) {
+            CatalogIndex.TopK expected = hardcodedScan(index, request);
+            CatalogIndex.TopK actual = index.scan(POLICY, request, request.lifeStage, TOP_N);
+            assertThat(actual.candidateCount()).isEqualTo(expected.candidateCount());
+            assertThat(indices(actual)).isEqualTo(indices(expected));
+        }
+
+        int[] round = {0};
+        compare(String.format("샤드 스캔 (카탈로그 %,d개, 단일 스레드)", CATALOG_SIZE),
+                () -> (int) hardcodedScan(index, requests[round[0]++ % requests.length]).candidateCount(),
+                () -> {
+                    ScoringContext request = requests[round[0]++ % requests.length];
+                    return (int) index.scan(POLICY, request, request.lifeStage, TOP_N).candidateCount();
+                });
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("순차 경로: 내장 카탈로그·합성 카탈로그에서 정책 도입 전 경로 대비 회귀 없음")
+    void sequentialPath_noRegression() {
+        compareSequential("내장 카탈로그", recommendService.getCatalog());
+        compareSequential(String.format("합성 카탈로그 %,d개", SEQUENTIAL_CATALOG_SIZE),
+                SyntheticCatalog.generate(SEQUENTIAL_CATALOG_SIZE, 42L));
+    }
+
+    private void compareSequential(String label, List<CatFood> catalog) {
+        CatalogIndex index = CatalogIndex.build(catalog, CatalogIndex.DEFAULT_SHARD_SIZE,
+                recommendService::isAgeAppropriate);
+
+        for (ScoringContext request : requests) {
+            List<FoodRecommendation> expected = hardcodedSequential(catalog, request);
+            List<FoodRecommendation> actual = compiledSequential(index, request);
+            assertThat(actual).extracting(FoodRecommendation::getFoodId)
+                    .containsExactlyElementsOf(expected.stream().map(FoodRecommendation::getFoodId).toList());
+            assertThat(actual).extracting(FoodRecommendation::getReason)
+                    .containsExactlyElementsOf(expected.stream().map(FoodRecommendation::getReason).toList());
+        }
+
+        int[] round = {0};
+        compare("순차 경로 (" + label + ")",
+                () -> hardcodedSequential(catalog, requests[round[0]++ % requests.length]).size(),
+                () -> compiledSequential(index, requests[round[0]++ % requests.length]).size());
+    }
+
+    /**
+     * 두 방식을 번갈아 측정하여 중앙값을 출력하고 허용 배율을 검사합니다.
+     */
+    private static void compare(String label, IntSupplier hardcoded, IntSupplier compiled) {
+        // 요청이 짧아도 JIT 컴파일이 끝나도록 횟수가 아닌 시간으로 예열
+        long warmupEnd = System.nanoTime() + WARMUP_MILLIS * 1_000_000L;
+        while (System.nanoTime() < warmupEnd) {
+            hardcoded.getAsInt();
+            compiled.getAsInt();
+        }
+        int repeat = repeatFor(hardcoded);
+
+        long[] hardcodedNanos = new long[ITERATIONS];
+        long[] compiledNanos = new long[ITERATIONS];
+        long sink = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            for (int r = 0; r < repeat; r++) sink += hardcoded.getAsInt();
+            hardcodedNanos[i] = (System.nanoTime() - start) / repeat;
+
+            start = System.nanoTime();
+            for (int r = 0; r < repeat; r++) sink += compiled.getAsInt();
+            compiledNanos[i] = (System.nanoTime() - start) / repeat;
+        }
+
+        double hardcodedMs = median(hardcodedNanos) / 1e6;
+        double compiledMs = median(compiledNanos) / 1e6;
+        System.out.printf("%n%s, 표본 %d회 x %d (checksum %d)%n", label, ITERATIONS, repeat, sink);
+        System.out.printf("%-12s %16s %8s%n", "mode", "median ms/req", "ratio");
+        System.out.printf("%-12s %16.4f %8s%n", "hardcoded", hardcodedMs, "1.00x");
+        System.out.printf("%-12s %16.4f %7.2fx%n", "compiled", compiledMs, compiledMs / hardcodedMs);
+
+        assertThat(compiledMs / hardcodedMs)
+                .as("%s: 컴파일된 정책 / 하드코딩 식 (허용 %.2fx)", label, MAX_SLOWDOWN)
+                .isLessThanOrEqualTo(MAX_SLOWDOWN);
+    }
+
+    private static int repeatFor(IntSupplier task) {
+        long start = System.nanoTime();
+        task.getAsInt();
+        long nanos = Math.max(1, System.nanoTime() - start);
+        return (int) Math.max(1, Math.min(100_000, MIN_SAMPLE_NANOS / nanos));
+    }
+
+    private static double median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private ScoringContext request(double weightKg, int ageMonths, int monthlyBudget) {
+        double dailyCalories = calorieService.calculateDailyCalories(weightKg, ageMonths, "MALE", true);
+        return new ScoringContext()
+                .cat(weightKg, ageMonths, "MALE", true, calorieService.getLifeStageKey(ageMonths), dailyCalories)
+                .budget(monthlyBudget);
+    }
+
+    private static int[] indices(CatalogIndex.TopK top) {
+        int[] indices = new int[top.size()];
+        for (int rank = 0; rank < top.size(); rank++) {
+            indices[rank] = top.index(rank);
+        }
+        return indices;
+    }
+
+    private List<FoodRecommendation> compiledSequential(CatalogIndex index, ScoringContext request) {
+        CatalogIndex.TopK top = index.scan(POLICY, request, request.lifeStage, TOP_N);
+        List<FoodRecommendation> recommendations = new ArrayList<>(top.size());
+        for (int rank = 0; rank < top.size(); rank++) {
+            recommendations.add(recommendService.toRecommendation(POLICY, request,
+                    index.foods().get(top.index(rank)), top.monthlyCost(rank)));
+        }
+        return recommendations;
+    }
+
+    /*
+     * 점수 정책 도입 전 구현 (CatalogIndex 샤드 스캔, CatFoodRecommendService 순차 경로·score·generateReason)
+     */
+
+    private static CatalogIndex.TopK hardcodedScan(CatalogIndex index, ScoringContext request) {
+        byte stageBit = stageBit(request.lifeStage);
+        double dailyCalories = request.dailyCalories;
+        int monthlyBudget = (int) request.monthlyBudget;
+        CatalogIndex.TopK result = new CatalogIndex.TopK(TOP_N);
+        for (CatalogIndex.Shard shard : index.shards) {
+            for (int i = 0; i < shard.length; i++) {
+                if ((shard.lifeStageMask[i] & stageBit) == 0) continue;
+
+                int monthlyCost = CatFoodRecommendService.monthlyCost(
+                        dailyCalories, shard.kcalPer100g[i], shard.pricePerKg[i]);
+                if (monthlyCost > monthlyBudget) continue;
+
+                result.countCandidate();
+                result.offer(shard.offset + i, monthlyCost, score(shard.proteinPercent[i], monthlyCost, monthlyBudget));
+            }
+        }
+        return result;
+    }
+
+    private List<FoodRecommendation> hardcodedSequential(List<CatFood> catalog, ScoringContext request) {
+        double dailyCalories = request.dailyCalories;
+        int monthlyBudget = (int) request.monthlyBudget;
+        List<FoodRecommendation> recommendations = new ArrayList<>();
+        for (CatFood food : catalog) {
+            if (!recommendService.isAgeAppropriate(food, request.lifeStage)) continue;
+
+            int monthlyCost = recommendService.calculateMonthlyCost(food, dailyCalories);
+            if (monthlyCost > monthlyBudget) continue;
+
+            double dailyAmountGrams = dailyCalories / food.getKcalPer100g() * 100.0;
+            FoodRecommendation rec = new FoodRecommendation();
+            rec.setFoodId(food.getId());
+            rec.setFoodName(food.getName());
+            rec.setBrand(food.getBrand());
+            rec.setType(food.getType());
+            rec.setDailyAmountGrams(Math.round(dailyAmountGrams * 10.0) / 10.0);
+            rec.setDailyCost(monthlyCost / CatFoodRecommendService.DAYS_PER_MONTH);
+            rec.setMonthlyCost(monthlyCost);
+            rec.setProteinPercent(food.getProteinPercent());
+            rec.setFatPercent(food.getFatPercent());
+            rec.setScore(score(food.getProteinPercent(), monthlyCost, monthlyBudget));
+            rec.setReason(reason(food, monthlyCost, monthlyBudget, request.lifeStage));
+            recommendations.add(rec);
+        }
+        recommendations.sort((a, b) -> Double.compare(b.getScore(), a.getScore()));
+        return recommendations.stream().limit(TOP_N).toList();
+    }
+
+    private static double score(double proteinPercent, int monthlyCost, int monthlyBudget) {
+        double budgetRemainingRatio = (double) (monthlyBudget - monthlyCost) / monthlyBudget * 100.0;
+        return proteinPercent * 0.6 + budgetRemainingRatio * 0.4;
+    }
+
+    private static String reason(CatFood food, int monthlyCost, int monthlyBudget, String lifeStageKey) {
+        List<String> reasons = new ArrayList<>();
+        if (food.getProteinPercent() >= 38) {
+            reasons.add("고단백 프리미엄 사료");
+        } else if (food.getProteinPercent() >= 33) {
+            reasons.add("균형 잡힌 단백질 함량");
+        }
+        int budgetUsagePercent = monthlyCost * 100 / monthlyBudget;
+        if (budgetUsagePercent <= 50) {
+            reasons.add("예산 절약형 (예산의 " + budgetUsagePercent + "% 사용)");
+        } else if (budgetUsagePercent <= 75) {
+            reasons.add("합리적인 가격 (예산의 " + budgetUsagePercent + "% 사용)");
+        }
+        if ("KITTEN".equals(lifeStageKey) && "KITTEN".equals(food.getLifeStage())) reasons.add("성장기 전용 영양 설계");
+        if ("SENIOR".equals(lifeStageKey) && "SENIOR".equals(food.getLifeStage())) reasons.add("노령묘 맞춤 영양 설계");
+        if ("WET".equals(food.getType())) reasons.add("수분 보충에 도움");
+        return reasons.isEmpty() ? "기본 영양 균형 충족" : String.join(", ", reasons);
+    }
+
+    private static byte stageBit(String lifeStageKey) {
+        return switch (lifeStageKey) {
+            case "KITTEN" -> 1;
+            case "ADULT" -> 2;
+            default -> 4;
+        };
+    }
+}
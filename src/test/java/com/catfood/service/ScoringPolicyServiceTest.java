@@ -0,0 +1,340 @@
+package com.catfood.service;
+
+import com.catfood.dto.ReasonRule;
+import com.catfood.dto.RecommendRequest;
+import com.catfood.dto.RecommendResponse;
+import com.catfood.dto.ScoringPolicyDefinition;
+import com.catfood.model.CatFood;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ScoringPolicyService 테스트")
+class ScoringPolicyServiceTest {
+
+    private final CalorieCalculationService calorieService = new CalorieCalculationService();
+
+    @Test
+    @DisplayName("기본 정책: 점수·추천 이유가 정책 도입 전 하드코딩 식과 동일")
+    void defaultPolicy_matchesHardcodedFormula() {
+        ScoringPolicy policy = ScoringPolicyService.builtIn().defaultPolicy();
+        List<CatFood> catalog = SyntheticCatalog.generate(5_000, 42L);
+
+        int checked = 0;
+        for (String lifeStage : new String[]{"KITTEN", "ADULT", "SENIOR"}) {
+            for (int monthlyBudget : new int[]{30_000, 80_000, 200_000}) {
+                ScoringContext context = new ScoringContext()
+                        .cat(4.0, 36, "MALE", true, lifeStage, 250.0)
+                        .budget(monthlyBudget);
+                for (CatFood food : catalog) {
+                    int monthlyCost = CatFoodRecommendService.monthlyCost(250.0, food.getKcalPer100g(), food.getPricePerKg());
+                    if (monthlyCost > monthlyBudget) continue;
+
+                    context.food(food, monthlyCost);
+                    assertThat(policy.score(context))
+                            .isEqualTo(hardcodedScore(food.getProteinPercent(), monthlyCost, monthlyBudget));
+                    assertThat(policy.reason(context))
+                            .isEqualTo(hardcodedReason(food, monthlyCost, monthlyBudget, lifeStage));
+                    checked++;
+                }
+            }
+        }
+        assertThat(checked).isGreaterThan(1_000);
+    }
+
+    @Test
+    @DisplayName("요청별 정책 선택: 지정 정책으로 점수를 매기고 응답에 정책 이름을 담음")
+    void recommend_usesRequestedPolicy() {
+        CatFoodRecommendService service = new CatFoodRecommendService(calorieService);
+
+        RecommendResponse byDefault = service.recommend(request(null));
+        RecommendResponse budgetFirst = service.recommend(request("budget-first"));
+
+        assertThat(byDefault.getScoringPolicy()).isEqualTo("default");
+        assertThat(budgetFirst.getScoringPolicy()).isEqualTo("budget-first");
+        budgetFirst.getRecommendations().forEach(rec -> assertThat(rec.getScore()).isEqualTo(
+                rec.getProteinPercent() * 0.4 + (80_000.0 - rec.getMonthlyCost()) / 80_000 * 100.0 * 0.6));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 정책 이름이면 IllegalArgumentException")
+    void recommend_unknownPolicy_throws() {
+        CatFoodRecommendService service = new CatFoodRecommendService(calorieService);
+
+        assertThatThrownBy(() -> service.recommend(request("nope")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("nope");
+    }
+
+    @ParameterizedTest(name = "{0} = {1}")
+    @CsvSource(delimiter = ';', value = {
+            "1 + 2 * 3 - 4 / 2                                  ; 5",
+            "(1 + 2) * 3                                        ; 9",
+            "-proteinPercent + 50                               ; 10",
+            "min(proteinPercent, 30) + max(fatPercent, 30)      ; 60",
+            "abs(fatPercent - 20) + floor(2.7)                  ; 7",
+            "type == 'WET' ? 1 : 2                              ; 1",
+            "foodLifeStage != 'KITTEN' && neutered ? 10 : 20    ; 10",
+            "!(weightKg > 5) || monthlyBudget / 0 > 0 ? 3 : 4   ; 3",
+            "(1 < 2) == true ? budgetRemainingPercent : 0       ; 75",
+            "budgetUsagePercent                                 ; 25",
+    })
+    @DisplayName("식 평가: 연산자 우선순위·함수·문자열 비교·삼항·파생 변수")
+    void compileNumber_evaluates(String expression, double expected) throws Throwable {
+        ScoringContext context = new ScoringContext()
+                .cat(4.0, 36, "MALE", true, "ADULT", 250.0)
+                .budget(100_000)
+                .food(40.0, 15.0, 380.0, 30_000, "WET", "ALL", 25_000);
+
+        double actual = (double) ScoringExpressionCompiler.compileNumber(expression).invokeExact(context);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("&&, || 는 단락 평가: 오른쪽 식을 평가하지 않음")
+    void condition_shortCircuits() throws Throwable {
+        ScoringContext context = new ScoringContext().budget(0).food(40.0, 15.0, 380.0, 30_000, "DRY", "ALL", 0);
+
+        // monthlyBudget 이 0 이면 오른쪽은 NaN 비교(false)이므로, 단락 평가가 아니면 결과가 바뀜
+        boolean or = (boolean) ScoringExpressionCompiler
+                .compileCondition("monthlyBudget == 0 || budgetRemainingPercent < 0").invokeExact(context);
+        boolean and = (boolean) ScoringExpressionCompiler
+                .compileCondition("monthlyBudget > 0 && monthlyCost / monthlyBudget < 1").invokeExact(context);
+
+        assertThat(or).isTrue();
+        assertThat(and).isFalse();
+    }
+
+    @Test
+    @DisplayName("문장 자리 표시자: 정수는 정수로, 실수는 소수 첫째 자리까지 HALF_UP")
+    void template_formatsNumbers() {
+        ScoringContext context = new ScoringContext()
+                .cat(4.25, 36, "MALE", true, "ADULT", 250.0)
+                .budget(100_000)
+                .food(40.0, 1.15, 380.0, 30_000, "WET", "ALL", 25_000);
+
+        String text = ScoringExpressionCompiler
+                .compileTemplate("{type} {budgetUsagePercent}% / {weightKg}kg / 지방 {fatPercent} / {neutered}")
+                .render(context);
+
+        assertThat(text).isEqualTo("WET 25% / 4.3kg / 지방 1.2 / true");
+    }
+
+    @Test
+    @DisplayName("추천 이유: 조건이 32개를 넘어도 정의 순서대로 이어 붙이고, 자리 표시자가 붙어 있어도 렌더링")
+    void reason_manyRulesInOrder() {
+        List<ReasonRule> rules = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            rules.add(new ReasonRule(i % 3 == 0 ? "true" : "false", "r" + i));
+        }
+        rules.add(new ReasonRule("type == 'WET'", "{type}{budgetUsagePercent}{'%'}"));
+        ScoringPolicy policy = ScoringPolicy.compile("many",
+                new ScoringPolicyDefinition(null, "1", rules, "없음", null, null));
+        ScoringContext context = new ScoringContext()
+                .cat(4.0, 36, "MALE", true, "ADULT", 250.0)
+                .budget(100_000)
+                .food(40.0, 15.0, 380.0, 30_000, "WET", "ALL", 25_000);
+
+        assertThat(policy.reason(context)).isEqualTo(
+                "r0, r3, r6, r9, r12, r15, r18, r21, r24, r27, r30, r33, r36, r39, WET25%");
+        assertThat(policy.reason(context.food(40.0, 15.0, 380.0, 30_000, "DRY", "ALL", 25_000)))
+                .endsWith("r39");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource(delimiter = '|', value = {
+            "proteinPercent *                | 식이 끝났습니다",
+            "proteinPercent + foo            | 알 수 없는 변수 'foo'",
+            "sqrt(proteinPercent)            | 알 수 없는 함수 'sqrt'",
+            "type + 1                        | add 의 피연산자는 숫자",
+            "proteinPercent > 30 ? type : 1  | ?: 의 두 결과 타입이 다릅니다",
+            "(proteinPercent                 | ')' 가 필요합니다",
+            "type == 'WET                    | 문자열이 닫히지 않았습니다",
+    })
+    @DisplayName("컴파일 오류: 위치·원인이 담긴 IllegalArgumentException")
+    void compileNumber_invalid_throws(String expression, String message) {
+        assertThatThrownBy(() -> ScoringExpressionCompiler.compileNumber(expression))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("번째 문자")
+                .hasMessageContaining(message);
+    }
+
+    @Test
+    @DisplayName("식 크기 제한: 길이·항 수·중첩 깊이를 넘으면 컴파일 단계에서 거부")
+    void compile_rejectsOversizedExpressions() {
+        String terms = String.join(" + ", Collections.nCopies(20_000, "proteinPercent"));
+        String manyNodes = String.join("+", Collections.nCopies(ScoringExpressionCompiler.MAX_NODES + 1, "1"));
+        String deepParens = "(".repeat(ScoringExpressionCompiler.MAX_DEPTH + 1) + "1"
+                + ")".repeat(ScoringExpressionCompiler.MAX_DEPTH + 1);
+        String deepNot = "!".repeat(ScoringExpressionCompiler.MAX_DEPTH + 1) + "true ? 1 : 0";
+
+        assertThatThrownBy(() -> ScoringExpressionCompiler.compileNumber(terms))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("너무 깁니다");
+        assertThatThrownBy(() -> ScoringExpressionCompiler.compileNumber(manyNodes))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("너무 많습니다");
+        assertThatThrownBy(() -> ScoringExpressionCompiler.compileNumber(deepParens))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("너무 깊습니다");
+        assertThatThrownBy(() -> ScoringExpressionCompiler.compileNumber(deepNot))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("너무 깊습니다");
+    }
+
+    @Test
+    @DisplayName("기본 정책은 실행 중 교체 불가")
+    void put_defaultPolicy_throws() {
+        ScoringPolicyService policyService = ScoringPolicyService.builtIn();
+        ScoringPolicy current = policyService.defaultPolicy();
+
+        assertThatThrownBy(() -> policyService.put("default", definition("fatPercent", "x")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("기본 점수 정책");
+        assertThat(policyService.defaultPolicy()).isSameAs(current);
+    }
+
+    @Test
+    @DisplayName("실행 중 교체: 새 정책은 다음 요청부터 적용되고, 컴파일 실패 시 기존 정책 유지")
+    void put_swapsPolicyAtomically() {
+        ScoringPolicyService policyService = ScoringPolicyService.builtIn();
+        CatFoodRecommendService service = new CatFoodRecommendService(calorieService, policyService);
+        Map<String, ScoringPolicy> before = policyService.policies();
+
+        policyService.put("budget-first", definition("fatPercent", "지방 위주"));
+        assertThat(policyService.policies()).isNotSameAs(before);
+        service.recommend(request("budget-first")).getRecommendations()
+                .forEach(rec -> assertThat(rec.getScore()).isEqualTo(rec.getFatPercent()));
+
+        ScoringPolicy current = policyService.get("budget-first");
+        assertThatThrownBy(() -> policyService.put("budget-first", definition("fatPercent +", "오류")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("'budget-first'");
+        assertThat(policyService.get("budget-first")).isSameAs(current);
+
+        assertThatThrownBy(() -> policyService.put("Bad Name", definition("1", "x")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("정책 수 상한: 새 이름 등록은 거부하되 교체는 허용, 삭제하면 다시 등록 가능")
+    void put_maxPolicies_rejectsNewNamesUntilRemoved() {
+        ScoringPolicyService policyService = new ScoringPolicyService(new ObjectMapper(),
+                new ClassPathResource(ScoringPolicyService.BUILT_IN_POLICIES), "default", 3);
+        policyService.put("fat-first", definition("fatPercent", "지방"));
+
+        assertThatThrownBy(() -> policyService.put("protein-only", definition("proteinPercent", "단백질")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("최대 3개");
+        assertThat(policyService.definitions()).containsOnlyKeys("default", "budget-first", "fat-first");
+
+        policyService.put("fat-first", definition("fatPercent * 2", "지방"));
+        assertThat(policyService.definitions().get("fat-first").getScore()).isEqualTo("fatPercent * 2");
+
+        assertThat(policyService.remove("fat-first")).isTrue();
+        assertThat(policyService.remove("fat-first")).isFalse();
+        policyService.put("protein-only", definition("proteinPercent", "단백질"));
+        assertThat(policyService.definitions()).containsOnlyKeys("default", "budget-first", "protein-only");
+    }
+
+    @Test
+    @DisplayName("정책 수 상한: 1 미만이거나 정책 파일 정책 수보다 작으면 기동 실패, 기본 정책은 삭제 불가")
+    void maxPolicies_invalid_throws() {
+        ClassPathResource policyFile = new ClassPathResource(ScoringPolicyService.BUILT_IN_POLICIES);
+
+        assertThatThrownBy(() -> new ScoringPolicyService(new ObjectMapper(), policyFile, "default", 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("catfood.scoring.max-policies");
+        assertThatThrownBy(() -> new ScoringPolicyService(new ObjectMapper(), policyFile, "default", 1))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("catfood.scoring.max-policies");
+        assertThatThrownBy(() -> ScoringPolicyService.builtIn().remove("default"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("기본 점수 정책");
+    }
+
+    @Test
+    @DisplayName("특화 스캔 루프(ScoringKernel) 결과가 후보별 점수 계산과 동일")
+    void scanner_matchesPerCandidateScore() {
+        ScoringPolicy policy = ScoringPolicy.compile("custom",
+                definition("(type == 'WET' ? 5 : 0) + max(proteinPercent - 30, 0) - abs(fatPercent - 15) * 0.3", "x"));
+        CatFoodRecommendService service = new CatFoodRecommendService(calorieService);
+        List<CatFood> catalog = SyntheticCatalog.generate(20_000, 7L);
+        CatalogIndex index = CatalogIndex.build(catalog, 1000, service::isAgeAppropriate);
+        ScoringContext context = new ScoringContext()
+                .cat(4.0, 36, "MALE", true, "ADULT", 250.0)
+                .budget(80_000);
+
+        CatalogIndex.TopK actual = new CatalogIndex.TopK(5);
+        for (CatalogIndex.Shard shard : index.shards) {
+            policy.scanner().scan(shard, context, (byte) 2, actual);
+        }
+
+        List<double[]> expected = new ArrayList<>();
+        for (int i = 0; i < catalog.size(); i++) {
+            CatFood food = catalog.get(i);
+            if (!service.isAgeAppropriate(food, "ADULT")) continue;
+            int monthlyCost = service.calculateMonthlyCost(food, 250.0);
+            if (monthlyCost > 80_000) continue;
+            expected.add(new double[]{i, policy.score(context.copy().food(food, monthlyCost))});
+        }
+        expected.sort((a, b) -> Double.compare(b[1], a[1]));
+
+        assertThat(actual.candidateCount()).isEqualTo(expected.size());
+        for (int rank = 0; rank < actual.size(); rank++) {
+            assertThat(actual.index(rank)).isEqualTo((int) expected.get(rank)[0]);
+        }
+    }
+
+    private static ScoringPolicyDefinition definition(String score, String fallbackReason) {
+        return new ScoringPolicyDefinition(null, score, List.of(new ReasonRule("proteinPercent >= 40", "고단백")),
+                fallbackReason, null, null);
+    }
+
+    private static RecommendRequest request(String scoringPolicy) {
+        RecommendRequest request = new RecommendRequest();
+        request.setWeightKg(4.0);
+        request.setAgeMonths(36);
+        request.setGender("MALE");
+        request.setNeutered(true);
+        request.setMonthlyBudget(80_000);
+        request.setScoringPolicy(scoringPolicy);
+        return request;
+    }
+
+    /*
+     * 정책 도입 전 CatFoodRecommendService.score / generateReason
+     */
+
+    private static double hardcodedScore(double proteinPercent, int monthlyCost, int monthlyBudget) {
+        double budgetRemainingRatio = (double) (monthlyBudget - monthlyCost) / monthlyBudget * 100.0;
+        return proteinPercent * 0.6 + budgetRemainingRatio * 0.4;
+    }
+
+    private static String hardcodedReason(CatFood food, int monthlyCost, int monthlyBudget, String lifeStageKey) {
+        List<String> reasons = new ArrayList<>();
+        if (food.getProteinPercent() >= 38) {
+            reasons.add("고단백 프리미엄 사료");
+        } else if (food.getProteinPercent() >= 33) {
+            reasons.add("균형 잡힌 단백질 함량");
+        }
+        int budgetUsagePercent = (int) ((long) monthlyCost * 100 / monthlyBudget);
+        if (budgetUsagePercent <= 50) {
+            reasons.add("예산 절약형 (예산의 " + budgetUsagePercent + "% 사용)");
+        } else if (budgetUsagePercent <= 75) {
+            reasons.add("합리적인 가격 (예산의 " + budgetUsagePercent + "% 사용)");
+        }
+        if ("KITTEN".equals(lifeStageKey) && "KITTEN".equals(food.getLifeStage())) reasons.add("성장기 전용 영양 설계");
+        if ("SENIOR".equals(lifeStageKey) && "SENIOR".equals(food.getLifeStage())) reasons.add("노령묘 맞춤 영양 설계");
+        if ("WET".equals(food.getType())) reasons.add("수분 보충에 도움");
+        return reasons.isEmpty() ? "기본 영양 균형 충족" : String.join(", ", reasons);
+    }
+}
@@ -0,0 +1,39 @@
+package com.catfood.service;
+
+import com.catfood.model.CatFood;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 대규모 카탈로그 테스트/벤치마크용 합성 사료 데이터
+ */
+final class SyntheticCatalog {
+
+    private static final String[] TYPES = {"DRY", "WET"};
+    private static final String[] LIFE_STAGES = {"KITTEN", "ADULT", "SENIOR", "ALL"};
+
+    private SyntheticCatalog() {
+    }
+
+    /**
+     * 시드 고정 난수로 사료 목록을 생성합니다. 동점 처리 검증을 위해 일부 값은 이산화합니다.
+     */
+    static List<CatFood> generate(int size, long seed) {
+        Random random = new Random(seed);
+        List<CatFood> foods = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String type = TYPES[random.nextInt(TYPES.length)];
+            boolean dry = "DRY".equals(type);
+            double kcal = dry ? 340 + random.nextInt(110) : 70 + random.nextInt(35);
+            int pricePerKg = (dry ? 30 + random.nextInt(70) : 15 + random.nextInt(40)) * 1000;
+            double protein = dry ? 26 + random.nextInt(18) : 10 + random.nextInt(9);
+            double fat = dry ? 9 + random.nextInt(14) : 1 + random.nextInt(3);
+            foods.add(new CatFood("syn-" + i, "합성 사료 " + i, "Brand" + (i % 97), type,
+                    LIFE_STAGES[random.nextInt(LIFE_STAGES.length)], kcal, pricePerKg, protein, fat,
+                    "synthetic food " + i));
+        }
+        return foods;
+    }
+}
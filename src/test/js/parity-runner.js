@@ -0,0 +1,18 @@
+'use strict';
+
+/**
+ * 클라이언트 추천 엔진 패리티 실행기 (RecommendEngineParityTest 에서 호출)
+ *
+ * 사용법: node parity-runner.js <엔진 경로> <입력 JSON 경로>
+ * 입력: { "snapshot": 카탈로그 스냅샷, "cases": [추천 요청, ...] }
+ * 출력(stdout): 요청 순서대로 추천 결과 JSON 배열
+ */
+const fs = require('fs');
+const path = require('path');
+
+const [enginePath, inputPath] = process.argv.slice(2);
+const engine = require(path.resolve(enginePath));
+const input = JSON.parse(fs.readFileSync(inputPath, 'utf8'));
+
+const results = input.cases.map(request => engine.recommend(input.snapshot, request));
+process.stdout.write(JSON.stringify(results));